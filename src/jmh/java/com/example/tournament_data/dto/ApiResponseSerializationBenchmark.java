@@ -0,0 +1,83 @@
+package com.example.tournament_data.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournament_data.model.Stats;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JSON serialization of ApiResponse envelopes as written by the controllers, for a single entity and a full list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final int MATCHES = 100;
+
+    private JsonMapper jsonMapper;
+
+    private ApiResponse<PlayerResponse> playerResponse;
+    private ApiResponse<List<MatchResponse>> matchesResponse;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        playerResponse = ApiResponse.success("Player retrieved successfully", PlayerResponse.builder()
+                .id(1L)
+                .name("Virat Kohli")
+                .teamName("Royal Challengers Bangalore")
+                .role("Batsman")
+                .battingStyle("Right-Handed")
+                .bowlingStyle("Right-Arm Medium")
+                .stats(Stats.builder().matchesPlayed(10).runsScored(350).wicketsTaken(2).catchesTaken(4).build())
+                .build());
+
+        List<MatchResponse> matches = new ArrayList<>(MATCHES);
+        for (int m = 1; m <= MATCHES; m++) {
+            matches.add(MatchResponse.builder()
+                    .id((long) m)
+                    .venue("Wankhede Stadium, Mumbai")
+                    .date(LocalDateTime.of(2024, 4, 1, 19, 30).plusDays(m))
+                    .firstTeamName("Mumbai Indians")
+                    .secondTeamName("Chennai Super Kings")
+                    .status("COMPLETED")
+                    .result(ResultResponse.builder()
+                            .winner("Mumbai Indians")
+                            .margin("13 runs")
+                            .manOfTheMatch("Rohit Sharma")
+                            .build())
+                    .build());
+        }
+        matchesResponse = ApiResponse.success("Matches retrieved successfully", matches);
+    }
+
+    @Benchmark
+    public byte[] singlePlayer() {
+        return jsonMapper.writeValueAsBytes(playerResponse);
+    }
+
+    @Benchmark
+    public byte[] matchList() {
+        return jsonMapper.writeValueAsBytes(matchesResponse);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.tournament_data.dto;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Stats;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Bean validation of players, dominated by the @Pattern constraints on role and styles.
+ * The invalid variants fail every pattern, so they also pay for building the violation messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private Player validPlayer;
+    private Player invalidPlayer;
+    private PlayerCreateRequest validRequest;
+    private PlayerCreateRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validPlayer = player("All-Rounder", "Right-Handed", "Right-Arm Medium");
+        invalidPlayer = player("Captain", "Both", "Leg Spin");
+        validRequest = createRequest("All-Rounder", "Right-Handed", "Right-Arm Medium");
+        invalidRequest = createRequest("Captain", "Both", "Leg Spin");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Player>> validPlayer() {
+        return validator.validate(validPlayer);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Player>> invalidPlayer() {
+        return validator.validate(invalidPlayer);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PlayerCreateRequest>> validCreateRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PlayerCreateRequest>> invalidCreateRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    private static Player player(String role, String battingStyle, String bowlingStyle) {
+        return Player.builder()
+                .id(1L)
+                .teamId(1L)
+                .name("Virat Kohli")
+                .role(role)
+                .battingStyle(battingStyle)
+                .bowlingStyle(bowlingStyle)
+                .stats(stats())
+                .build();
+    }
+
+    private static PlayerCreateRequest createRequest(String role, String battingStyle, String bowlingStyle) {
+        return PlayerCreateRequest.builder()
+                .name("Virat Kohli")
+                .teamName("Royal Challengers Bangalore")
+                .role(role)
+                .battingStyle(battingStyle)
+                .bowlingStyle(bowlingStyle)
+                .stats(stats())
+                .build();
+    }
+
+    private static Stats stats() {
+        return Stats.builder().matchesPlayed(10).runsScored(350).wicketsTaken(12).catchesTaken(4).build();
+    }
+}
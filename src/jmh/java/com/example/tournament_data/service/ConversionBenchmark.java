@@ -0,0 +1,168 @@
+package com.example.tournament_data.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.tournament_data.dto.MatchResponse;
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.dto.ResultCreateRequest;
+import com.example.tournament_data.dto.TeamResponse;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Stats;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.MatchRepository;
+import com.example.tournament_data.repository.PlayerRepository;
+import com.example.tournament_data.repository.TeamRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Entity to DTO conversion of the three CRUD services and result building of matches.
+ * Lookups hit in-memory repositories, so a change in a score is a change in the conversion path itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private static final int TEAMS = 10;
+    private static final int PLAYERS_PER_TEAM = 20;
+    private static final int MATCHES = 100;
+
+    private List<Team> teams;
+    private List<Player> players;
+    private List<Match> matches;
+
+    private PlayerService playerService;
+    private TeamService teamService;
+    private MatchService matchService;
+
+    private Map<Long, String> teamNames;
+    private Map<Long, String> playerNames;
+    private ResultCreateRequest resultRequest;
+    private Optional<Player> manOfTheMatch;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        teams = new ArrayList<>();
+        players = new ArrayList<>();
+        for (long t = 1; t <= TEAMS; t++) {
+            List<Long> playerIds = new ArrayList<>();
+            for (int p = 1; p <= PLAYERS_PER_TEAM; p++) {
+                long playerId = (t - 1) * PLAYERS_PER_TEAM + p;
+                playerIds.add(playerId);
+                players.add(Player.builder()
+                        .id(playerId)
+                        .teamId(t)
+                        .name("Player " + playerId)
+                        .role("Batsman")
+                        .battingStyle("Right-Handed")
+                        .bowlingStyle("None")
+                        .stats(Stats.builder().matchesPlayed(10).runsScored(350).wicketsTaken(0).catchesTaken(4).build())
+                        .build());
+            }
+            teams.add(Team.builder()
+                    .id(t)
+                    .teamName("Team " + t)
+                    .homeGround("Ground " + t)
+                    .coach("Coach " + t)
+                    .captainId(playerIds.get(0))
+                    .playerIds(playerIds)
+                    .build());
+        }
+
+        matches = new ArrayList<>();
+        for (long m = 1; m <= MATCHES; m++) {
+            long first = (m % TEAMS) + 1;
+            long second = ((m + 1) % TEAMS) + 1;
+            matches.add(Match.builder()
+                    .id(m)
+                    .venue("Ground " + first)
+                    .date(LocalDateTime.of(2024, 4, 1, 19, 30).plusDays(m))
+                    .firstTeam(first)
+                    .secondTeam(second)
+                    .status("COMPLETED")
+                    .result(Result.builder()
+                            .winner(first)
+                            .margin("13 runs")
+                            .manOfTheMatchId((first - 1) * PLAYERS_PER_TEAM + 1)
+                            .build())
+                    .build());
+        }
+
+        TeamRepository teamRepository = InMemoryRepositories.teams(teams);
+        PlayerRepository playerRepository = InMemoryRepositories.players(players);
+        MatchRepository matchRepository = InMemoryRepositories.matches(matches);
+
+        playerService = new PlayerService(playerRepository, teamRepository, null, null, null);
+        teamService = new TeamService(teamRepository, playerRepository, null, null,
+                new SingleFlight(new SimpleMeterRegistry()));
+        matchService = new MatchService(matchRepository, teamRepository, playerRepository, null, null, event -> {
+        }, new ParallelLookups(Runnable::run), new SingleFlight(new SimpleMeterRegistry()));
+
+        teamNames = new HashMap<>();
+        teams.forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+        playerNames = new HashMap<>();
+        players.forEach(player -> playerNames.put(player.getId(), player.getName()));
+
+        resultRequest = ResultCreateRequest.builder()
+                .winner("team 2")
+                .margin("5 wickets")
+                .manOfTheMatchName("Player 21")
+                .build();
+        manOfTheMatch = Optional.of(players.get(PLAYERS_PER_TEAM));
+    }
+
+    @Benchmark
+    public PlayerResponse playerConvertToResponse() {
+        return playerService.convertToResponse(players.get(nextIndex(players.size())));
+    }
+
+    @Benchmark
+    public TeamResponse teamConvertToResponse() {
+        return teamService.convertToResponse(teams.get(nextIndex(teams.size())));
+    }
+
+    @Benchmark
+    public MatchResponse matchConvertToResponse() {
+        return matchService.convertToResponse(matches.get(nextIndex(matches.size())));
+    }
+
+    @Benchmark
+    public MatchResponse matchConvertToResponseResolved() {
+        return matchService.convertToResponse(matches.get(nextIndex(matches.size())), teamNames, playerNames);
+    }
+
+    @Benchmark
+    public Result matchBuildResult() {
+        return matchService.buildResult(resultRequest, teams.get(0), teams.get(1), manOfTheMatch);
+    }
+
+    private int nextIndex(int size) {
+        next = next + 1 < size ? next + 1 : 0;
+        return next;
+    }
+}
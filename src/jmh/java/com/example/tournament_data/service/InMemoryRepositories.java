@@ -0,0 +1,92 @@
+package com.example.tournament_data.service;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.MatchRepository;
+import com.example.tournament_data.repository.PlayerRepository;
+import com.example.tournament_data.repository.TeamRepository;
+
+/**
+ * Map backed repositories for the benchmarks, so the measured time is the conversion and not a database.
+ * Only the lookups used by the conversion paths are implemented, any other call fails loudly.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static TeamRepository teams(List<Team> teams) {
+        Map<Long, Team> byId = index(teams, Team::getId);
+        return repository(TeamRepository.class, byId, (method, args) -> switch (method) {
+            case "findByTeamNameIgnoreCase" -> byId.values().stream()
+                    .filter(team -> team.getTeamName().equalsIgnoreCase((String) args[0]))
+                    .findFirst();
+            default -> unsupported(method);
+        });
+    }
+
+    static PlayerRepository players(List<Player> players) {
+        Map<Long, Player> byId = index(players, Player::getId);
+        return repository(PlayerRepository.class, byId, (method, args) -> switch (method) {
+            case "findByIdIn" -> findAllById(byId, (Collection<?>) args[0]);
+            case "findByNameIgnoreCase" -> byId.values().stream()
+                    .filter(player -> player.getName().equalsIgnoreCase((String) args[0]))
+                    .findFirst();
+            default -> unsupported(method);
+        });
+    }
+
+    static MatchRepository matches(List<Match> matches) {
+        return repository(MatchRepository.class, index(matches, Match::getId), (method, args) -> unsupported(method));
+    }
+
+    private interface Finder {
+        Object find(String method, Object[] args);
+    }
+
+    private static <R> R repository(Class<R> type, Map<Long, ?> byId, Finder finder) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(byId.get(args[0]));
+            case "findAllById" -> findAllById(byId, (Iterable<?>) args[0]);
+            case "findAll" -> new ArrayList<>(byId.values());
+            case "count" -> (long) byId.size();
+            case "toString" -> "InMemory" + type.getSimpleName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> finder.find(method.getName(), args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static <T> List<T> findAllById(Map<Long, T> byId, Iterable<?> ids) {
+        List<T> found = new ArrayList<>();
+        for (Object id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+
+    private static <T> Map<Long, T> index(List<T> entities, Function<T, Long> id) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        entities.forEach(entity -> byId.put(id.apply(entity), entity));
+        return byId;
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException(method + " is not available in the benchmark repositories");
+    }
+}
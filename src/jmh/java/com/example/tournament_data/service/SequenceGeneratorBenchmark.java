@@ -0,0 +1,137 @@
+package com.example.tournament_data.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Id allocation under contention: every creator thread asks for the next id of the same sequence.
+ * blockSize 1 is the current findAndModify per id (generateSequence), larger blocks reserve that many ids per
+ * round trip (reserveBlock) and hand them out from memory. Throughput and sampled latency percentiles are
+ * reported for 1, 8, 64 and 512 concurrent creators.
+ * Runs against -Dbenchmark.mongo.uri when set (the fork inherits it through -jvmArgsAppend), otherwise starts a
+ * Mongo container per trial, which needs Docker:
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SequenceGeneratorBenchmark -jvmArgsAppend -Dbenchmark.mongo.uri=mongodb://localhost:27017"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SequenceGeneratorBenchmark {
+
+    private static final String SEQUENCE = "benchmark_sequence";
+
+    // same as tournament.mongo.pool.max-size, beyond that creators queue for a connection as in the application
+    private static final int POOL_SIZE = 100;
+
+    @Param({ "1", "10", "100", "1000" })
+    private int blockSize;
+
+    private MongoDBContainer container;
+    private MongoClient mongoClient;
+    private SequenceGeneratorService sequenceGeneratorService;
+    private BlockAllocator allocator;
+
+    @Setup
+    public void setUp() {
+        String uri = System.getProperty("benchmark.mongo.uri");
+        if (uri == null) {
+            container = new MongoDBContainer("mongo:7.0");
+            container.start();
+            uri = container.getConnectionString();
+        }
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToConnectionPoolSettings(pool -> pool.maxSize(POOL_SIZE))
+                .build());
+
+        sequenceGeneratorService = new SequenceGeneratorService(new MongoTemplate(mongoClient, "sequence_benchmark"));
+        sequenceGeneratorService.resetSequence(SEQUENCE, 0);
+        allocator = new BlockAllocator(sequenceGeneratorService, SEQUENCE, blockSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoClient.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int creators1() {
+        return nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int creators8() {
+        return nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int creators64() {
+        return nextId();
+    }
+
+    @Benchmark
+    @Threads(512)
+    public int creators512() {
+        return nextId();
+    }
+
+    private int nextId() {
+        return blockSize == 1 ? sequenceGeneratorService.generateSequence(SEQUENCE) : allocator.next();
+    }
+
+    /**
+     * Hands out the ids of one reserved block, the creator that finds it used up reserves the next one
+     * while the others wait
+     */
+    static final class BlockAllocator {
+
+        private final SequenceGeneratorService sequences;
+        private final String name;
+        private final int blockSize;
+
+        private int next;
+        private int end;
+
+        BlockAllocator(SequenceGeneratorService sequences, String name, int blockSize) {
+            this.sequences = sequences;
+            this.name = name;
+            this.blockSize = blockSize;
+        }
+
+        synchronized int next() {
+            if (next == end) {
+                next = sequences.reserveBlock(name, blockSize);
+                end = next + blockSize;
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.tournament_data.bulkhead;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs every API handler inside the bulkhead of its endpoint class and sheds it with a 503 when saturated
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String ACQUIRED_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".acquired";
+
+    private final BulkheadProperties properties;
+    private final BulkheadRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        // async re-dispatch of a request that already holds its slot
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        BulkheadType type = typeOf(handlerMethod, request.getMethod());
+        registry.acquire(type); // ServiceOverloadedException -> 503 via GlobalExceptionHandler
+        request.setAttribute(ACQUIRED_ATTRIBUTE, type);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object type = request.getAttribute(ACQUIRED_ATTRIBUTE);
+        if (type != null) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            registry.release((BulkheadType) type);
+        }
+    }
+
+    static BulkheadType typeOf(HandlerMethod handlerMethod, String httpMethod) {
+        Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead != null) {
+            return bulkhead.value();
+        }
+        return HttpMethod.GET.matches(httpMethod) || HttpMethod.HEAD.matches(httpMethod)
+                ? BulkheadType.POINT_READ
+                : BulkheadType.WRITE;
+    }
+}
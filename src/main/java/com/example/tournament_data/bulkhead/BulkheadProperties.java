@@ -0,0 +1,44 @@
+package com.example.tournament_data.bulkhead;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    // sized so aggregations alone cannot take the whole Mongo pool (tournament.mongo.pool.max-size)
+    private Map<BulkheadType, Limit> limits = new EnumMap<>(Map.of(
+            BulkheadType.AGGREGATION, new Limit(16, 32, Duration.ofMillis(200)),
+            BulkheadType.POINT_READ, new Limit(64, 256, Duration.ofMillis(500)),
+            BulkheadType.WRITE, new Limit(16, 64, Duration.ofSeconds(1))));
+
+    @Data
+    public static class Limit {
+
+        // requests running at once
+        private int maxConcurrent;
+
+        // requests allowed to wait for a slot, anything beyond is rejected right away
+        private int maxQueued;
+
+        // longest a queued request waits before it is rejected
+        private Duration maxWait;
+
+        public Limit() {
+        }
+
+        public Limit(int maxConcurrent, int maxQueued, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxWait = maxWait;
+        }
+    }
+}
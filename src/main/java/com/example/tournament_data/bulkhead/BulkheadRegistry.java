@@ -0,0 +1,114 @@
+package com.example.tournament_data.bulkhead;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One bounded compartment per bulkhead type: a fixed number of slots plus a bounded queue of waiters
+ */
+@Component
+public class BulkheadRegistry {
+
+    static final String METRIC_ACTIVE = "tournament.bulkhead.active";
+    static final String METRIC_QUEUED = "tournament.bulkhead.queued";
+    static final String METRIC_REJECTED = "tournament.bulkhead.rejected";
+
+    private final Map<BulkheadType, Compartment> compartments = new EnumMap<>(BulkheadType.class);
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (BulkheadType type : BulkheadType.values()) {
+            BulkheadProperties.Limit limit = properties.getLimits().get(type);
+            if (limit == null) {
+                throw new IllegalStateException("Missing tournament.bulkhead.limits." + type);
+            }
+            Compartment compartment = new Compartment(limit);
+            compartments.put(type, compartment);
+
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            Gauge.builder(METRIC_ACTIVE, compartment, Compartment::active)
+                    .description("Requests running in the bulkhead")
+                    .tag("type", tag)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_QUEUED, compartment, Compartment::queued)
+                    .description("Requests waiting for a slot in the bulkhead")
+                    .tag("type", tag)
+                    .register(meterRegistry);
+            compartment.rejected = Counter.builder(METRIC_REJECTED)
+                    .description("Requests rejected with 503 because the bulkhead was saturated")
+                    .tag("type", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Take a slot, waiting in the queue if there is room in it
+     *
+     * @throws ServiceOverloadedException when the queue is full or the wait timed out
+     */
+    public void acquire(BulkheadType type) {
+        Compartment compartment = compartments.get(type);
+        if (!compartment.tryAcquire()) {
+            compartment.rejected.increment();
+            throw new ServiceOverloadedException(type.name().toLowerCase(Locale.ROOT),
+                    Math.max(1, compartment.limit.getMaxWait().toSeconds()));
+        }
+    }
+
+    /**
+     * Give back a slot taken with acquire
+     */
+    public void release(BulkheadType type) {
+        compartments.get(type).slots.release();
+    }
+
+    private static final class Compartment {
+
+        private final BulkheadProperties.Limit limit;
+        private final Semaphore slots;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private Counter rejected;
+
+        private Compartment(BulkheadProperties.Limit limit) {
+            this.limit = limit;
+            this.slots = new Semaphore(limit.getMaxConcurrent(), true);
+        }
+
+        private boolean tryAcquire() {
+            if (slots.tryAcquire()) {
+                return true;
+            }
+            if (waiting.incrementAndGet() > limit.getMaxQueued()) {
+                waiting.decrementAndGet();
+                return false;
+            }
+            try {
+                return slots.tryAcquire(limit.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private double active() {
+            return (double) limit.getMaxConcurrent() - slots.availablePermits();
+        }
+
+        private double queued() {
+            return waiting.get();
+        }
+    }
+}
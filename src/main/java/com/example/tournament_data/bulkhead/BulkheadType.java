@@ -0,0 +1,16 @@
+package com.example.tournament_data.bulkhead;
+
+/**
+ * Endpoint classes that get their own concurrency limit, so a spike in one cannot starve the others
+ */
+public enum BulkheadType {
+
+    // aggregation pipelines ($lookup, $group, $merge), few but expensive
+    AGGREGATION,
+
+    // single document and list reads, the default for GET
+    POINT_READ,
+
+    // creates, updates and deletes, the default for every other method
+    WRITE
+}
@@ -0,0 +1,145 @@
+package com.example.tournament_data.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves hot GET endpoints straight from pre-serialized bytes and evicts them on writes.
+ * Hits skip the DispatcherServlet entirely, so no DTOs are built and Jackson does not run.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    static final String CACHE_HEADER = "X-Response-Cache";
+    private static final String API_PREFIX = "/api/v1/";
+    private static final String MATCHES_PREFIX = "/api/v1/matches";
+
+    private final ResponseCacheProperties properties;
+    private final SerializedResponseCache cache;
+    private final List<PathPattern> cacheablePatterns;
+
+    public ResponseCacheFilter(ResponseCacheProperties properties, SerializedResponseCache cache) {
+        this.properties = properties;
+        this.cache = cache;
+        this.cacheablePatterns = properties.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            if (isCacheable(request.getRequestURI())) {
+                serveCached(request, response, filterChain);
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+
+        // write went through, drop every response it could have changed
+        if (response.getStatus() < HttpStatus.BAD_REQUEST.value()) {
+            evictFor(request.getRequestURI());
+        }
+    }
+
+    private void serveCached(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = cacheKey(request);
+        SerializedResponseCache.CachedResponse cached = cache.get(key);
+
+        if (cached != null) {
+            writeCached(request, response, cached);
+            return;
+        }
+
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() == HttpStatus.OK.value() && isJson(wrapper.getContentType())) {
+            cache.put(key, wrapper.getContentType(), wrapper.getContentAsByteArray(), generation);
+        }
+
+        wrapper.copyBodyToResponse();
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+            SerializedResponseCache.CachedResponse cached) throws IOException {
+
+        byte[] body = cached.body();
+        if (cached.gzippedBody() != null && acceptsGzip(request)) {
+            body = cached.gzippedBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    private void evictFor(String uri) {
+        // match names only appear in match responses, team and player writes can change any response
+        if (uri.startsWith(MATCHES_PREFIX)) {
+            cache.evictPrefix(MATCHES_PREFIX);
+        } else {
+            cache.evictAll();
+        }
+        logger.debug("Response cache evicted after write to {}", uri);
+    }
+
+    private boolean isCacheable(String uri) {
+        PathContainer path = PathContainer.parsePath(uri);
+        return cacheablePatterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tournament_data.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.response-cache")
+public class ResponseCacheProperties {
+
+    // opt-in, the entity data is served uncached unless switched on
+    private boolean enabled = false;
+
+    // keep a gzip copy next to the plain bytes for clients sending Accept-Encoding: gzip
+    private boolean gzip = true;
+
+    private int maxEntries = 1000;
+
+    // safety net for writes that bypass the API (e.g. manual edits in the database)
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    // GET endpoints whose serialized ApiResponse is cached
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/teams",
+            "/api/v1/teams/{id}/details",
+            "/api/v1/matches/{id}"));
+}
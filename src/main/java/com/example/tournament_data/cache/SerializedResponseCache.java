@@ -0,0 +1,127 @@
+package com.example.tournament_data.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the final serialized bytes of hot GET responses, keyed by request path
+ */
+@Component
+public class SerializedResponseCache {
+
+    private final ResponseCacheProperties properties;
+    private final LongSupplier clock;
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    // bumped on every eviction, a response rendered across a write is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public record CachedResponse(String contentType, byte[] body, byte[] gzippedBody, long expiresAt) {
+    }
+
+    @Autowired
+    public SerializedResponseCache(ResponseCacheProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    SerializedResponseCache(ResponseCacheProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Get cached response for key, null if missing or expired
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < clock.getAsLong()) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Current generation, to be captured before rendering a response
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Store response bytes if nothing was evicted since the given generation, making room when full
+     */
+    public void put(String key, String contentType, byte[] body, long expectedGeneration) {
+        if (entries.size() >= properties.getMaxEntries() && !entries.containsKey(key)) {
+            makeRoom();
+        }
+
+        byte[] gzippedBody = properties.isGzip() ? gzip(body) : null;
+        long expiresAt = clock.getAsLong() + properties.getTimeToLive().toMillis();
+        CachedResponse cached = new CachedResponse(contentType, body, gzippedBody, expiresAt);
+
+        if (generation.get() == expectedGeneration) {
+            entries.put(key, cached);
+            // an eviction may have slipped in between the check and the put
+            if (generation.get() != expectedGeneration) {
+                entries.remove(key, cached);
+            }
+        }
+    }
+
+    /**
+     * Evict all entries whose key starts with the given path prefix
+     */
+    public void evictPrefix(String prefix) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Evict everything
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // drop expired entries, falling back to the oldest one when nothing has expired
+    private void makeRoom() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(cached -> cached.expiresAt() < now);
+        if (entries.size() < properties.getMaxEntries()) {
+            return;
+        }
+        entries.entrySet().stream()
+                .min(Map.Entry.comparingByValue(Comparator.comparingLong(CachedResponse::expiresAt)))
+                .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.tournament_data.config;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AccumulatorOperators;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.model.Match;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * Fills derived fields on documents written before those fields existed.
+ * New writes get them from MatchDerivedFieldsCallback, this only catches up old data.
+ */
+@Component
+public class DerivedFieldsBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(DerivedFieldsBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final boolean enabled;
+
+    public DerivedFieldsBackfill(MongoTemplate mongoTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${tournament.mongo.backfill-derived-fields:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            taskExecutor.execute(this::backfill);
+        }
+    }
+
+    public void backfill() {
+        try {
+            backfillTeamPairs();
+            backfillVenueKeys();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not backfill derived match fields: {}", ex.getMessage());
+        }
+    }
+
+    private void backfillTeamPairs() {
+        // server side pipeline update, no documents travel to the app
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("teamPairLow").toValueOf(AccumulatorOperators.Min.minOf("firstTeam").and("secondTeam"))
+                .set("teamPairHigh").toValueOf(AccumulatorOperators.Max.maxOf("firstTeam").and("secondTeam"));
+
+        UpdateResult result = mongoTemplate.updateMulti(
+                Query.query(Criteria.where("teamPairLow").exists(false)), update, Match.class);
+
+        if (result.getModifiedCount() > 0) {
+            logger.info("Backfilled team pair on {} matches", result.getModifiedCount());
+        }
+    }
+
+    private void backfillVenueKeys() {
+        // normalization is done in Java (same function as on writes), so stream and update in batches
+        Query query = Query.query(Criteria.where("venueKey").exists(false));
+        query.fields().include("venue");
+
+        int updated = 0;
+        BulkOperations bulkOps = null;
+        int pending = 0;
+
+        try (Stream<Match> matches = mongoTemplate.stream(query, Match.class)) {
+            for (Match match : (Iterable<Match>) matches::iterator) {
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Match.class);
+                }
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id").is(match.getId())),
+                        Update.update("venueKey", Match.normalizeVenue(match.getVenue())));
+
+                if (++pending == BATCH_SIZE) {
+                    updated += bulkOps.execute().getModifiedCount();
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (bulkOps != null) {
+            updated += bulkOps.execute().getModifiedCount();
+        }
+
+        if (updated > 0) {
+            logger.info("Backfilled venue key on {} matches", updated);
+        }
+    }
+}
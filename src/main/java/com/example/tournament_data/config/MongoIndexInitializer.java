@@ -0,0 +1,97 @@
+package com.example.tournament_data.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.model.Player;
+
+/**
+ * Creates the indexes declared with @Indexed / @CompoundIndex on the documents.
+ * Runs in the background once the app is up, so startup never blocks on the database
+ * and a missing database only results in a warning.
+ */
+@Component
+public class MongoIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    // indexes superseded by a compound index, dropped so writes stop maintaining them
+    private static final Map<Class<?>, List<String>> RETIRED_INDEXES = Map.of(
+            Player.class, List.of("stats_runsScored_desc", "stats_wicketsTaken_desc", "stats_catchesTaken_desc"));
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final TaskExecutor taskExecutor;
+    private final boolean enabled;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate,
+            MongoMappingContext mappingContext,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${tournament.mongo.create-indexes:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.taskExecutor = taskExecutor;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            taskExecutor.execute(this::createIndexes);
+        }
+    }
+
+    /**
+     * Create all declared indexes and drop retired ones, createIndex is a no-op for indexes that already exist
+     */
+    public void createIndexes() {
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+
+            IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+            try {
+                for (IndexDefinition index : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                    String name = indexOps.createIndex(index);
+                    logger.debug("Ensured index {} on {}", name, entity.getCollection());
+                }
+                dropRetiredIndexes(entity, indexOps);
+            } catch (RuntimeException ex) {
+                logger.warn("Could not create indexes for collection {}: {}", entity.getCollection(), ex.getMessage());
+            }
+        }
+    }
+
+    private void dropRetiredIndexes(MongoPersistentEntity<?> entity, IndexOperations indexOps) {
+        List<String> retired = RETIRED_INDEXES.getOrDefault(entity.getType(), List.of());
+        if (retired.isEmpty()) {
+            return;
+        }
+        for (IndexInfo index : indexOps.getIndexInfo()) {
+            if (retired.contains(index.getName())) {
+                indexOps.dropIndex(index.getName());
+                logger.info("Dropped retired index {} on {}", index.getName(), entity.getCollection());
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.tournament_data.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Connection pool sizing of the Mongo client.
+ * Driver defaults assume a bounded number of request threads; once requests run on virtual threads every
+ * in-flight request can ask for a connection, so the pool size and wait time are what cap the load on Mongo.
+ */
+@Configuration
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(MongoPoolProperties pool) {
+        return settings -> settings.applyToConnectionPoolSettings(builder -> builder
+                .maxSize(pool.getMaxSize())
+                .minSize(pool.getMinSize())
+                .maxConnecting(pool.getMaxConnecting())
+                .maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
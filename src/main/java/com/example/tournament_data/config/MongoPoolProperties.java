@@ -0,0 +1,26 @@
+package com.example.tournament_data.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.mongo.pool")
+public class MongoPoolProperties {
+
+    // upper bound of concurrent Mongo operations, with virtual threads this (not Tomcat) is the concurrency limit
+    private int maxSize = 100;
+
+    // connections kept open so a burst after idle does not pay for the handshakes
+    private int minSize = 10;
+
+    // connections being established at the same time
+    private int maxConnecting = 4;
+
+    // a request waiting longer than this for a connection fails instead of queueing without bound
+    private Duration maxWaitTime = Duration.ofSeconds(5);
+
+    private Duration maxConnectionIdleTime = Duration.ofMinutes(1);
+}
@@ -0,0 +1,49 @@
+package com.example.tournament_data.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.tournament_data.bulkhead.BulkheadInterceptor;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    // not a bean: any Executor bean would make Boot back off from creating the applicationTaskExecutor
+    private final SimpleAsyncTaskExecutor asyncWriteExecutor;
+
+    public WebMvcConfig(BulkheadInterceptor bulkheadInterceptor) {
+        this.bulkheadInterceptor = bulkheadInterceptor;
+        this.asyncWriteExecutor = new SimpleAsyncTaskExecutor("mvc-async-");
+        this.asyncWriteExecutor.setVirtualThreads(true);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // streaming reads run on the reactive driver and do not hold blocking pool connections
+        registry.addInterceptor(bulkheadInterceptor)
+                .addPathPatterns("/api/v1/**")
+                .excludePathPatterns("/api/v1/stream/**");
+    }
+
+    /**
+     * Flux responses (/api/v1/stream/**) are written element by element on the MVC async executor, and a write to a
+     * client that stopped reading blocks its thread. Boot would use the small shared applicationTaskExecutor, where a
+     * few slow clients stall every other stream and @Async task; here each write gets its own virtual thread instead.
+     * How long a stalled client can hold one is bounded by spring.mvc.async.request-timeout.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncWriteExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        asyncWriteExecutor.close();
+    }
+}
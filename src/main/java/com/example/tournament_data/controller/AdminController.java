@@ -0,0 +1,64 @@
+package com.example.tournament_data.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.SlowQueryResponse;
+import com.example.tournament_data.observability.SlowQueryLog;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@Tag(name = "Admin", description = "Operational APIs for diagnosing the service")
+@RequiredArgsConstructor
+public class AdminController {
+
+        private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+        private final SlowQueryLog slowQueryLog;
+
+        @Operation(summary = "Get recent slow queries", description = "Retrieves the most recent Mongo commands slower than the configured threshold, newest first, with redacted filter shape and explain plan")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Slow queries retrieved successfully", content = @Content(schema = @Schema(implementation = SlowQueryResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid limit")
+        })
+        @GetMapping("/slow-queries")
+        public ResponseEntity<ApiResponse<List<SlowQueryResponse>>> getSlowQueries(
+                        @Parameter(description = "Maximum number of entries", example = "50") @RequestParam(defaultValue = "50") int limit) {
+
+                logger.info("GET /api/v1/admin/slow-queries - Fetching up to {} slow queries", limit);
+
+                List<SlowQueryResponse> slowQueries = slowQueryLog.getRecent(limit);
+
+                ApiResponse<List<SlowQueryResponse>> response = ApiResponse.success(
+                                "Slow queries retrieved successfully", slowQueries);
+                return ResponseEntity.ok(response);
+        }
+
+        @Operation(summary = "Clear slow queries", description = "Forgets all recorded slow queries, e.g. after deploying an index")
+        @DeleteMapping("/slow-queries")
+        public ResponseEntity<ApiResponse<Void>> clearSlowQueries() {
+
+                logger.info("DELETE /api/v1/admin/slow-queries - Clearing slow queries");
+
+                slowQueryLog.clear();
+
+                return ResponseEntity.ok(ApiResponse.success("Slow queries cleared successfully"));
+        }
+}
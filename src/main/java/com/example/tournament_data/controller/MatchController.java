@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.MatchBulkCreateRequest;
 import com.example.tournament_data.dto.MatchCreateRequest;
 import com.example.tournament_data.dto.MatchPatchRequest;
 import com.example.tournament_data.dto.MatchResponse;
@@ -69,7 +70,7 @@ public class MatchController {
         })
         @GetMapping("/{id}")
         public ResponseEntity<ApiResponse<MatchResponse>> getMatchById(
-                        @Parameter(description = "Match ID", required = true, example = "1") @PathVariable Integer id) {
+                        @Parameter(description = "Match ID", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("GET /api/v1/matches/{} - Fetching match by ID", id);
 
@@ -129,6 +130,26 @@ public class MatchController {
                 return new ResponseEntity<>(response, HttpStatus.CREATED);
         }
 
+        @Operation(summary = "Create matches in bulk", description = "Creates matches with ids taken from a reservation of the matches sequence. Ids that already exist are returned as they are, so a failed batch can be sent again")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Matches created successfully", content = @Content(schema = @Schema(implementation = MatchResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Validation failed or an id is outside the reservation"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Reservation, team or player not found")
+        })
+        @PostMapping("/bulk")
+        public ResponseEntity<ApiResponse<List<MatchResponse>>> bulkCreateMatches(
+                        @Valid @RequestBody MatchBulkCreateRequest request) {
+
+                logger.info("POST /api/v1/matches/bulk - Creating {} matches with reservation {}",
+                                request.getMatches().size(), request.getReservationId());
+
+                List<MatchResponse> matches = matchService.bulkCreate(request);
+
+                ApiResponse<List<MatchResponse>> response = ApiResponse.success(
+                                "Matches created successfully", matches);
+                return new ResponseEntity<>(response, HttpStatus.CREATED);
+        }
+
         @Operation(summary = "Update a match (Full Update)", description = "Updates all fields of an existing match")
         @ApiResponses(value = {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Match updated successfully", content = @Content(schema = @Schema(implementation = MatchResponse.class))),
@@ -137,7 +158,7 @@ public class MatchController {
         })
         @PutMapping("/{id}")
         public ResponseEntity<ApiResponse<MatchResponse>> updateMatch(
-                        @Parameter(description = "Match ID to update", required = true, example = "1") @PathVariable Integer id,
+                        @Parameter(description = "Match ID to update", required = true, example = "1") @PathVariable Long id,
                         @Valid @RequestBody MatchCreateRequest request) {
 
                 logger.info("PUT /api/v1/matches/{} - Full update request", id);
@@ -176,7 +197,7 @@ public class MatchController {
         }))
         @PatchMapping("/{id}")
         public ResponseEntity<ApiResponse<MatchResponse>> patchMatch(
-                        @Parameter(description = "Match ID to update", required = true, example = "1") @PathVariable Integer id,
+                        @Parameter(description = "Match ID to update", required = true, example = "1") @PathVariable Long id,
                         @Valid @RequestBody MatchPatchRequest request) {
 
                 logger.info("PATCH /api/v1/matches/{} - Partial update request", id);
@@ -197,7 +218,7 @@ public class MatchController {
         })
         @DeleteMapping("/{id}")
         public ResponseEntity<ApiResponse<MatchResponse>> deleteMatch(
-                        @Parameter(description = "Match ID to delete", required = true, example = "1") @PathVariable Integer id) {
+                        @Parameter(description = "Match ID to delete", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("DELETE /api/v1/matches/{} - Deleting match", id);
 
@@ -8,10 +8,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.tournament_data.bulkhead.Bulkhead;
+import com.example.tournament_data.bulkhead.BulkheadType;
 import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.LeaderboardEntry;
+import com.example.tournament_data.dto.PlayerAwardsResponse;
+import com.example.tournament_data.dto.PlayerBulkCreateRequest;
 import com.example.tournament_data.dto.PlayerCreateRequest;
 import com.example.tournament_data.dto.PlayerPatchRequest;
 import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.service.AwardsService;
+import com.example.tournament_data.service.LeaderboardService;
 import com.example.tournament_data.service.PlayerService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,9 +37,14 @@ public class PlayerController {
         private static final Logger logger = LoggerFactory.getLogger(PlayerController.class);
 
         private final PlayerService playerService;
+        private final LeaderboardService leaderboardService;
+        private final AwardsService awardsService;
 
-        public PlayerController(PlayerService playerService) {
+        public PlayerController(PlayerService playerService, LeaderboardService leaderboardService,
+                        AwardsService awardsService) {
                 this.playerService = playerService;
+                this.leaderboardService = leaderboardService;
+                this.awardsService = awardsService;
         }
 
         @PostMapping
@@ -55,16 +67,54 @@ public class PlayerController {
                 return new ResponseEntity<>(response, HttpStatus.CREATED);
         }
 
-        @GetMapping
-        @Operation(summary = "Get all players", description = "Retrieve all players")
+        @PostMapping("/bulk")
+        @Operation(summary = "Create players in bulk", description = "Create players with ids taken from a reservation of the players sequence. Ids that already exist are returned as they are, so a failed batch can be sent again")
         @ApiResponses(value = {
-                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Players retrieved successfully")
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Players created successfully", content = @Content(schema = @Schema(implementation = PlayerResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request or an id is outside the reservation"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Reservation or team not found")
         })
-        public ResponseEntity<ApiResponse<List<PlayerResponse>>> getAllPlayers() {
+        public ResponseEntity<ApiResponse<List<PlayerResponse>>> bulkCreatePlayers(
+                        @Valid @RequestBody PlayerBulkCreateRequest request) {
+
+                logger.info("POST /api/v1/players/bulk - Creating {} players with reservation {}",
+                                request.getPlayers().size(), request.getReservationId());
 
-                logger.info("GET /api/players - Fetching all players");
+                List<PlayerResponse> players = playerService.bulkCreate(request);
 
-                List<PlayerResponse> players = playerService.getAllPlayers();
+                ApiResponse<List<PlayerResponse>> response = ApiResponse.success(
+                                "Players created successfully", players);
+                return new ResponseEntity<>(response, HttpStatus.CREATED);
+        }
+
+        @GetMapping
+        @Operation(summary = "Get all players", description = "Retrieve all players, or one page of the players matching the given filters. Batting/bowling style must be combined with role, teamId or minRuns")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Players retrieved successfully"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid or unindexed filter combination")
+        })
+        public ResponseEntity<ApiResponse<List<PlayerResponse>>> getAllPlayers(
+                        @Parameter(description = "Only include players with this role", example = "Batsman") @RequestParam(required = false) String role,
+                        @Parameter(description = "Only include players with this batting style", example = "Right-handed") @RequestParam(required = false) String battingStyle,
+                        @Parameter(description = "Only include players with this bowling style", example = "Right-arm fast") @RequestParam(required = false) String bowlingStyle,
+                        @Parameter(description = "Only include players of this team", example = "1") @RequestParam(required = false) Long teamId,
+                        @Parameter(description = "Only include players with at least this many runs", example = "1000") @RequestParam(required = false) Integer minRuns,
+                        @Parameter(description = "Zero-based page number", example = "0") @RequestParam(required = false) Integer page,
+                        @Parameter(description = "Page size (1-100)", example = "20") @RequestParam(required = false) Integer size) {
+
+                List<PlayerResponse> players;
+                if (role == null && battingStyle == null && bowlingStyle == null && teamId == null && minRuns == null
+                                && page == null && size == null) {
+                        logger.info("GET /api/players - Fetching all players");
+
+                        players = playerService.getAllPlayers();
+                } else {
+                        logger.info("GET /api/players - Filtering players by role={}, battingStyle={}, bowlingStyle={}, teamId={}, minRuns={}",
+                                        role, battingStyle, bowlingStyle, teamId, minRuns);
+
+                        players = playerService.filterPlayers(role, battingStyle, bowlingStyle, teamId, minRuns,
+                                        page != null ? page : 0, size != null ? size : 20);
+                }
 
                 logger.info("Found {} players", players.size());
 
@@ -73,6 +123,69 @@ public class PlayerController {
                 return ResponseEntity.ok(response);
         }
 
+        @Bulkhead(BulkheadType.AGGREGATION)
+        @GetMapping("/leaderboard")
+        @Operation(summary = "Get stats leaderboard", description = "Retrieve the top players by runs scored, wickets taken or catches taken, optionally filtered by role and team")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully", content = @Content(schema = @Schema(implementation = LeaderboardEntry.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid stat or limit")
+        })
+        public ResponseEntity<ApiResponse<List<LeaderboardEntry>>> getLeaderboard(
+                        @Parameter(description = "Statistic to rank by", required = true, example = "runsScored") @RequestParam String stat,
+                        @Parameter(description = "Number of players to return (1-100)", example = "10") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(description = "Only include players with this role", example = "Batsman") @RequestParam(required = false) String role,
+                        @Parameter(description = "Only include players of this team", example = "1") @RequestParam(required = false) Long teamId) {
+
+                logger.info("GET /api/v1/players/leaderboard - Fetching top {} players by {}", limit, stat);
+
+                List<LeaderboardEntry> leaderboard = leaderboardService.getStatsLeaderboard(stat, limit, role, teamId);
+
+                ApiResponse<List<LeaderboardEntry>> response = ApiResponse.success(
+                                "Leaderboard retrieved successfully", leaderboard);
+                return ResponseEntity.ok(response);
+        }
+
+        @Bulkhead(BulkheadType.AGGREGATION)
+        @GetMapping("/mom-leaderboard")
+        @Operation(summary = "Get man of the match leaderboard", description = "Retrieve players ranked by man of the match awards, one page at a time")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully", content = @Content(schema = @Schema(implementation = LeaderboardEntry.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid page or size")
+        })
+        public ResponseEntity<ApiResponse<List<LeaderboardEntry>>> getManOfTheMatchLeaderboard(
+                        @Parameter(description = "Zero-based page number", example = "0") @RequestParam(defaultValue = "0") int page,
+                        @Parameter(description = "Page size (1-100)", example = "10") @RequestParam(defaultValue = "10") int size) {
+
+                logger.info("GET /api/v1/players/mom-leaderboard - Fetching page {} of size {}", page, size);
+
+                List<LeaderboardEntry> leaderboard = awardsService.getManOfTheMatchLeaderboard(page, size);
+
+                ApiResponse<List<LeaderboardEntry>> response = ApiResponse.success(
+                                "Leaderboard retrieved successfully", leaderboard);
+                return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/{id}/awards")
+        @Operation(summary = "Get player awards", description = "Retrieve the matches in which the player was man of the match, newest first, with opponent resolved")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Awards retrieved successfully", content = @Content(schema = @Schema(implementation = PlayerAwardsResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid page or size"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Player not found")
+        })
+        public ResponseEntity<ApiResponse<PlayerAwardsResponse>> getPlayerAwards(
+                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Long id,
+                        @Parameter(description = "Zero-based page number", example = "0") @RequestParam(defaultValue = "0") int page,
+                        @Parameter(description = "Page size (1-100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+
+                logger.info("GET /api/v1/players/{}/awards - Fetching page {} of size {}", id, page, size);
+
+                PlayerAwardsResponse awards = awardsService.getPlayerAwards(id, page, size);
+
+                ApiResponse<PlayerAwardsResponse> response = ApiResponse.success(
+                                "Awards retrieved successfully", awards);
+                return ResponseEntity.ok(response);
+        }
+
         @GetMapping("/{id}")
         @Operation(summary = "Get player by ID", description = "Retrieve a player by their unique identifier")
         @ApiResponses(value = {
@@ -80,7 +193,7 @@ public class PlayerController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Player not found")
         })
         public ResponseEntity<ApiResponse<PlayerResponse>> getPlayerById(
-                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Integer id) {
+                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("GET /api/players/{} - Fetching player by ID", id);
 
@@ -101,7 +214,7 @@ public class PlayerController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request")
         })
         public ResponseEntity<ApiResponse<PlayerResponse>> updatePlayer(
-                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Integer id,
+                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Long id,
                         @Valid @RequestBody PlayerCreateRequest request) {
 
                 logger.info("PUT /api/players/{} - Updating player", id);
@@ -123,7 +236,7 @@ public class PlayerController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request")
         })
         public ResponseEntity<ApiResponse<PlayerResponse>> patchPlayer(
-                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Integer id,
+                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Long id,
                         @Valid @RequestBody PlayerPatchRequest request) {
 
                 logger.info("PATCH /api/players/{} - Partially updating player", id);
@@ -144,7 +257,7 @@ public class PlayerController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Player not found")
         })
         public ResponseEntity<ApiResponse<PlayerResponse>> deletePlayer(
-                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Integer id) {
+                        @Parameter(description = "Player ID", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("DELETE /api/players/{} - Deleting player", id);
 
@@ -0,0 +1,54 @@
+package com.example.tournament_data.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.SearchSuggestion;
+import com.example.tournament_data.service.SearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@Tag(name = "Search", description = "Name search APIs")
+@RequiredArgsConstructor
+public class SearchController {
+
+        private static final Logger logger = LoggerFactory.getLogger(SearchController.class);
+
+        private final SearchService searchService;
+
+        @Operation(summary = "Search by name", description = "Returns ranked player, team and venue suggestions for a (partial or misspelled) name from an in-memory index")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully", content = @Content(schema = @Schema(implementation = SearchSuggestion.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Missing query, invalid limit or type")
+        })
+        @GetMapping
+        public ResponseEntity<ApiResponse<List<SearchSuggestion>>> search(
+                        @Parameter(description = "Name or part of a name", required = true, example = "viart") @RequestParam String q,
+                        @Parameter(description = "Number of suggestions to return (1-50)", example = "10") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(description = "Only return suggestions of this type", example = "PLAYER") @RequestParam(required = false) String type) {
+
+                logger.info("GET /api/v1/search - Searching for '{}'", q);
+
+                List<SearchSuggestion> suggestions = searchService.search(q, limit, type);
+
+                ApiResponse<List<SearchSuggestion>> response = ApiResponse.success(
+                                "Suggestions retrieved successfully", suggestions);
+                return ResponseEntity.ok(response);
+        }
+}
@@ -0,0 +1,56 @@
+package com.example.tournament_data.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.SequenceReservationResponse;
+import com.example.tournament_data.service.SequenceReservationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/sequences")
+@Tag(name = "Sequence", description = "Id reservation APIs for bulk creates")
+@RequiredArgsConstructor
+public class SequenceController {
+
+        private static final Logger logger = LoggerFactory.getLogger(SequenceController.class);
+
+        private final SequenceReservationService sequenceReservationService;
+
+        @Operation(summary = "Reserve a block of ids", description = "Atomically reserves count consecutive ids of players or matches. The ids are only handed out by this reservation and can be supplied to the bulk create endpoints")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Ids reserved successfully", content = @Content(schema = @Schema(implementation = SequenceReservationResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown sequence or invalid count")
+        })
+        @PostMapping("/{name}/reserve")
+        public ResponseEntity<ApiResponse<SequenceReservationResponse>> reserve(
+                        @Parameter(description = "Entities to reserve ids for", required = true, example = "players") @PathVariable String name,
+                        @Parameter(description = "Number of ids to reserve (1-1000)", required = true, example = "100") @RequestParam int count) {
+
+                logger.info("POST /api/v1/sequences/{}/reserve - Reserving {} ids", name, count);
+
+                SequenceReservationResponse reservation = sequenceReservationService.reserve(name, count);
+
+                logger.info("Reserved ids {}-{} with reservation {}", reservation.getFirstId(), reservation.getLastId(),
+                                reservation.getReservationId());
+
+                ApiResponse<SequenceReservationResponse> response = ApiResponse.success(
+                                "Ids reserved successfully", reservation);
+                return new ResponseEntity<>(response, HttpStatus.CREATED);
+        }
+}
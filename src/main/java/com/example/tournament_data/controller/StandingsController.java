@@ -0,0 +1,70 @@
+package com.example.tournament_data.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournament_data.bulkhead.Bulkhead;
+import com.example.tournament_data.bulkhead.BulkheadType;
+import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.StandingResponse;
+import com.example.tournament_data.service.StandingsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/standings")
+@Tag(name = "Standings", description = "Tournament points table APIs")
+@RequiredArgsConstructor
+public class StandingsController {
+
+        private static final Logger logger = LoggerFactory.getLogger(StandingsController.class);
+
+        private final StandingsService standingsService;
+
+        @Operation(summary = "Get points table", description = "Retrieves played/won/lost/points per team, maintained incrementally from completed matches")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Standings retrieved successfully", content = @Content(schema = @Schema(implementation = StandingResponse.class)))
+        })
+        @GetMapping
+        public ResponseEntity<ApiResponse<List<StandingResponse>>> getStandings() {
+
+                logger.info("GET /api/v1/standings - Fetching points table");
+
+                List<StandingResponse> standings = standingsService.getStandings();
+
+                ApiResponse<List<StandingResponse>> response = ApiResponse.success(
+                                "Standings retrieved successfully", standings);
+                return ResponseEntity.ok(response);
+        }
+
+        @Operation(summary = "Rebuild points table", description = "Recomputes the points table from all completed matches, replacing rows in place")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Standings rebuilt successfully")
+        })
+        @Bulkhead(BulkheadType.AGGREGATION)
+        @PostMapping("/rebuild")
+        public ResponseEntity<ApiResponse<List<StandingResponse>>> rebuildStandings() {
+
+                logger.info("POST /api/v1/standings/rebuild - Rebuilding points table");
+
+                List<StandingResponse> standings = standingsService.rebuild();
+
+                logger.info("Points table rebuilt with {} teams", standings.size());
+
+                ApiResponse<List<StandingResponse>> response = ApiResponse.success(
+                                "Standings rebuilt successfully", standings);
+                return ResponseEntity.ok(response);
+        }
+}
@@ -0,0 +1,68 @@
+package com.example.tournament_data.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournament_data.dto.MatchResponse;
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.dto.TeamResponse;
+import com.example.tournament_data.service.StreamingReadService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping(value = "/api/v1/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@Tag(name = "Streaming", description = "Streaming read APIs (newline delimited JSON, one document per line)")
+@RequiredArgsConstructor
+public class StreamController {
+
+        private static final Logger logger = LoggerFactory.getLogger(StreamController.class);
+
+        private final StreamingReadService streamingReadService;
+
+        @Operation(summary = "Stream all players", description = "Streams every player as soon as it is read, without an ApiResponse envelope")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Players streamed", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = PlayerResponse.class)))
+        })
+        @GetMapping("/players")
+        public Flux<PlayerResponse> streamPlayers() {
+
+                logger.info("GET /api/v1/stream/players - Streaming all players");
+
+                return streamingReadService.streamPlayers();
+        }
+
+        @Operation(summary = "Stream all teams", description = "Streams every team as soon as it is read, without an ApiResponse envelope")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Teams streamed", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TeamResponse.class)))
+        })
+        @GetMapping("/teams")
+        public Flux<TeamResponse> streamTeams() {
+
+                logger.info("GET /api/v1/stream/teams - Streaming all teams");
+
+                return streamingReadService.streamTeams();
+        }
+
+        @Operation(summary = "Stream all matches", description = "Streams every match as soon as it is read, without an ApiResponse envelope")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Matches streamed", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = MatchResponse.class)))
+        })
+        @GetMapping("/matches")
+        public Flux<MatchResponse> streamMatches() {
+
+                logger.info("GET /api/v1/stream/matches - Streaming all matches");
+
+                return streamingReadService.streamMatches();
+        }
+}
@@ -15,8 +15,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.tournament_data.bulkhead.Bulkhead;
+import com.example.tournament_data.bulkhead.BulkheadType;
+import com.example.tournament_data.service.HeadToHeadService;
+import com.example.tournament_data.service.TeamFormService;
 import com.example.tournament_data.service.TeamService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +43,8 @@ public class TeamController {
         private static final Logger logger = LoggerFactory.getLogger(TeamController.class);
 
         private final TeamService teamService;
+        private final HeadToHeadService headToHeadService;
+        private final TeamFormService teamFormService;
 
         @Operation(summary = "Get all teams", description = "Retrieves a list of all teams in the tournament database")
         @ApiResponses(value = {
@@ -64,9 +71,10 @@ public class TeamController {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Team details retrieved successfully"),
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Team not found")
         })
+        @Bulkhead(BulkheadType.AGGREGATION)
         @GetMapping("/{id}/details")
         public ResponseEntity<ApiResponse<TeamDetailsResponse>> getTeamDetails(
-                        @Parameter(description = "Team ID", required = true, example = "1") @PathVariable Integer id) {
+                        @Parameter(description = "Team ID", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("GET /api/v1/teams/{}/details - Fetching team details with players", id);
 
@@ -80,8 +88,9 @@ public class TeamController {
         }
 
         @Operation(summary = "Get count of each role in the team", description = "Retrieves the count of batsman, bowler, all-rounder and wicket-keeper in the team using MongoDB aggregation")
+        @Bulkhead(BulkheadType.AGGREGATION)
         @GetMapping("/{id}/role-count")
-        public ResponseEntity<ApiResponse<List<RoleCount>>> getRoleCount(@Parameter(description = "Team ID", required = true, example = "1") @PathVariable Integer id) {
+        public ResponseEntity<ApiResponse<List<RoleCount>>> getRoleCount(@Parameter(description = "Team ID", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("GET /api/v1/teams/{}/role-count - Fetching count of each role in the team", id);
 
@@ -91,6 +100,47 @@ public class TeamController {
                 return ResponseEntity.ok(response);
         }
 
+        @Operation(summary = "Get head-to-head record", description = "Retrieves matches played, wins of each team and recent results between two teams")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Head-to-head record retrieved successfully", content = @Content(schema = @Schema(implementation = HeadToHeadResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Both IDs refer to the same team"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Team not found")
+        })
+        @Bulkhead(BulkheadType.AGGREGATION)
+        @GetMapping("/{id}/head-to-head/{otherId}")
+        public ResponseEntity<ApiResponse<HeadToHeadResponse>> getHeadToHead(
+                        @Parameter(description = "Team ID", required = true, example = "1") @PathVariable Long id,
+                        @Parameter(description = "Other team ID", required = true, example = "2") @PathVariable Long otherId) {
+
+                logger.info("GET /api/v1/teams/{}/head-to-head/{} - Fetching head-to-head record", id, otherId);
+
+                HeadToHeadResponse headToHead = headToHeadService.getHeadToHead(id, otherId);
+
+                ApiResponse<HeadToHeadResponse> response = ApiResponse.success(
+                                "Head-to-head record retrieved successfully", headToHead);
+                return ResponseEntity.ok(response);
+        }
+
+        @Operation(summary = "Get team form", description = "Retrieves the last N completed results of a team with opponents and margins, newest first")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Team form retrieved successfully", content = @Content(schema = @Schema(implementation = TeamFormResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid number of results"),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Team not found")
+        })
+        @GetMapping("/{id}/form")
+        public ResponseEntity<ApiResponse<TeamFormResponse>> getForm(
+                        @Parameter(description = "Team ID", required = true, example = "1") @PathVariable Long id,
+                        @Parameter(description = "Number of results (1-50)", example = "5") @RequestParam(defaultValue = "5") int n) {
+
+                logger.info("GET /api/v1/teams/{}/form - Fetching last {} results", id, n);
+
+                TeamFormResponse form = teamFormService.getForm(id, n);
+
+                ApiResponse<TeamFormResponse> response = ApiResponse.success(
+                                "Team form retrieved successfully", form);
+                return ResponseEntity.ok(response);
+        }
+
         @Operation(summary = "Create a new team", description = "Creates a new team in the tournament database")
         @ApiResponses(value = {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Team created successfully"),
@@ -128,7 +178,7 @@ public class TeamController {
         })
         @PutMapping("/{id}")
         public ResponseEntity<ApiResponse<TeamResponse>> updateTeam(
-                        @Parameter(description = "Team ID to update", required = true, example = "1") @PathVariable Integer id,
+                        @Parameter(description = "Team ID to update", required = true, example = "1") @PathVariable Long id,
                         @Valid @RequestBody TeamCreateRequest request) {
 
                 logger.info("PUT /api/v1/teams/{} - Full update request", id);
@@ -156,7 +206,7 @@ public class TeamController {
                         """)))
         @PatchMapping("/{id}")
         public ResponseEntity<ApiResponse<TeamResponse>> patchTeam(
-                        @Parameter(description = "Team ID to update", required = true, example = "1") @PathVariable Integer id,
+                        @Parameter(description = "Team ID to update", required = true, example = "1") @PathVariable Long id,
                         @Valid @RequestBody TeamPatchRequest request) {
 
                 logger.info("PATCH /api/v1/teams/{} - Partial update request", id);
@@ -177,7 +227,7 @@ public class TeamController {
         })
         @DeleteMapping("/{id}")
         public ResponseEntity<ApiResponse<TeamResponse>> deleteTeam(
-                        @Parameter(description = "Team ID to delete", required = true, example = "1") @PathVariable Integer id) {
+                        @Parameter(description = "Team ID to delete", required = true, example = "1") @PathVariable Long id) {
 
                 logger.info("DELETE /api/v1/teams/{} - Deleting team", id);
 
@@ -0,0 +1,90 @@
+package com.example.tournament_data.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.tournament_data.bulkhead.Bulkhead;
+import com.example.tournament_data.bulkhead.BulkheadType;
+import com.example.tournament_data.dto.ApiResponse;
+import com.example.tournament_data.dto.VenueStatsResponse;
+import com.example.tournament_data.service.VenueStatsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/venues")
+@Tag(name = "Venues", description = "Venue analytics APIs")
+@RequiredArgsConstructor
+public class VenueController {
+
+        private static final Logger logger = LoggerFactory.getLogger(VenueController.class);
+
+        private final VenueStatsService venueStatsService;
+
+        @Operation(summary = "Get all venues", description = "Retrieves materialized statistics of every venue, busiest venue first")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Venues retrieved successfully", content = @Content(schema = @Schema(implementation = VenueStatsResponse.class)))
+        })
+        @GetMapping
+        public ResponseEntity<ApiResponse<List<VenueStatsResponse>>> getAllVenues() {
+
+                logger.info("GET /api/v1/venues - Fetching all venues");
+
+                List<VenueStatsResponse> venues = venueStatsService.getAllVenues();
+
+                ApiResponse<List<VenueStatsResponse>> response = ApiResponse.success(
+                                "Venues retrieved successfully", venues);
+                return ResponseEntity.ok(response);
+        }
+
+        @Operation(summary = "Get venue stats", description = "Retrieves matches hosted, home win rate and per-team record of a venue. The name is matched ignoring case and extra whitespace")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Venue stats retrieved successfully", content = @Content(schema = @Schema(implementation = VenueStatsResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Venue not found")
+        })
+        @GetMapping("/{name}/stats")
+        public ResponseEntity<ApiResponse<VenueStatsResponse>> getVenueStats(
+                        @Parameter(description = "Venue name", required = true, example = "Wankhede Stadium, Mumbai") @PathVariable String name) {
+
+                logger.info("GET /api/v1/venues/{}/stats - Fetching venue stats", name);
+
+                VenueStatsResponse venue = venueStatsService.getVenueStats(name);
+
+                ApiResponse<VenueStatsResponse> response = ApiResponse.success(
+                                "Venue stats retrieved successfully", venue);
+                return ResponseEntity.ok(response);
+        }
+
+        @Operation(summary = "Refresh venue stats", description = "Recomputes the stats of every venue from the matches collection")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Venue stats refreshed successfully")
+        })
+        @Bulkhead(BulkheadType.AGGREGATION)
+        @PostMapping("/refresh")
+        public ResponseEntity<ApiResponse<List<VenueStatsResponse>>> refreshVenues() {
+
+                logger.info("POST /api/v1/venues/refresh - Refreshing venue stats");
+
+                List<VenueStatsResponse> venues = venueStatsService.refreshAll();
+
+                logger.info("Venue stats refreshed for {} venues", venues.size());
+
+                ApiResponse<List<VenueStatsResponse>> response = ApiResponse.success(
+                                "Venue stats refreshed successfully", venues);
+                return ResponseEntity.ok(response);
+        }
+}
@@ -0,0 +1,144 @@
+package com.example.tournament_data.datagen;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Stats;
+import com.example.tournament_data.model.Team;
+
+/**
+ * Synthetic, referentially consistent tournament: squads of at most MAX_SQUAD players with a captain from the
+ * squad, matches between two different teams with the winner one of them and the man of the match from the
+ * winning squad.
+ * Every document is derived from the seed and its own id only, so any id range can be generated on any thread
+ * in any order and still produce the same data.
+ */
+public record DatasetGenerator(long seed, int teams, int players, int matches) {
+
+    public static final int MAX_SQUAD = 25;
+
+    private static final double COMPLETED_SHARE = 0.9;
+    private static final LocalDateTime FIRST_MATCH = LocalDateTime.of(2020, 1, 1, 19, 30);
+
+    private static final long TEAM = 1;
+    private static final long PLAYER = 2;
+    private static final long MATCH = 3;
+
+    private static final String[] ROLES = { "Batsman", "Bowler", "All-Rounder", "Wicket-Keeper" };
+    private static final String[] BATTING_STYLES = { "Right-Handed", "Left-Handed" };
+    private static final String[] BOWLING_STYLES = { "Right-Arm Fast", "Left-Arm Fast", "Right-Arm Medium",
+            "Left-Arm Medium", "Right-Arm Spin", "Left-Arm Spin", "None" };
+
+    public DatasetGenerator {
+        if (teams < 2) {
+            throw new IllegalArgumentException("A tournament needs at least 2 teams");
+        }
+        if (players < 0 || matches < 0) {
+            throw new IllegalArgumentException("Players and matches must not be negative");
+        }
+    }
+
+    public static String teamName(int teamId) {
+        return "Team " + teamId;
+    }
+
+    public static String playerName(int playerId) {
+        return "Player " + playerId;
+    }
+
+    /**
+     * Team of a player, players are dealt round robin and stay without a team once every squad is full
+     */
+    public Long teamOf(int playerId) {
+        int round = (playerId - 1) / teams;
+        return round < MAX_SQUAD ? (long) (playerId - 1) % teams + 1 : null;
+    }
+
+    public int squadSize(int teamId) {
+        return players < teamId ? 0 : Math.min(MAX_SQUAD, (players - teamId) / teams + 1);
+    }
+
+    public Team team(int id) {
+        int squadSize = squadSize(id);
+        List<Long> playerIds = new ArrayList<>(squadSize);
+        for (int k = 0; k < squadSize; k++) {
+            playerIds.add(squadMember(id, k));
+        }
+        return Team.builder()
+                .id((long) id)
+                .teamName(teamName(id))
+                .homeGround(homeGround(id))
+                .coach("Coach " + id)
+                .captainId(squadSize > 0 ? squadMember(id, random(TEAM, id).nextInt(squadSize)) : null)
+                .playerIds(playerIds)
+                .build();
+    }
+
+    public Player player(int id) {
+        SplittableRandom random = random(PLAYER, id);
+        return Player.builder()
+                .id((long) id)
+                .teamId(teamOf(id))
+                .name(playerName(id))
+                .role(pick(random, ROLES))
+                .battingStyle(pick(random, BATTING_STYLES))
+                .bowlingStyle(pick(random, BOWLING_STYLES))
+                .stats(Stats.builder()
+                        .matchesPlayed(random.nextInt(200))
+                        .runsScored(random.nextInt(8000))
+                        .wicketsTaken(random.nextInt(300))
+                        .catchesTaken(random.nextInt(120))
+                        .build())
+                .build();
+    }
+
+    public Match match(int id) {
+        SplittableRandom random = random(MATCH, id);
+        int firstTeam = 1 + random.nextInt(teams);
+        int secondTeam = 1 + (firstTeam + random.nextInt(teams - 1)) % teams;
+        boolean completed = random.nextDouble() < COMPLETED_SHARE;
+
+        Result result = null;
+        if (completed) {
+            int winner = random.nextBoolean() ? firstTeam : secondTeam;
+            int squadSize = squadSize(winner);
+            result = Result.builder()
+                    .winner((long) winner)
+                    .margin(random.nextBoolean() ? (1 + random.nextInt(120)) + " runs" : (1 + random.nextInt(9)) + " wickets")
+                    .manOfTheMatchId(squadSize > 0 ? squadMember(winner, random.nextInt(squadSize)) : null)
+                    .manOfTheMatchTeamId(squadSize > 0 ? (long) winner : null)
+                    .build();
+        }
+
+        return Match.builder()
+                .id((long) id)
+                .venue(homeGround(firstTeam))
+                .date(FIRST_MATCH.plusHours(id))
+                .firstTeam((long) firstTeam)
+                .secondTeam((long) secondTeam)
+                .status(completed ? "COMPLETED" : "SCHEDULED")
+                .result(result)
+                .build();
+    }
+
+    private long squadMember(int teamId, int index) {
+        return teamId + (long) index * teams;
+    }
+
+    private static String homeGround(int teamId) {
+        return "Ground " + teamId;
+    }
+
+    private SplittableRandom random(long kind, int id) {
+        return new SplittableRandom(seed + kind * 0x9E3779B97F4A7C15L + id * 0xBF58476D1CE4E5B9L);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.tournament_data.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.datagen")
+public class DatasetGeneratorProperties {
+
+    public enum Output {
+        MONGO, NDJSON
+    }
+
+    // generate on startup and exit, meant to be run as a one-off command
+    private boolean enabled = false;
+
+    // same seed and sizes always produce the same documents
+    private long seed = 42;
+
+    private int teams = 500;
+    private int players = 12_000;
+    private int matches = 50_000;
+
+    private Output output = Output.MONGO;
+
+    // NDJSON output: one sub directory per collection with one part file per batch
+    private String directory = "datagen";
+
+    // documents per insertMany / part file
+    private int batchSize = 1000;
+
+    // batches generated and written at once
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    // MONGO output: delete existing teams, players and matches first, off unless asked for explicitly;
+    // without it the load refuses to write into collections that already hold documents
+    private boolean clear = false;
+}
@@ -0,0 +1,55 @@
+package com.example.tournament_data.datagen;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Command line entry of the dataset generator: generates, writes and exits the application.
+ * Indexes are not created before the load (bulk inserts are faster without them), the next regular startup
+ * creates them (tournament.mongo.create-indexes).
+ */
+@Component
+@ConditionalOnProperty(name = "tournament.datagen.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGeneratorRunner.class);
+
+    private final DatasetGeneratorProperties properties;
+    private final DatasetWriter datasetWriter;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetGenerator generator = new DatasetGenerator(
+                properties.getSeed(), properties.getTeams(), properties.getPlayers(), properties.getMatches());
+
+        logger.info("Generating {} teams, {} players and {} matches (seed {}) to {}", generator.teams(),
+                generator.players(), generator.matches(), generator.seed(), properties.getOutput());
+        long started = System.nanoTime();
+
+        switch (properties.getOutput()) {
+            case MONGO -> datasetWriter.writeToMongo(generator, properties.getBatchSize(),
+                    properties.getParallelism(), properties.isClear());
+            case NDJSON -> datasetWriter.writeToNdjson(generator, Path.of(properties.getDirectory()),
+                    properties.getBatchSize(), properties.getParallelism());
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long documents = (long) generator.teams() + generator.players() + generator.matches();
+        logger.info("Wrote {} documents in {} s ({} documents/s)", documents, Math.round(seconds),
+                Math.round(documents / Math.max(seconds, 0.001)));
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
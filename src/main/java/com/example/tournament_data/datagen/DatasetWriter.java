@@ -0,0 +1,155 @@
+package com.example.tournament_data.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.SequenceReservation;
+import com.example.tournament_data.model.Standing;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.model.VenueStats;
+import com.example.tournament_data.repository.MatchDerivedFieldsCallback;
+import com.example.tournament_data.service.ParallelLookups;
+import com.example.tournament_data.service.SequenceGeneratorService;
+import com.example.tournament_data.service.StandingsService;
+import com.example.tournament_data.service.VenueStatsService;
+import com.mongodb.client.model.InsertManyOptions;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes a generated dataset in batches, generated and written in parallel.
+ * Documents go through the application's MongoConverter (and derived match fields), so they are the same as
+ * documents saved by the services.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetWriter {
+
+    // relaxed JSON would lose the int32/int64 distinction of ids on import
+    private static final JsonWriterSettings EXTENDED_JSON = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final MongoTemplate mongoTemplate;
+    private final SequenceGeneratorService sequenceGeneratorService;
+    private final MatchDerivedFieldsCallback matchDerivedFields;
+    private final StandingsService standingsService;
+    private final VenueStatsService venueStatsService;
+
+    private interface BatchSink {
+        void write(String collection, int batch, List<Document> documents);
+    }
+
+    /**
+     * Insert the dataset with unordered insertMany batches, sequences continue after the generated ids.
+     * The raw inserts bypass the match events, so standings and venue stats are recomputed once at the end.
+     * Existing data is only deleted with clear; without it a database that already holds teams, players or
+     * matches is left untouched, the generated ids would collide with the existing ones.
+     */
+    public void writeToMongo(DatasetGenerator generator, int batchSize, int parallelism, boolean clear) {
+        if (!clear) {
+            for (Class<?> entity : List.of(Team.class, Player.class, Match.class)) {
+                if (mongoTemplate.exists(new Query(), entity)) {
+                    throw new IllegalStateException("Collection " + mongoTemplate.getCollectionName(entity)
+                            + " is not empty, rerun with --tournament.datagen.clear=true to replace the existing data");
+                }
+            }
+        } else {
+            mongoTemplate.remove(new Query(), Team.class);
+            mongoTemplate.remove(new Query(), Player.class);
+            mongoTemplate.remove(new Query(), Match.class);
+            // derived from the deleted matches, and reservations would cover the generated ids
+            mongoTemplate.remove(new Query(), Standing.class);
+            mongoTemplate.remove(new Query(), VenueStats.class);
+            mongoTemplate.remove(new Query(), SequenceReservation.class);
+        }
+
+        InsertManyOptions unordered = new InsertManyOptions().ordered(false);
+        write(generator, batchSize, parallelism,
+                (collection, batch, documents) -> mongoTemplate.getCollection(collection).insertMany(documents, unordered));
+
+        // never backwards, ids above the generated ones may already be in use
+        sequenceGeneratorService.advanceSequence(Team.SEQUENCE_NAME, generator.teams());
+        sequenceGeneratorService.advanceSequence(Player.SEQUENCE_NAME, generator.players());
+        sequenceGeneratorService.advanceSequence(Match.SEQUENCE_NAME, generator.matches());
+
+        standingsService.rebuild();
+        venueStatsService.refreshAll();
+    }
+
+    /**
+     * Write the dataset as extended JSON lines, directory/collection/part-NNNNNN.ndjson (mongoimport compatible)
+     */
+    public void writeToNdjson(DatasetGenerator generator, Path directory, int batchSize, int parallelism) {
+        write(generator, batchSize, parallelism, (collection, batch, documents) -> {
+            Path file = directory.resolve(collection).resolve("part-%06d.ndjson".formatted(batch));
+            try {
+                Files.createDirectories(file.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    for (Document document : documents) {
+                        writer.write(document.toJson(EXTENDED_JSON));
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void write(DatasetGenerator generator, int batchSize, int parallelism, BatchSink sink) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive");
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            submit(executor, batches, Team.class, generator.teams(), batchSize, generator::team, sink);
+            submit(executor, batches, Player.class, generator.players(), batchSize, generator::player, sink);
+            submit(executor, batches, Match.class, generator.matches(), batchSize,
+                    id -> matchDerivedFields.onBeforeConvert(generator.match(id), null), sink);
+
+            for (CompletableFuture<Void> batch : batches) {
+                ParallelLookups.join(batch);
+            }
+        }
+    }
+
+    private <T> void submit(ExecutorService executor, List<CompletableFuture<Void>> batches, Class<T> type, int count,
+            int batchSize, IntFunction<T> entity, BatchSink sink) {
+        String collection = mongoTemplate.getCollectionName(type);
+        for (int first = 1, batch = 0; first <= count; first += batchSize, batch++) {
+            int from = first;
+            int to = Math.min(count, first + batchSize - 1);
+            int batchNumber = batch;
+            batches.add(CompletableFuture.runAsync(() -> {
+                List<Document> documents = new ArrayList<>(to - from + 1);
+                for (int id = from; id <= to; id++) {
+                    Document document = new Document();
+                    mongoTemplate.getConverter().write(entity.apply(id), document);
+                    documents.add(document);
+                }
+                sink.write(collection, batchNumber, documents);
+            }, executor));
+        }
+    }
+}
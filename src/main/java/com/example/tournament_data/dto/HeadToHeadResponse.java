@@ -0,0 +1,65 @@
+package com.example.tournament_data.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Head-to-head record between two teams")
+public class HeadToHeadResponse {
+
+    @Schema(description = "ID of the first team", example = "1")
+    private Long teamId;
+
+    @Schema(description = "Name of the first team", example = "Mumbai Indians")
+    private String teamName;
+
+    @Schema(description = "ID of the other team", example = "2")
+    private Long otherTeamId;
+
+    @Schema(description = "Name of the other team", example = "Chennai Super Kings")
+    private String otherTeamName;
+
+    @Schema(description = "Completed matches between the two teams", example = "12")
+    private Integer matchesPlayed;
+
+    @Schema(description = "Wins of the first team", example = "7")
+    private Integer teamWins;
+
+    @Schema(description = "Wins of the other team", example = "5")
+    private Integer otherTeamWins;
+
+    @Schema(description = "Most recent completed matches, newest first")
+    private List<RecentResult> recentResults;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Result of a completed match between the two teams")
+    public static class RecentResult {
+
+        @Schema(description = "Match ID", example = "15")
+        private Long matchId;
+
+        @Schema(description = "Date and time of the match", example = "2024-04-15T19:30:00")
+        private LocalDateTime date;
+
+        @Schema(description = "Stadium/Ground of the match", example = "Wankhede Stadium, Mumbai")
+        private String venue;
+
+        @Schema(description = "Name of the winning team", example = "Mumbai Indians")
+        private String winner;
+
+        @Schema(description = "Winning margin description", example = "5 wickets")
+        private String margin;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.tournament_data.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Leaderboard row for a player")
+public class LeaderboardEntry {
+
+    @Schema(description = "Rank on the leaderboard", example = "1")
+    private Integer rank;
+
+    @Schema(description = "Player ID", example = "2")
+    private Long playerId;
+
+    @Schema(description = "Player name", example = "Virat Kohli")
+    private String playerName;
+
+    @Schema(description = "Name of the team the player belongs to", example = "Royal Challengers Bangalore")
+    private String teamName;
+
+    @Schema(description = "Playing role of the player", example = "Batsman")
+    private String role;
+
+    @Schema(description = "Value of the ranked statistic (missing stats count as 0)", example = "12000")
+    private Integer value;
+}
@@ -0,0 +1,31 @@
+package com.example.tournament_data.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request DTO for creating matches with pre-reserved IDs")
+public class MatchBulkCreateRequest {
+
+    @NotBlank(message = "Reservation ID is required")
+    @Schema(description = "Reservation the IDs of the matches were taken from", example = "6650f1c2a7b3e41d2c9f0a11", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String reservationId;
+
+    @NotEmpty(message = "At least one match is required")
+    @Size(max = 1000, message = "At most 1000 matches can be created at once")
+    @Valid
+    @Schema(description = "Matches to create, each with an ID of the reservation", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<MatchCreateRequest> matches;
+}
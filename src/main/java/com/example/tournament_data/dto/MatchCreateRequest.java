@@ -20,6 +20,9 @@ import lombok.NoArgsConstructor;
 @Schema(description = "Request DTO for creating a match with team names")
 public class MatchCreateRequest {
 
+    @Schema(description = "Pre-reserved ID from POST /api/v1/sequences/matches/reserve, only accepted by the bulk create", example = "1001", nullable = true)
+    private Long id;
+
     @NotBlank(message = "Venue is required")
     @Size(min = 2, max = 150, message = "Venue must be between 2 and 150 characters")
     @Schema(description = "Stadium/Ground where the match is being played", example = "Wankhede Stadium, Mumbai", requiredMode = Schema.RequiredMode.REQUIRED, minLength = 2, maxLength = 150)
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 public class MatchResponse {
 
     @Schema(description = "Unique identifier of the match", example = "1")
-    private Integer id;
+    private Long id;
 
     @Schema(description = "Stadium/Ground where the match is being played", example = "Wankhede Stadium, Mumbai")
     private String venue;
@@ -0,0 +1,65 @@
+package com.example.tournament_data.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Man of the match awards of a player, newest first")
+public class PlayerAwardsResponse {
+
+    @Schema(description = "Player ID", example = "2")
+    private Long playerId;
+
+    @Schema(description = "Player name", example = "Virat Kohli")
+    private String playerName;
+
+    @Schema(description = "Total man of the match awards of the player", example = "7")
+    private Long totalAwards;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private Integer page;
+
+    @Schema(description = "Page size", example = "20")
+    private Integer size;
+
+    @Schema(description = "Awards on this page")
+    private List<Award> awards;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Match in which the player was man of the match")
+    public static class Award {
+
+        @Schema(description = "Match ID", example = "15")
+        private Long matchId;
+
+        @Schema(description = "Date and time of the match", example = "2024-04-15T19:30:00")
+        private LocalDateTime date;
+
+        @Schema(description = "Stadium/Ground of the match", example = "Wankhede Stadium, Mumbai")
+        private String venue;
+
+        @Schema(description = "ID of the opposing team (null if the player's team did not play the match)", example = "2")
+        private Long opponentId;
+
+        @Schema(description = "Name of the opposing team", example = "Chennai Super Kings")
+        private String opponentName;
+
+        @Schema(description = "Name of the winning team", example = "Mumbai Indians")
+        private String winner;
+
+        @Schema(description = "Winning margin description", example = "5 wickets")
+        private String margin;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tournament_data.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request DTO for creating players with pre-reserved IDs")
+public class PlayerBulkCreateRequest {
+
+    @NotBlank(message = "Reservation ID is required")
+    @Schema(description = "Reservation the IDs of the players were taken from", example = "6650f1c2a7b3e41d2c9f0a11", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String reservationId;
+
+    @NotEmpty(message = "At least one player is required")
+    @Size(max = 1000, message = "At most 1000 players can be created at once")
+    @Valid
+    @Schema(description = "Players to create, each with an ID of the reservation", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<PlayerCreateRequest> players;
+}
@@ -18,6 +18,9 @@ import lombok.NoArgsConstructor;
 @Builder  
 @Schema(description = "Request DTO for creating a player with team name")  
 public class PlayerCreateRequest {  
+
+    @Schema(description = "Pre-reserved ID from POST /api/v1/sequences/players/reserve, only accepted by the bulk create", example = "1001", nullable = true)
+    private Long id;
       
     @NotBlank(message = "Player Name is required")  
     @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")  
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 public class PlayerResponse {  
       
     @Schema(description = "Unique identifier of the player", example = "2")  
-    private Integer id;  
+    private Long id;  
       
     @Schema(description = "Full name of the player", example = "Virat Kohli")  
     private String name;  
@@ -0,0 +1,27 @@
+package com.example.tournament_data.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Ranked search suggestion")
+public class SearchSuggestion {
+
+    @Schema(description = "Kind of the suggestion", example = "PLAYER", allowableValues = { "PLAYER", "TEAM", "VENUE" })
+    private String type;
+
+    @Schema(description = "ID of the player or team (null for venues)", example = "2", nullable = true)
+    private Long id;
+
+    @Schema(description = "Display name", example = "Virat Kohli")
+    private String name;
+
+    @Schema(description = "Relevance score, higher is better", example = "3.5")
+    private Double score;
+}
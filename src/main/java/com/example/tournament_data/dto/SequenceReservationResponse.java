@@ -0,0 +1,35 @@
+package com.example.tournament_data.dto;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Block of ids reserved for entities created offline")
+public class SequenceReservationResponse {
+
+    @Schema(description = "Reservation ID, passed to the bulk create of the entities", example = "6650f1c2a7b3e41d2c9f0a11")
+    private String reservationId;
+
+    @Schema(description = "Entities the ids are for", example = "players")
+    private String name;
+
+    @Schema(description = "First reserved ID", example = "1001")
+    private Long firstId;
+
+    @Schema(description = "Last reserved ID (inclusive)", example = "1100")
+    private Long lastId;
+
+    @Schema(description = "Number of reserved IDs", example = "100")
+    private Integer count;
+
+    @Schema(description = "When the block was reserved", example = "2024-04-15T10:00:00Z")
+    private Instant createdAt;
+}
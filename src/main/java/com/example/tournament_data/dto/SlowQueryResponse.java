@@ -0,0 +1,42 @@
+package com.example.tournament_data.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Mongo command that took longer than the slow query threshold")
+public class SlowQueryResponse {
+
+    @Schema(description = "When the command completed", example = "2024-04-15T14:30:12.345Z")
+    private Instant completedAt;
+
+    @Schema(description = "Command name", example = "find")
+    private String command;
+
+    @Schema(description = "Collection the command ran against", example = "players")
+    private String collection;
+
+    @Schema(description = "Time the command took in milliseconds", example = "245")
+    private long durationMs;
+
+    @Schema(description = "Application method that issued the command", example = "PlayerService.filterPlayers")
+    private String origin;
+
+    @Schema(description = "Command with all values redacted, null when larger than tournament.slow-query.max-command-size", example = "{\"find\": \"players\", \"filter\": {\"name\": {\"$regex\": \"?\"}}}")
+    private String shape;
+
+    @Schema(description = "Stages of the winning plan, null until explain completed", example = "[\"COLLSCAN\"]")
+    private List<String> planStages;
+
+    @Schema(description = "Whether the winning plan scans the whole collection, null until explain completed", example = "true")
+    private Boolean collectionScan;
+}
@@ -0,0 +1,36 @@
+package com.example.tournament_data.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Points table row with team name")
+public class StandingResponse {
+
+    @Schema(description = "Position in the points table", example = "1")
+    private Integer position;
+
+    @Schema(description = "Team ID", example = "1")
+    private Long teamId;
+
+    @Schema(description = "Name of the team", example = "Mumbai Indians")
+    private String teamName;
+
+    @Schema(description = "Completed matches played", example = "10")
+    private Integer played;
+
+    @Schema(description = "Matches won", example = "7")
+    private Integer won;
+
+    @Schema(description = "Matches lost", example = "3")
+    private Integer lost;
+
+    @Schema(description = "Points earned (2 per win)", example = "14")
+    private Integer points;
+}
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 public class TeamDetailsResponse {
 
     @Schema(description = "Unique identifier of the team", example = "1")
-    private Integer id;
+    private Long id;
 
     @Schema(description = "Official name of the team", example = "Mumbai Indians")
     private String teamName;
@@ -28,7 +28,7 @@ public class TeamDetailsResponse {
     private String coach;
 
     @Schema(description = "Player ID of the team captain", example = "1")
-    private Integer captainId;
+    private Long captainId;
 
     @Schema(description = "List of players with their details")
     private List<PlayerSummary> squad;
@@ -41,7 +41,7 @@ public class TeamDetailsResponse {
     public static class PlayerSummary {
 
         @Schema(description = "Player ID", example = "1")
-        private Integer id;
+        private Long id;
 
         @Schema(description = "Player name", example = "Rohit Sharma")
         private String name;
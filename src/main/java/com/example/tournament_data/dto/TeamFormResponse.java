@@ -0,0 +1,59 @@
+package com.example.tournament_data.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Recent form of a team")
+public class TeamFormResponse {
+
+    @Schema(description = "Team ID", example = "1")
+    private Long teamId;
+
+    @Schema(description = "Team name", example = "Mumbai Indians")
+    private String teamName;
+
+    @Schema(description = "Outcomes newest first: W = won, L = lost, N = no result", example = "WWLWL")
+    private String form;
+
+    @Schema(description = "Most recent completed matches, newest first")
+    private List<FormResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Completed match from the team's point of view")
+    public static class FormResult {
+
+        @Schema(description = "Match ID", example = "15")
+        private Long matchId;
+
+        @Schema(description = "Date and time of the match", example = "2024-04-15T19:30:00")
+        private LocalDateTime date;
+
+        @Schema(description = "Stadium/Ground of the match", example = "Wankhede Stadium, Mumbai")
+        private String venue;
+
+        @Schema(description = "ID of the opposing team", example = "2")
+        private Long opponentId;
+
+        @Schema(description = "Name of the opposing team", example = "Chennai Super Kings")
+        private String opponentName;
+
+        @Schema(description = "Outcome for the team: W, L or N", example = "W")
+        private String outcome;
+
+        @Schema(description = "Winning margin description", example = "5 wickets")
+        private String margin;
+    }
+}
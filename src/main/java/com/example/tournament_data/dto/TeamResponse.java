@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 public class TeamResponse {  
   
     @Schema(description = "Unique identifier of the team", example = "1")  
-    private Integer id;  
+    private Long id;  
   
     @Schema(description = "Official name of the team", example = "Mumbai Indians")  
     private String teamName;  
@@ -0,0 +1,58 @@
+package com.example.tournament_data.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Aggregated statistics of a venue")
+public class VenueStatsResponse {
+
+    @Schema(description = "Venue name", example = "Wankhede Stadium, Mumbai")
+    private String venue;
+
+    @Schema(description = "Matches hosted (scheduled and completed)", example = "14")
+    private Integer matchesHosted;
+
+    @Schema(description = "Completed matches hosted", example = "10")
+    private Integer completedMatches;
+
+    @Schema(description = "Completed matches won by the home (first) team", example = "6")
+    private Integer homeWins;
+
+    @Schema(description = "Share of completed matches won by the home team", example = "0.6")
+    private Double homeWinRate;
+
+    @Schema(description = "Record of each team at this venue")
+    private List<TeamRecord> teamRecords;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Record of a team at a venue")
+    public static class TeamRecord {
+
+        @Schema(description = "Team ID", example = "1")
+        private Long teamId;
+
+        @Schema(description = "Name of the team", example = "Mumbai Indians")
+        private String teamName;
+
+        @Schema(description = "Completed matches played at the venue", example = "8")
+        private Integer played;
+
+        @Schema(description = "Matches won at the venue", example = "5")
+        private Integer won;
+
+        @Schema(description = "Matches lost at the venue", example = "3")
+        private Integer lost;
+    }
+}
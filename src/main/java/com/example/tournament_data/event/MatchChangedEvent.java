@@ -0,0 +1,10 @@
+package com.example.tournament_data.event;
+
+import com.example.tournament_data.model.Match;
+
+/**
+ * Published by MatchService after a match is written.
+ * previous is null for a create, current is null for a delete.
+ */
+public record MatchChangedEvent(Match previous, Match current) {
+}
@@ -8,13 +8,22 @@ public class ResourceNotFoundException extends RuntimeException {
 
     private final String resourceName;
     private final String fieldName;
-    private final Integer fieldValue;
+    private final Object fieldValue;
 
-    public ResourceNotFoundException(String resourceName, String fieldName, Integer id) {
-        super(String.format("%s was not found with %s: %s", resourceName, fieldName, id));
+    public ResourceNotFoundException(String resourceName, String fieldName, Long id) {
+        this(resourceName, fieldName, (Object) id);
+    }
+
+    // for resources looked up by name, e.g. a venue
+    public ResourceNotFoundException(String resourceName, String fieldName, String value) {
+        this(resourceName, fieldName, (Object) value);
+    }
+
+    private ResourceNotFoundException(String resourceName, String fieldName, Object value) {
+        super(String.format("%s was not found with %s: %s", resourceName, fieldName, value));
         this.resourceName = resourceName;
         this.fieldName = fieldName;
-        this.fieldValue = id;
+        this.fieldValue = value;
     }
 
 }
@@ -0,0 +1,18 @@
+package com.example.tournament_data.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    // exception for requests shed because their bulkhead is saturated
+
+    private final String bulkhead;
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String bulkhead, long retryAfterSeconds) {
+        super(String.format("Server is busy with %s requests, please retry in %d s", bulkhead, retryAfterSeconds));
+        this.bulkhead = bulkhead;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
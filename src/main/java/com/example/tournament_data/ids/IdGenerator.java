@@ -0,0 +1,31 @@
+package com.example.tournament_data.ids;
+
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.service.SequenceGeneratorService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Picks the id strategy per entity: the next value of the entity's sequence (a findAndModify per insert), or a
+ * snowflake id generated locally for the sequences listed in tournament.ids.snowflake.
+ * Both kinds of ids can live in one collection, snowflake ids are far above any sequence value.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdGenerator {
+
+    private final IdProperties properties;
+    private final SequenceGeneratorService sequenceGeneratorService;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    /**
+     * Get id for a new entity of the given sequence
+     */
+    public Long nextId(String sequenceName) {
+        if (properties.getSnowflake().contains(sequenceName)) {
+            return snowflakeIdGenerator.nextId();
+        }
+        return sequenceGeneratorService.generateSequence(sequenceName).longValue();
+    }
+}
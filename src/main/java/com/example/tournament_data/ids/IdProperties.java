@@ -0,0 +1,21 @@
+package com.example.tournament_data.ids;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.ids")
+public class IdProperties {
+
+    // sequence names (players_sequence, teams_sequence, matches_sequence) whose entities get snowflake ids,
+    // every other entity keeps taking the next value of its sequence
+    private Set<String> snowflake = new HashSet<>();
+
+    // node id lease, renewed in the background every half lease
+    private Duration leaseDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,113 @@
+package com.example.tournament_data.ids;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+
+/**
+ * Hands out the node ids of the snowflake generator through leases in the node_leases collection, one document
+ * per node id holding its owner and when the lease expires.
+ * A released lease can be claimed right away, an expired one is only taken over once it has been expired for another lease duration, so clocks of two nodes
+ * may be apart by up to the lease duration without both using the same node id at once.
+ */
+@Component
+public class NodeIdLeases {
+
+    private static final Logger logger = LoggerFactory.getLogger(NodeIdLeases.class);
+
+    static final String COLLECTION = "node_leases";
+    static final int NODE_IDS = 1 << SnowflakeIdGenerator.NODE_BITS;
+
+    private static final String FIELD_OWNER = "owner";
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    private final MongoTemplate mongoTemplate;
+    private final long leaseMillis;
+
+    // identifies this process, a restarted node takes a fresh lease
+    private final String owner = UUID.randomUUID().toString();
+
+    /**
+     * A held node id, ids of the node must not use timestamps at or before floor (the expiry of the previous
+     * holder's lease)
+     */
+    public record Lease(int nodeId, long expiresAt, long floor) {
+    }
+
+    public NodeIdLeases(MongoTemplate mongoTemplate, IdProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseMillis = properties.getLeaseDuration().toMillis();
+    }
+
+    /**
+     * Claim a free (or long expired) node id, starting from a random one so nodes starting together spread out
+     */
+    public Lease acquire(long now) {
+        int start = ThreadLocalRandom.current().nextInt(NODE_IDS);
+        for (int i = 0; i < NODE_IDS; i++) {
+            int nodeId = (start + i) % NODE_IDS;
+            try {
+                // upserts a never used node id, a held one fails the filter and the upsert on its _id
+                Document previous = mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("_id").is(nodeId).orOperator(
+                                Criteria.where(FIELD_OWNER).is(owner),
+                                Criteria.where(FIELD_OWNER).is(null),
+                                Criteria.where(FIELD_EXPIRES_AT).lt(now - leaseMillis))),
+                        new Update().set(FIELD_OWNER, owner).set(FIELD_EXPIRES_AT, now + leaseMillis),
+                        options().upsert(true),
+                        Document.class,
+                        COLLECTION);
+
+                long floor = previous != null ? previous.get(FIELD_EXPIRES_AT, Number.class).longValue() : 0;
+                logger.info("Leased snowflake node id {}", nodeId);
+                return new Lease(nodeId, now + leaseMillis, floor);
+            } catch (DuplicateKeyException ex) {
+                // held by another node
+            }
+        }
+        throw new IllegalStateException("No free snowflake node id, all " + NODE_IDS + " are leased");
+    }
+
+    /**
+     * Extend a lease. When it has been taken over in the meantime another node id is claimed if mayAcquire,
+     * otherwise null is returned and the caller decides (a background renewal must not take a lease nobody uses)
+     */
+    public Lease renew(Lease lease, long now, boolean mayAcquire) {
+        long renewed = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(lease.nodeId()).and(FIELD_OWNER).is(owner)),
+                new Update().set(FIELD_EXPIRES_AT, now + leaseMillis),
+                COLLECTION).getModifiedCount();
+
+        if (renewed == 0) {
+            logger.warn("Lease of snowflake node id {} was lost", lease.nodeId());
+            return mayAcquire ? acquire(now) : null;
+        }
+        return new Lease(lease.nodeId(), now + leaseMillis, lease.floor());
+    }
+
+    /**
+     * Give a node id back right away instead of letting its lease run out, the next holder continues after the
+     * last timestamp used
+     */
+    public void release(Lease lease, long lastTimestamp) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(lease.nodeId()).and(FIELD_OWNER).is(owner)),
+                new Update().unset(FIELD_OWNER).set(FIELD_EXPIRES_AT, lastTimestamp),
+                COLLECTION);
+    }
+
+    long leaseMillis() {
+        return leaseMillis;
+    }
+}
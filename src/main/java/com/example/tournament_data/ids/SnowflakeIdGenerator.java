@@ -0,0 +1,205 @@
+package com.example.tournament_data.ids;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates monotonic 63-bit ids without a database round trip:
+ * 41 bits of milliseconds since EPOCH, 10 bits of node id and a 12-bit counter within the millisecond.
+ * The node id is leased from NodeIdLeases on first use and renewed every half lease by a background thread, so
+ * generating ids never waits on the database (only the first id, and an id after a renewal failed until expiry).
+ * State is guarded by a ReentrantLock rather than synchronized, so virtual threads waiting for it, or for the clock,
+ * do not pin their carrier.
+ * A clock that moves back (or a lease whose previous holder used later timestamps) is waited out, as is a
+ * counter that overflows within a millisecond.
+ */
+@Component
+public class SnowflakeIdGenerator implements DisposableBean {
+
+    static final int NODE_BITS = 10;
+    static final int COUNTER_BITS = 12;
+    static final int TIMESTAMP_BITS = 63 - NODE_BITS - COUNTER_BITS;
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private static final Logger logger = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    private final NodeIdLeases leases;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // written under lock, read by the renewal thread
+    private volatile NodeIdLeases.Lease lease;
+    private long lastTimestamp = -1;
+    private long counter;
+    // set under lock by destroy, no lease is taken or adopted afterwards
+    private boolean closed;
+
+    private ScheduledExecutorService renewer;
+
+    @Autowired
+    public SnowflakeIdGenerator(NodeIdLeases leases) {
+        this(leases, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(NodeIdLeases leases, LongSupplier clock) {
+        this.leases = leases;
+        this.clock = clock;
+    }
+
+    /**
+     * Get next id, greater than every id this generator returned before
+     */
+    public long nextId() {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Snowflake id generator is shut down");
+            }
+            long timestamp = clock.getAsLong();
+            if (lease == null) {
+                // first id, or a background renewal found the lease lost
+                adopt(leases.acquire(timestamp));
+                if (renewer == null) {
+                    startRenewer();
+                }
+            } else if (timestamp >= lease.expiresAt()) {
+                // background renewals failed until expiry, the node id may no longer be ours
+                adopt(leases.renew(lease, timestamp, true));
+            }
+
+            if (timestamp < lastTimestamp) {
+                timestamp = waitUntil(lastTimestamp);
+            }
+            if (timestamp == lastTimestamp) {
+                counter = (counter + 1) & MAX_COUNTER;
+                if (counter == 0) {
+                    timestamp = waitUntil(lastTimestamp + 1);
+                }
+            } else {
+                counter = 0;
+            }
+            lastTimestamp = timestamp;
+
+            long elapsed = timestamp - EPOCH;
+            if (elapsed < 0 || elapsed > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Clock is outside of the snowflake id range: " + Instant.ofEpochMilli(timestamp));
+            }
+            return elapsed << (NODE_BITS + COUNTER_BITS)
+                    | (long) lease.nodeId() << COUNTER_BITS
+                    | counter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extend the current lease, called every half lease off the id path; the round trip runs without the lock,
+     * so it only ever extends: a lost lease is dropped and the next id claims another node id in line
+     */
+    void renewLease() {
+        NodeIdLeases.Lease current = lease;
+        if (current == null) {
+            return;
+        }
+        NodeIdLeases.Lease renewed = leases.renew(current, clock.getAsLong(), false);
+
+        lock.lock();
+        try {
+            // shut down, or an id generated after expiry renewed in line meanwhile
+            if (closed || lease != current) {
+                return;
+            }
+            if (renewed == null) {
+                lease = null;
+            } else {
+                adopt(renewed);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Node id of an id from this generator
+     */
+    public static int nodeIdOf(long id) {
+        return (int) (id >>> COUNTER_BITS) & ((1 << NODE_BITS) - 1);
+    }
+
+    /**
+     * Time an id from this generator was created at
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + COUNTER_BITS)) + EPOCH);
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            closed = true;
+            if (renewer != null) {
+                renewer.shutdownNow();
+                renewer = null;
+            }
+            if (lease != null) {
+                leases.release(lease, lastTimestamp);
+                lease = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // called under lock
+    private void adopt(NodeIdLeases.Lease next) {
+        if (next.floor() > lastTimestamp) {
+            // the next id has to move past the previous holder's last millisecond
+            lastTimestamp = next.floor();
+            counter = MAX_COUNTER;
+        }
+        lease = next;
+    }
+
+    // called under lock, once the first lease is held
+    private void startRenewer() {
+        long period = Math.max(1, leases.leaseMillis() / 2);
+        renewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("snowflake-lease").daemon().factory());
+        renewer.scheduleWithFixedDelay(() -> {
+            try {
+                renewLease();
+            } catch (RuntimeException ex) {
+                // retried on the next run, the id path renews in line once the lease has expired
+                logger.warn("Could not renew snowflake node id lease: {}", ex.getMessage());
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private long waitUntil(long target) {
+        long now = clock.getAsLong();
+        while (now < target) {
+            try {
+                Thread.sleep(Math.min(target - now, 10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the clock", ex);
+            }
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.tournament_data.model;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,18 +21,22 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "matches")
+@CompoundIndex(name = "team_pair_date", def = "{'teamPairLow': 1, 'teamPairHigh': 1, 'date': -1}")
+@CompoundIndex(name = "mom_date", def = "{'result.manOfTheMatchId': 1, 'date': -1}")
+@CompoundIndex(name = "first_team_status_date", def = "{'firstTeam': 1, 'status': 1, 'date': -1}")
+@CompoundIndex(name = "second_team_status_date", def = "{'secondTeam': 1, 'status': 1, 'date': -1}")
 @Schema(description = "Match entity representing a cricket match between two teams")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Match {
     @Transient
     public static final String SEQUENCE_NAME = "matches_sequence";
 
     @Id
     @Schema(description = "Unique identifier of the match (auto-generated by MongoDB)", example = "64a1b2c3d4e5f6g7h8i9j0k1", accessMode = Schema.AccessMode.READ_ONLY)
-    private Integer id;
+    private Long id;
 
     @NotBlank(message = "Venue is required")
     @Size(min = 2, max = 150, message = "Venue must be between 2 and 150 characters")
@@ -42,11 +49,11 @@ public class Match {
 
     @NotBlank(message = "First team ID is required")
     @Schema(description = "Team ID of the first team (home team)", example = "64a1b2c3d4e5f6g7h8i9j0k2", requiredMode = Schema.RequiredMode.REQUIRED)
-    private Integer firstTeam; // id of team
+    private Long firstTeam; // id of team
 
     @NotBlank(message = "Second team ID is required")
     @Schema(description = "Team ID of the second team (away team)", example = "64a1b2c3d4e5f6g7h8i9j0k3", requiredMode = Schema.RequiredMode.REQUIRED)
-    private Integer secondTeam; // id of team
+    private Long secondTeam; // id of team
 
     @NotBlank(message = "Match status is required")
     @Pattern(regexp = "^(SCHEDULED|COMPLETED)$", message = "Status must be: SCHEDULED, LIVE, COMPLETED, CANCELLED, or ABANDONED")
@@ -57,4 +64,26 @@ public class Match {
     @Valid
     @Schema(description = "Match result details (only applicable when status is COMPLETED)", nullable = true)
     private Result result;
+
+    // unordered team pair (min/max of the two team ids), kept in sync by MatchDerivedFieldsCallback
+    @Schema(description = "Smaller of the two team IDs (derived)", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long teamPairLow;
+
+    @Schema(description = "Larger of the two team IDs (derived)", example = "2", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long teamPairHigh;
+
+    // venue normalized for grouping/lookups, kept in sync by MatchDerivedFieldsCallback
+    @Indexed(name = "venueKey")
+    @Schema(description = "Normalized venue name (derived)", example = "wankhede stadium, mumbai", accessMode = Schema.AccessMode.READ_ONLY)
+    private String venueKey;
+
+    /**
+     * Normalize a venue name: trimmed, single spaces, lower case
+     */
+    public static String normalizeVenue(String venue) {
+        if (venue == null) {
+            return null;
+        }
+        return venue.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
 }
@@ -2,6 +2,7 @@ package com.example.tournament_data.model;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +16,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "players")
+// trailing _id lets filtered, paged queries sort straight off the index
+@CompoundIndex(name = "team_role_id", def = "{'teamId': 1, 'role': 1, '_id': 1}")
+@CompoundIndex(name = "role_styles_id", def = "{'role': 1, 'battingStyle': 1, 'bowlingStyle': 1, '_id': 1}")
+// leaderboard top-K is an index walk, one index per ranked stat
+@CompoundIndex(name = "stats_runsScored_desc_id", def = "{'stats.runsScored': -1, '_id': 1}")
+@CompoundIndex(name = "stats_wicketsTaken_desc_id", def = "{'stats.wicketsTaken': -1, '_id': 1}")
+@CompoundIndex(name = "stats_catchesTaken_desc_id", def = "{'stats.catchesTaken': -1, '_id': 1}")
 @Schema(description = "Player entity representing a cricket player in the tournament")
 @Data
 @NoArgsConstructor
@@ -26,10 +34,10 @@ public class Player {
 
     @Id
     @Schema(description = "Unique identifier of the player (auto-generated by MongoDB)", example = "64a1b2c3d4e5f6g7h8i9j0k1", accessMode = Schema.AccessMode.READ_ONLY)
-    private Integer id; // automatically created by MongoDB
+    private Long id; // automatically created by MongoDB
 
     @Schema(description = "Team ID the player belongs to (null if not assigned to any team)", example = "64a1b2c3d4e5f6g7h8i9j0k2", nullable = true)
-    private Integer teamId; // will refer to the team Object ID, can also be null if player is not in any
+    private Long teamId; // will refer to the team Object ID, can also be null if player is not in any
                            // team
 
     @NotBlank(message = "Player Name is required")
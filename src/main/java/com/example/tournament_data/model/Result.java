@@ -17,7 +17,7 @@ public class Result {
     @NotBlank(message = "Winner team ID is required")
     @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid winner team ID format")
     @Schema(description = "Team ID of the winning team", example = "64a1b2c3d4e5f6g7h8i9j0k2", requiredMode = Schema.RequiredMode.REQUIRED)
-    private Integer winner;
+    private Long winner;
 
     @NotBlank(message = "Winning margin is required")
     @Schema(description = "Victory margin (e.g., '50 runs', '5 wickets', 'Super Over')", example = "45 runs", requiredMode = Schema.RequiredMode.REQUIRED)
@@ -25,5 +25,9 @@ public class Result {
 
     @NotBlank(message = "Man of the match is required")
     @Schema(description = "Player ID of the Man of the Match", example = "64a1b2c3d4e5f6g7h8i9j0k4", nullable = true)
-    private Integer manOfTheMatchId;
+    private Long manOfTheMatchId;
+
+    // players change teams, the side the award was won for is kept with it
+    @Schema(description = "Team ID the Man of the Match played for in this match", example = "1", nullable = true)
+    private Long manOfTheMatchTeamId;
 }
@@ -0,0 +1,30 @@
+package com.example.tournament_data.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Document(collection = "sequence_reservations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SequenceReservation {
+
+    @Id
+    private String id; // generated by MongoDB, handed to the client as reservationId
+
+    private String sequence; // sequence the block was taken from, e.g. "players_sequence"
+
+    private Long firstId;
+
+    private Long lastId;
+
+    private Instant createdAt;
+}
@@ -0,0 +1,35 @@
+package com.example.tournament_data.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Document(collection = "standings")
+@Schema(description = "Points table row of a team, maintained from completed matches")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Standing {
+
+    @Id
+    @Schema(description = "Team ID this row belongs to", example = "1")
+    private Long teamId; // one row per team, so team id is the document id
+
+    @Schema(description = "Completed matches played", example = "10")
+    private int played;
+
+    @Schema(description = "Matches won", example = "7")
+    private int won;
+
+    @Schema(description = "Matches lost", example = "3")
+    private int lost;
+
+    @Schema(description = "Points earned", example = "14")
+    private int points;
+}
@@ -20,13 +20,16 @@ public class Stats {
 
     @PositiveOrZero(message = "Runs cannot be negative")
     @Schema(description = "Total runs scored in career", example = "12000", minimum = "0")
+    // indexed together with _id on Player (stats_runsScored_desc_id)
     private Integer runsScored;
 
     @PositiveOrZero(message = "Wickets cannot be negative")
     @Schema(description = "Total wickets taken in career", example = "45", minimum = "0")
+    // indexed together with _id on Player (stats_wicketsTaken_desc_id)
     private Integer wicketsTaken;
 
     @PositiveOrZero(message = "Catches cannot be negative")
     @Schema(description = "Total catches taken in career", example = "80", minimum = "0")
+    // indexed together with _id on Player (stats_catchesTaken_desc_id)
     private Integer catchesTaken;
 }
@@ -27,7 +27,7 @@ public class Team {
     
     @Id
     @Schema(description = "Unique identifier of the team (auto-generated by MongoDB)", example = "4", accessMode = Schema.AccessMode.READ_ONLY)
-    private Integer id;
+    private Long id;
 
     @NotBlank(message = "Team Name is required")
     @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
@@ -41,7 +41,7 @@ public class Team {
 
     // referencing to a player
     @Schema(description = "Player ID of the team captain (must be a player in the team, null if no captain assigned)", example = "1", nullable = true)
-    private Integer captainId;
+    private Long captainId;
 
     @NotBlank(message = "Coach Name is required")
     @Size(min = 2, max = 100, message = "Coach name must be between 2 and 100 characters")
@@ -51,5 +51,5 @@ public class Team {
     @Size(max = 25, message = "Team cannot have more than 25 players")
     @Schema(description = "List of player IDs belonging to this team (maximum 25 players allowed)", example = "[\"1\", \"2\"]", maxLength = 25)
     @Builder.Default
-    private List<Integer> playerIds = new ArrayList<>();
+    private List<Long> playerIds = new ArrayList<>();
 }
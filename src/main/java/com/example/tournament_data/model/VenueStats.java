@@ -0,0 +1,48 @@
+package com.example.tournament_data.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// materialized by VenueStatsService with $merge, never written field by field
+@Document(collection = "venue_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VenueStats {
+
+    @Id
+    private String venueKey; // normalized venue name, see Match.normalizeVenue
+
+    private String venue; // venue as written on one of its matches
+
+    private int matchesHosted;
+
+    private int completedMatches;
+
+    private int homeWins;
+
+    private double homeWinRate;
+
+    @Builder.Default
+    private List<TeamRecord> teamRecords = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TeamRecord {
+        private Long teamId;
+        private int played;
+        private int won;
+        private int lost;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.tournament_data.observability;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * Redacted shape of a Mongo command and a summary of its explain plan
+ */
+final class CommandShape {
+
+    private static final BsonString REDACTED = new BsonString("?");
+
+    // session and cluster bookkeeping added by the driver, not part of the query
+    private static final Set<String> DRIVER_FIELDS = Set.of(
+            "lsid", "$clusterTime", "$db", "txnNumber", "$readPreference", "autocommit", "startTransaction");
+
+    private CommandShape() {
+    }
+
+    /**
+     * Copy of a command that outlives the listener callback, null when it is larger than maxBytes.
+     * A command read off the wire knows its size from the BSON length prefix, so a large one is never copied;
+     * one the driver assembled itself (document sequences of bulk writes) is encoded once to find out.
+     */
+    static BsonDocument copyUpTo(BsonDocument command, long maxBytes) {
+        try (BsonReader reader = command.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binary) {
+                return binary.getBsonInput().readInt32() <= maxBytes ? command.clone() : null;
+            }
+        }
+        RawBsonDocument copy = new RawBsonDocument(command, new BsonDocumentCodec());
+        return copy.getByteBuffer().remaining() <= maxBytes ? copy : null;
+    }
+
+    /**
+     * Command with every value replaced by "?", keeping field names, operators and pipeline stages.
+     * The collection name (value of the command name) is kept.
+     */
+    static BsonDocument redact(BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        boolean first = true;
+        for (String key : command.keySet()) {
+            if (DRIVER_FIELDS.contains(key)) {
+                continue;
+            }
+            BsonValue value = command.get(key);
+            shape.append(key, first && value.isString() ? value : redactValue(value));
+            first = false;
+        }
+        return shape;
+    }
+
+    /**
+     * Command as sent to explain, without the fields the driver adds per session
+     */
+    static BsonDocument explainable(BsonDocument command) {
+        BsonDocument explainable = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!DRIVER_FIELDS.contains(key)) {
+                explainable.append(key, value);
+            }
+        });
+        return explainable;
+    }
+
+    /**
+     * Stages of the winning plan(s), outermost first, e.g. [FETCH, IXSCAN team_role]
+     */
+    static Set<String> winningStages(BsonDocument explain) {
+        Set<String> stages = new LinkedHashSet<>();
+        collectWinningStages(explain, false, stages);
+        return stages;
+    }
+
+    private static BsonValue redactValue(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> redacted.append(key, redactValue(nested)));
+            return redacted;
+        }
+        if (value.isRegularExpression()) {
+            // keep regex filters recognizable, they cannot use an index unless anchored
+            return new BsonDocument("$regex", REDACTED);
+        }
+        if (value.isArray()) {
+            // pipelines and $and/$or branches keep their structure, value lists ($in) collapse to "?"
+            BsonArray array = value.asArray();
+            if (!array.isEmpty() && array.stream().allMatch(BsonValue::isDocument)) {
+                BsonArray redacted = new BsonArray();
+                array.forEach(element -> redacted.add(redactValue(element)));
+                return redacted;
+            }
+        }
+        return REDACTED;
+    }
+
+    private static void collectWinningStages(BsonValue value, boolean inWinningPlan, Set<String> stages) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            if (inWinningPlan && document.isString("stage")) {
+                String stage = document.getString("stage").getValue();
+                stages.add(document.isString("indexName") ? stage + " " + document.getString("indexName").getValue() : stage);
+            }
+            document.forEach((key, nested) -> {
+                if (!"rejectedPlans".equals(key)) {
+                    collectWinningStages(nested, inWinningPlan || "winningPlan".equals(key), stages);
+                }
+            });
+        } else if (value.isArray()) {
+            value.asArray().forEach(element -> collectWinningStages(element, inWinningPlan, stages));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.tournament_data.observability;
+
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class DbCallConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer dbCallListenerCustomizer() {
+        return settings -> settings.addCommandListener(new DbCallListener());
+    }
+
+    // picked up by ParallelLookups and the application task executor
+    @Bean
+    public TaskDecorator dbCallContextTaskDecorator() {
+        return DbCallContext::wrap;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.tournament_data.observability;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mongo round trips made on behalf of one HTTP request.
+ * Bound to the request thread by DbCallFilter and carried to helper threads (e.g. ParallelLookups) by wrap, so
+ * lookups issued concurrently are still counted against the request that started them.
+ */
+public final class DbCallContext {
+
+    private static final ThreadLocal<DbCallContext> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong REQUEST_IDS = new AtomicLong();
+
+    // identify the request in JFR events, which are recorded per thread
+    private final long requestId = REQUEST_IDS.incrementAndGet();
+    private final String request;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+
+    /**
+     * Context of the request the current thread works for, null outside of a request
+     */
+    public static DbCallContext current() {
+        return CURRENT.get();
+    }
+
+    private DbCallContext(String request) {
+        this.request = request;
+    }
+
+    static DbCallContext open(String request) {
+        DbCallContext context = new DbCallContext(request);
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run a task with the context of the submitting thread, usable as a TaskDecorator
+     */
+    public static Runnable wrap(Runnable task) {
+        DbCallContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            DbCallContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    void record(long elapsedNanos) {
+        calls.incrementAndGet();
+        nanos.addAndGet(elapsedNanos);
+    }
+
+    public long requestId() {
+        return requestId;
+    }
+
+    /**
+     * Method and path of the request, e.g. GET /api/v1/teams/1/details
+     */
+    public String request() {
+        return request;
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public long nanos() {
+        return nanos.get();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.tournament_data.observability;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Opens a DbCallContext per API request and records its Mongo round trips and time per endpoint
+ */
+@Component
+@RequiredArgsConstructor
+public class DbCallFilter extends OncePerRequestFilter {
+
+    static final String METRIC_CALLS = "tournament.db.calls";
+    static final String METRIC_TIME = "tournament.db.time";
+
+    private static final String API_PREFIX = "/api/v1/";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        DbCallContext context = DbCallContext.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbCallContext.close();
+            record(request, context);
+        }
+    }
+
+    private void record(HttpServletRequest request, DbCallContext context) {
+        // route template, not the raw path, so ids do not blow up the number of series
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary.builder(METRIC_CALLS)
+                .description("Mongo round trips per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.calls());
+        Timer.builder(METRIC_TIME)
+                .description("Time spent in Mongo per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.nanos(), TimeUnit.NANOSECONDS);
+    }
+}
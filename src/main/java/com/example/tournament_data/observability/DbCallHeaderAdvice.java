@@ -0,0 +1,46 @@
+package com.example.tournament_data.observability;
+
+import java.util.Locale;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reports the request's Mongo round trips as X-Db-Calls and Server-Timing (shown by browser dev tools).
+ * Written just before the body, when every service call of the request has completed.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class DbCallHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String DB_CALLS_HEADER = "X-Db-Calls";
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final DbCallProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+
+        DbCallContext context = DbCallContext.current();
+        if (context != null) {
+            response.getHeaders().set(DB_CALLS_HEADER, String.valueOf(context.calls()));
+            response.getHeaders().set(SERVER_TIMING_HEADER, String.format(Locale.ROOT,
+                    "db;dur=%.1f;desc=\"%d calls\"", context.nanos() / 1_000_000.0, context.calls()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.tournament_data.observability;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Attributes every Mongo command to the request of the thread that issued it.
+ * The blocking driver reports on the calling thread; commands without a request (startup work, the reactive
+ * driver's event loop) are not counted.
+ */
+public class DbCallListener implements CommandListener {
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private static void record(long elapsedNanos) {
+        DbCallContext context = DbCallContext.current();
+        if (context != null) {
+            context.record(elapsedNanos);
+        }
+    }
+}
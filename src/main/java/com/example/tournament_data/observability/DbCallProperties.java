@@ -0,0 +1,13 @@
+package com.example.tournament_data.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.db-calls")
+public class DbCallProperties {
+
+    // add X-Db-Calls and Server-Timing to API responses, meant for debugging fan-outs
+    private boolean headers = false;
+}
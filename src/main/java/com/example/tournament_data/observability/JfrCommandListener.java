@@ -0,0 +1,61 @@
+package com.example.tournament_data.observability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.BsonDocument;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Emits a MongoCommandEvent per Mongo command while a JFR recording has it enabled, nothing otherwise
+ */
+public class JfrCommandListener implements CommandListener {
+
+    private final Map<Integer, MongoCommandEvent> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        MongoCommandEvent jfrEvent = new MongoCommandEvent();
+        if (!jfrEvent.isEnabled()) {
+            return;
+        }
+        jfrEvent.begin();
+        jfrEvent.command = event.getCommandName();
+        jfrEvent.database = event.getDatabaseName();
+        BsonDocument command = event.getCommand();
+        jfrEvent.collection = command.isString(event.getCommandName())
+                ? command.getString(event.getCommandName()).getValue()
+                : null;
+        DbCallContext context = DbCallContext.current();
+        if (context != null) {
+            jfrEvent.requestId = context.requestId();
+            jfrEvent.request = context.request();
+        }
+        inFlight.put(event.getRequestId(), jfrEvent);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        commit(event.getRequestId(), true);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        commit(event.getRequestId(), false);
+    }
+
+    private void commit(int requestId, boolean succeeded) {
+        MongoCommandEvent jfrEvent = inFlight.remove(requestId);
+        if (jfrEvent != null) {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.succeeded = succeeded;
+                jfrEvent.commit();
+            }
+        }
+    }
+}
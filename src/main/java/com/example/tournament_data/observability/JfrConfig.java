@@ -0,0 +1,16 @@
+package com.example.tournament_data.observability;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "tournament.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer jfrCommandListenerCustomizer() {
+        return settings -> settings.addCommandListener(new JfrCommandListener());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.tournament_data.observability;
+
+import java.util.StringJoiner;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.example.tournament_data.dto.MatchResponse;
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.dto.TeamDetailsResponse;
+import com.example.tournament_data.dto.TeamResponse;
+
+/**
+ * Emits a ServiceOperationEvent around every @Service method while a JFR recording has it enabled.
+ * With JFR off the only cost is the isEnabled check.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "tournament.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrServiceAspect {
+
+    private static final String SERVICE_SUFFIX = "Service";
+
+    @Around("within(com.example.tournament_data.service..*) && @within(org.springframework.stereotype.Service)"
+            + " && !execution(org.reactivestreams.Publisher+ *(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            event.exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                String service = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+                event.service = service;
+                event.method = joinPoint.getSignature().getName();
+                event.entityType = service.endsWith(SERVICE_SUFFIX)
+                        ? service.substring(0, service.length() - SERVICE_SUFFIX.length())
+                        : service;
+                event.entityIds = entityIds(joinPoint.getArgs(), result);
+                DbCallContext context = DbCallContext.current();
+                if (context != null) {
+                    event.requestId = context.requestId();
+                    event.request = context.request();
+                    event.dbCalls = context.calls();
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private static String entityIds(Object[] args, Object result) {
+        StringJoiner ids = new StringJoiner(",");
+        for (Object arg : args) {
+            if (arg instanceof Long id) {
+                ids.add(id.toString());
+            }
+        }
+        // creates only know their id once the entity is saved
+        Long resultId = idOf(result);
+        if (ids.length() == 0 && resultId != null) {
+            ids.add(resultId.toString());
+        }
+        return ids.length() > 0 ? ids.toString() : null;
+    }
+
+    private static Long idOf(Object result) {
+        if (result instanceof PlayerResponse player) {
+            return player.getId();
+        }
+        if (result instanceof TeamResponse team) {
+            return team.getId();
+        }
+        if (result instanceof TeamDetailsResponse team) {
+            return team.getId();
+        }
+        if (result instanceof MatchResponse match) {
+            return match.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.tournament_data.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tournament.MongoCommand")
+@Label("Mongo Command")
+@Category({ "Tournament", "MongoDB" })
+@Description("Round trip of one Mongo command, from sending it to receiving the reply")
+class MongoCommandEvent extends Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Database")
+    String database;
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("Request")
+    String request;
+}
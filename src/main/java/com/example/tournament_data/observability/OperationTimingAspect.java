@@ -0,0 +1,95 @@
+package com.example.tournament_data.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times every controller, service and repository method as tournament.operation{layer, class, method, exception}.
+ * Percentile histograms are switched on per metric name in application.properties
+ * (management.metrics.distribution.percentiles-histogram.*), so p50/p99 can be computed from /actuator/prometheus.
+ * Methods returning a Publisher are left out, the call only assembles the stream.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "tournament.metrics", name = "operation-timers", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class OperationTimingAspect {
+
+    static final String METRIC_OPERATION = "tournament.operation";
+
+    private static final String APPLICATION_PACKAGE = "com.example.tournament_data.";
+    private static final String LAYER_REPOSITORY = "repository";
+
+    private final MeterRegistry meterRegistry;
+
+    @Pointcut("within(com.example.tournament_data.controller..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    void controllerMethods() {
+    }
+
+    @Pointcut("within(com.example.tournament_data.service..*) && @within(org.springframework.stereotype.Service)")
+    void serviceMethods() {
+    }
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..)) && this(org.springframework.data.repository.Repository)")
+    void repositoryMethods() {
+    }
+
+    @Pointcut("execution(org.reactivestreams.Publisher+ *(..))")
+    void reactiveMethods() {
+    }
+
+    @Around("controllerMethods() && !reactiveMethods()")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+
+    @Around("serviceMethods() && !reactiveMethods()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("repositoryMethods()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, LAYER_REPOSITORY);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC_OPERATION)
+                    .description("Time spent in controller, service and repository methods")
+                    .tag("layer", layer)
+                    .tag("class", typeName(joinPoint, layer))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String typeName(ProceedingJoinPoint joinPoint, String layer) {
+        // repositories are JDK proxies, name them after the application interface (e.g. MatchRepository)
+        if (LAYER_REPOSITORY.equals(layer)) {
+            for (Class<?> type : ClassUtils.getAllInterfaces(joinPoint.getTarget())) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
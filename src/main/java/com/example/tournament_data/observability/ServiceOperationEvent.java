@@ -0,0 +1,43 @@
+package com.example.tournament_data.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("tournament.ServiceOperation")
+@Label("Service Operation")
+@Category({ "Tournament", "Service" })
+@Description("Call of a @Service method, e.g. TeamService.getTeamDetails")
+@StackTrace(false)
+class ServiceOperationEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity Type")
+    @Description("Entity the service manages, e.g. Team")
+    String entityType;
+
+    @Label("Entity IDs")
+    @Description("Id arguments and the id of the returned entity, comma separated")
+    String entityIds;
+
+    @Label("Exception")
+    String exception;
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("Request")
+    String request;
+
+    @Label("DB Calls")
+    @Description("Mongo round trips of the request so far")
+    int dbCalls;
+}
@@ -0,0 +1,14 @@
+package com.example.tournament_data.observability;
+
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryLogCustomizer(SlowQueryLog slowQueryLog) {
+        return settings -> settings.addCommandListener(slowQueryLog);
+    }
+}
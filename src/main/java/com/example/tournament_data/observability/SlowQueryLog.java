@@ -0,0 +1,251 @@
+package com.example.tournament_data.observability;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.dto.SlowQueryResponse;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Keeps the most recent Mongo commands slower than tournament.slow-query.threshold, with the application method
+ * that issued them, their redacted shape and, once the background explain returned, whether they scanned the
+ * whole collection.
+ */
+@Component
+public class SlowQueryLog implements CommandListener, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    // commands carrying a query, all of them can be explained
+    private static final Set<String> TRACKED_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+
+    private static final String APPLICATION_PACKAGE = "com.example.tournament_data.";
+    private static final String OBSERVABILITY_PACKAGE = "com.example.tournament_data.observability.";
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SlowQueryProperties properties;
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final SimpleAsyncTaskExecutor explainExecutor;
+    private final Semaphore explainSlots;
+
+    // command documents are only valid during the started callback, keep a copy until the command completes
+    private final Map<Integer, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> recent = new ArrayDeque<>();
+
+    public SlowQueryLog(SlowQueryProperties properties, ObjectProvider<MongoClient> mongoClient) {
+        this.properties = properties;
+        this.mongoClient = mongoClient;
+        this.explainExecutor = new SimpleAsyncTaskExecutor("explain-");
+        this.explainExecutor.setVirtualThreads(true);
+        this.explainSlots = new Semaphore(properties.getMaxConcurrentExplains());
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (properties.isEnabled() && TRACKED_COMMANDS.contains(event.getCommandName())) {
+            // every tracked command pays for this copy, not only the slow ones, so larger ones are timed without it
+            BsonDocument command = event.getCommand();
+            inFlight.put(event.getRequestId(), new InFlight(collectionOf(command, event.getCommandName()),
+                    CommandShape.copyUpTo(command, properties.getMaxCommandSize().toBytes())));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Get the most recent slow commands, newest first
+     */
+    public List<SlowQueryResponse> getRecent(int limit) {
+        if (limit < 1) {
+            throw new InvalidRequestException(
+                    "limit",
+                    "Limit must be at least 1");
+        }
+
+        List<SlowQueryResponse> responses = new ArrayList<>(Math.min(limit, properties.getCapacity()));
+        synchronized (recent) {
+            Iterator<SlowQuery> newestFirst = recent.descendingIterator();
+            while (newestFirst.hasNext() && responses.size() < limit) {
+                responses.add(newestFirst.next().toResponse());
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Forget all recorded slow commands
+     */
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    private void completed(int requestId, String commandName, String databaseName, long elapsedNanos) {
+        InFlight started = inFlight.remove(requestId);
+        if (started == null || elapsedNanos < properties.getThreshold().toNanos()) {
+            return;
+        }
+        BsonDocument command = started.command();
+
+        // listeners run on the thread that issued the command, so its caller is still on the stack
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), commandName, started.collection(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), originOf(),
+                command != null ? CommandShape.redact(command).toJson() : null);
+        add(slowQuery);
+
+        logger.warn("Slow Mongo command {} on {} took {} ms in {}: {}", slowQuery.command, slowQuery.collection,
+                slowQuery.durationMs, slowQuery.origin, slowQuery.shape);
+
+        if (command != null && properties.isExplain() && explainSlots.tryAcquire()) {
+            explainExecutor.execute(() -> {
+                try {
+                    explain(slowQuery, databaseName, command);
+                } finally {
+                    explainSlots.release();
+                }
+            });
+        }
+    }
+
+    private void explain(SlowQuery slowQuery, String databaseName, BsonDocument command) {
+        try {
+            BsonDocument explainCommand = new BsonDocument("explain", CommandShape.explainable(command))
+                    .append("verbosity", new BsonString("queryPlanner"));
+            BsonDocument plan = mongoClient.getObject().getDatabase(databaseName)
+                    .runCommand(explainCommand, BsonDocument.class);
+            slowQuery.planStages = List.copyOf(CommandShape.winningStages(plan));
+
+            if (Boolean.TRUE.equals(slowQuery.collectionScan())) {
+                logger.warn("Slow Mongo command {} on {} from {} scans the whole collection: {}", slowQuery.command,
+                        slowQuery.collection, slowQuery.origin, slowQuery.shape);
+            }
+        } catch (RuntimeException ex) {
+            logger.debug("Could not explain slow {} on {}: {}", slowQuery.command, slowQuery.collection, ex.getMessage());
+        }
+    }
+
+    private void add(SlowQuery slowQuery) {
+        synchronized (recent) {
+            if (recent.size() >= properties.getCapacity()) {
+                recent.removeFirst();
+            }
+            recent.addLast(slowQuery);
+        }
+    }
+
+    private static String collectionOf(BsonDocument command, String commandName) {
+        return command.isString(commandName) ? command.getString(commandName).getValue() : null;
+    }
+
+    /**
+     * Innermost application method on the stack, e.g. PlayerService.filterPlayers
+     */
+    static String originOf() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(OBSERVABILITY_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+                .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String methodName(String methodName) {
+        // lambda$getMatchById$3 -> getMatchById
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', "lambda$".length());
+            return end > 0 ? methodName.substring("lambda$".length(), end) : methodName;
+        }
+        return methodName;
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.close();
+    }
+
+    // command is null when it was larger than tournament.slow-query.max-command-size
+    private record InFlight(String collection, BsonDocument command) {
+    }
+
+    private static final class SlowQuery {
+
+        private final Instant completedAt;
+        private final String command;
+        private final String collection;
+        private final long durationMs;
+        private final String origin;
+        private final String shape;
+
+        // filled in by the background explain
+        private volatile List<String> planStages;
+
+        private SlowQuery(Instant completedAt, String command, String collection, long durationMs, String origin,
+                String shape) {
+            this.completedAt = completedAt;
+            this.command = command;
+            this.collection = collection;
+            this.durationMs = durationMs;
+            this.origin = origin;
+            this.shape = shape;
+        }
+
+        private Boolean collectionScan() {
+            List<String> stages = planStages;
+            return stages != null ? stages.contains(COLLECTION_SCAN) : null;
+        }
+
+        private SlowQueryResponse toResponse() {
+            return SlowQueryResponse.builder()
+                    .completedAt(completedAt)
+                    .command(command)
+                    .collection(collection)
+                    .durationMs(durationMs)
+                    .origin(origin)
+                    .shape(shape)
+                    .planStages(planStages)
+                    .collectionScan(collectionScan())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tournament_data.observability;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tournament.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    // commands taking longer are logged and kept in the ring buffer
+    private Duration threshold = Duration.ofMillis(100);
+
+    // slow commands kept for the admin endpoint, oldest dropped first
+    private int capacity = 200;
+
+    // run explain (queryPlanner only, the query is not executed again) to find collection scans
+    private boolean explain = true;
+
+    // explains running at once, slow commands beyond that are kept without a plan
+    private int maxConcurrentExplains = 2;
+
+    // tracked commands are copied when they start, before it is known whether they are slow; larger ones are
+    // still timed and logged, but without shape and explain
+    private DataSize maxCommandSize = DataSize.ofKilobytes(16);
+}
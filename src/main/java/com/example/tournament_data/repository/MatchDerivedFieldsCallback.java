@@ -0,0 +1,27 @@
+package com.example.tournament_data.repository;
+
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import com.example.tournament_data.model.Match;
+
+/**
+ * Fills the derived query fields of a match right before it is written,
+ * so every save path keeps them consistent with the source fields.
+ */
+@Component
+public class MatchDerivedFieldsCallback implements BeforeConvertCallback<Match> {
+
+    @Override
+    public Match onBeforeConvert(Match match, String collection) {
+        Long firstTeam = match.getFirstTeam();
+        Long secondTeam = match.getSecondTeam();
+
+        if (firstTeam != null && secondTeam != null) {
+            match.setTeamPairLow(Math.min(firstTeam, secondTeam));
+            match.setTeamPairHigh(Math.max(firstTeam, secondTeam));
+        }
+        match.setVenueKey(Match.normalizeVenue(match.getVenue()));
+        return match;
+    }
+}
@@ -12,8 +12,8 @@ import org.springframework.stereotype.Repository;
 import com.example.tournament_data.model.Player;
 
 @Repository
-public interface PlayerRepository extends MongoRepository<Player, Integer> {
-    List<Player> findByTeamId(Integer id);
+public interface PlayerRepository extends MongoRepository<Player, Long> {
+    List<Player> findByTeamId(Long id);
 
     Optional<Player> findByNameIgnoreCase(String name);
 
@@ -22,7 +22,7 @@ public interface PlayerRepository extends MongoRepository<Player, Integer> {
             "{ $group: { _id: '$role', count: { $sum: 1 } } }",
             "{ $project: { _id: 0, role: '$_id', count: 1 } }"
     })
-    List<RoleCount> findRoleCount(Integer id);
+    List<RoleCount> findRoleCount(Long id);
 
-    List<Player> findByIdIn(Collection<Integer> ids);
+    List<Player> findByIdIn(Collection<Long> ids);
 }
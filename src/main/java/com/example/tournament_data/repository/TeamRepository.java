@@ -8,6 +8,6 @@ import org.springframework.stereotype.Repository;
 import com.example.tournament_data.model.Team;
 
 @Repository
-public interface TeamRepository extends MongoRepository<Team, Integer> {
+public interface TeamRepository extends MongoRepository<Team, Long> {
     Optional<Team> findByTeamNameIgnoreCase(String teamName);
 }
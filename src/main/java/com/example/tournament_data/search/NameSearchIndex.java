@@ -0,0 +1,193 @@
+package com.example.tournament_data.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trigram index over player names, team names and venues.
+ * Tokens are padded as "$$token$" so the first grams double as a prefix index, a query's last token is
+ * padded on the left only so "vir" matches "virat". Typos still share most grams, so ranking by the share of
+ * query grams found gives fuzzy matches without a separate edit distance pass.
+ * Reads are lock free, writes are serialized.
+ */
+public class NameSearchIndex {
+
+    public enum Kind {
+        PLAYER, TEAM, VENUE
+    }
+
+    public record Hit(Kind kind, String id, String name, double score) {
+    }
+
+    private record Key(Kind kind, String id) {
+    }
+
+    private record Entry(String name, String normalized, int gramCount) {
+    }
+
+    // below this share of query grams found an entry is not a suggestion
+    private static final double MIN_COVERAGE = 0.5;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparingInt(hit -> hit.name().length())
+            .thenComparing(Hit::name);
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Key>> postings = new ConcurrentHashMap<>();
+
+    // a venue stays searchable while at least one match is played there
+    private final Map<Long, String> matchVenues = new HashMap<>();
+    private final Map<String, Integer> venueMatches = new HashMap<>();
+
+    public synchronized void put(Kind kind, String id, String name) {
+        Key key = new Key(kind, id);
+        unindex(key);
+        if (name == null || normalize(name).isEmpty()) {
+            return;
+        }
+
+        String normalized = normalize(name);
+        Set<String> grams = grams(normalized, false);
+        entries.put(key, new Entry(name, normalized, grams.size()));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public synchronized void remove(Kind kind, String id) {
+        unindex(new Key(kind, id));
+    }
+
+    /**
+     * Record the venue of a match, venues are keyed by their normalized name
+     */
+    public synchronized void putMatchVenue(Long matchId, String venue) {
+        removeMatchVenue(matchId);
+        if (venue == null || normalize(venue).isEmpty()) {
+            return;
+        }
+
+        String venueId = normalize(venue);
+        matchVenues.put(matchId, venueId);
+        if (venueMatches.merge(venueId, 1, Integer::sum) == 1) {
+            put(Kind.VENUE, venueId, venue);
+        }
+    }
+
+    public synchronized void removeMatchVenue(Long matchId) {
+        String venueId = matchVenues.remove(matchId);
+        if (venueId != null && venueMatches.merge(venueId, -1, Integer::sum) == 0) {
+            venueMatches.remove(venueId);
+            remove(Kind.VENUE, venueId);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Ranked suggestions for a query: exact and prefix matches first, then by share of matching grams
+     */
+    public List<Hit> search(String query, int limit, Kind kind) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Set<String> queryGrams = grams(normalized, true);
+        Map<Key, Integer> common = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Key> keys = postings.get(gram);
+            if (keys == null) {
+                continue;
+            }
+            for (Key key : keys) {
+                if (kind == null || key.kind() == kind) {
+                    common.merge(key, 1, Integer::sum);
+                }
+            }
+        }
+
+        // bounded min-heap keeps only the best `limit` hits
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<Key, Integer> candidate : common.entrySet()) {
+            Entry entry = entries.get(candidate.getKey());
+            if (entry == null) {
+                continue; // removed while searching
+            }
+            double coverage = (double) candidate.getValue() / queryGrams.size();
+            if (coverage < MIN_COVERAGE) {
+                continue;
+            }
+            double similarity = 2.0 * candidate.getValue() / (queryGrams.size() + entry.gramCount());
+            double score = coverage + similarity + prefixBonus(entry.normalized(), normalized);
+
+            top.add(new Hit(candidate.getKey().kind(), candidate.getKey().id(), entry.name(), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private void unindex(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed == null) {
+            return;
+        }
+        for (String gram : grams(removed.normalized(), false)) {
+            Set<Key> keys = postings.get(gram);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static double prefixBonus(String name, String query) {
+        if (name.equals(query)) {
+            return 2.0;
+        }
+        if (name.startsWith(query)) {
+            return 1.0;
+        }
+        if (name.contains(" " + query)) {
+            return 0.5;
+        }
+        return 0.0;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    static Set<String> grams(String normalized, boolean openEnded) {
+        Set<String> grams = new LinkedHashSet<>();
+        String[] tokens = normalized.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            boolean last = i == tokens.length - 1;
+            String padded = "$$" + tokens[i] + (openEnded && last ? "" : "$");
+            for (int start = 0; start + 3 <= padded.length(); start++) {
+                grams.add(padded.substring(start, start + 3));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.tournament_data.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.LeaderboardEntry;
+import com.example.tournament_data.dto.PlayerAwardsResponse;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.repository.PlayerRepository;
+import com.example.tournament_data.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AwardsService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final String FIELD_MOM = "result.manOfTheMatchId";
+
+    private final MongoTemplate mongoTemplate;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+
+    /**
+     * Get man of the match awards of a player, newest first
+     */
+    public PlayerAwardsResponse getPlayerAwards(Long playerId, int page, int size) {
+        validatePage(page, size);
+
+        Player player = playerRepository.findById(playerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Player", "id", playerId));
+
+        // both queries use the mom_date index to select the matches, the page is already in date order
+        Criteria criteria = Criteria.where(FIELD_MOM).is(playerId);
+        long totalAwards = mongoTemplate.count(new Query(criteria), Match.class);
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "date"))
+                .skip((long) page * size)
+                .limit(size);
+        query.fields().include("date", "venue", "firstTeam", "secondTeam", "result");
+        List<Match> matches = totalAwards > 0 ? mongoTemplate.find(query, Match.class) : List.of();
+
+        // Single DB call for the opponents and winners of the whole page
+        Set<Long> teamIds = new HashSet<>();
+        for (Match match : matches) {
+            teamIds.add(match.getFirstTeam());
+            teamIds.add(match.getSecondTeam());
+        }
+        teamIds.remove(null);
+        Map<Long, String> teamNames = new HashMap<>();
+        if (!teamIds.isEmpty()) {
+            teamRepository.findAllById(teamIds).forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+        }
+
+        List<PlayerAwardsResponse.Award> awards = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            Long opponentId = opponentOf(match, awardedTeamOf(match));
+            Long winner = match.getResult() != null ? match.getResult().getWinner() : null;
+            awards.add(PlayerAwardsResponse.Award.builder()
+                    .matchId(match.getId())
+                    .date(match.getDate())
+                    .venue(match.getVenue())
+                    .opponentId(opponentId)
+                    .opponentName(opponentId != null ? teamNames.get(opponentId) : null)
+                    .winner(winner != null ? teamNames.get(winner) : null)
+                    .margin(match.getResult() != null ? match.getResult().getMargin() : null)
+                    .build());
+        }
+
+        return PlayerAwardsResponse.builder()
+                .playerId(player.getId())
+                .playerName(player.getName())
+                .totalAwards(totalAwards)
+                .page(page)
+                .size(size)
+                .awards(awards)
+                .build();
+    }
+
+    /**
+     * Get players ranked by man of the match awards
+     */
+    public List<LeaderboardEntry> getManOfTheMatchLeaderboard(int page, int size) {
+        validatePage(page, size);
+
+        // Aggregation pipeline has 5 stages -> match, group, sort, skip, limit
+
+        // 1. match -> uses the mom_date index to select matches with an award
+        AggregationOperation matchStage = context -> new Document("$match",
+                new Document(FIELD_MOM, new Document("$ne", null)));
+
+        // 2. group -> awards per player
+        AggregationOperation groupStage = context -> new Document("$group",
+                new Document()
+                        .append("_id", "$" + FIELD_MOM)
+                        .append("awards", new Document("$sum", 1)));
+
+        // 3. sort -> ties broken by player id so pages are stable
+        AggregationOperation sortStage = context -> new Document("$sort",
+                new Document("awards", -1).append("_id", 1));
+
+        // 4. skip
+        AggregationOperation skipStage = context -> new Document("$skip", (long) page * size);
+
+        // 5. limit
+        AggregationOperation limitStage = context -> new Document("$limit", size);
+
+        Aggregation aggregation = Aggregation.newAggregation(matchStage, groupStage, sortStage, skipStage, limitStage);
+        List<Document> rows = mongoTemplate.aggregate(aggregation, "matches", Document.class).getMappedResults();
+
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        // Single DB call for the players and one for their teams
+        Map<Long, Player> players = playerRepository.findByIdIn(rows.stream().map(AwardsService::playerIdOf).toList())
+                .stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        Set<Long> teamIds = players.values().stream()
+                .map(Player::getTeamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> teamNames = new HashMap<>();
+        if (!teamIds.isEmpty()) {
+            teamRepository.findAllById(teamIds).forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+        }
+
+        List<LeaderboardEntry> leaderboard = new ArrayList<>(rows.size());
+        for (Document row : rows) {
+            Long playerId = playerIdOf(row);
+            Player player = players.get(playerId);
+            leaderboard.add(LeaderboardEntry.builder()
+                    .rank(page * size + leaderboard.size() + 1)
+                    .playerId(playerId)
+                    .playerName(player != null ? player.getName() : null)
+                    .teamName(player != null && player.getTeamId() != null ? teamNames.get(player.getTeamId()) : null)
+                    .role(player != null ? player.getRole() : null)
+                    .value(row.getInteger("awards", 0))
+                    .build());
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Team the man of the match played for in that match, not the one they play for now; matches stored before it
+     * was kept with the award fall back to the winner, the side the man of the match usually comes from
+     */
+    static Long awardedTeamOf(Match match) {
+        Result result = match.getResult();
+        if (result == null) {
+            return null;
+        }
+        return result.getManOfTheMatchTeamId() != null ? result.getManOfTheMatchTeamId() : result.getWinner();
+    }
+
+    /**
+     * Opponent from the point of view of the given team, null when that team did not play the match
+     */
+    static Long opponentOf(Match match, Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        if (teamId.equals(match.getFirstTeam())) {
+            return match.getSecondTeam();
+        }
+        if (teamId.equals(match.getSecondTeam())) {
+            return match.getFirstTeam();
+        }
+        return null;
+    }
+
+    /**
+     * Grouped player id of a leaderboard row, ids written before the switch to long ids are stored as int32
+     */
+    private static Long playerIdOf(Document row) {
+        return ((Number) row.get("_id")).longValue();
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new InvalidRequestException(
+                    "page",
+                    "Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    "size",
+                    "Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.tournament_data.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.HeadToHeadResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class HeadToHeadService {
+
+    static final int RECENT_RESULTS = 5;
+
+    private static final String FIELD_COMPLETED = "COMPLETED";
+    private static final String FIELD_WINNER = "$result.winner";
+
+    private final MongoTemplate mongoTemplate;
+    private final TeamRepository teamRepository;
+
+    // aggregated record per unordered team pair, dropped when a match between the pair changes
+    private final Map<PairKey, PairRecord> cache = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    record PairKey(long low, long high) {
+    }
+
+    record PairRecord(int played, int lowWins, int highWins, List<Match> recent) {
+    }
+
+    /**
+     * Get head-to-head record of team against otherTeam
+     */
+    public HeadToHeadResponse getHeadToHead(Long teamId, Long otherTeamId) {
+        if (teamId.equals(otherTeamId)) {
+            throw new InvalidRequestException(
+                    "otherId",
+                    "A team cannot be compared with itself");
+        }
+
+        // Single DB call for both teams
+        Map<Long, Team> teams = teamRepository.findAllById(List.of(teamId, otherTeamId))
+                .stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Team team = teams.get(teamId);
+        Team otherTeam = teams.get(otherTeamId);
+        if (team == null) {
+            throw new ResourceNotFoundException("Team", "id", teamId);
+        }
+        if (otherTeam == null) {
+            throw new ResourceNotFoundException("Team", "id", otherTeamId);
+        }
+
+        long low = Math.min(teamId, otherTeamId);
+        long high = Math.max(teamId, otherTeamId);
+        PairRecord pair = getPairRecord(low, high);
+
+        List<HeadToHeadResponse.RecentResult> recentResults = new ArrayList<>(pair.recent().size());
+        for (Match match : pair.recent()) {
+            Team winner = teams.get(match.getResult().getWinner());
+            recentResults.add(HeadToHeadResponse.RecentResult.builder()
+                    .matchId(match.getId())
+                    .date(match.getDate())
+                    .venue(match.getVenue())
+                    .winner(winner != null ? winner.getTeamName() : null)
+                    .margin(match.getResult().getMargin())
+                    .build());
+        }
+
+        boolean teamIsLow = teamId == low;
+        return HeadToHeadResponse.builder()
+                .teamId(teamId)
+                .teamName(team.getTeamName())
+                .otherTeamId(otherTeamId)
+                .otherTeamName(otherTeam.getTeamName())
+                .matchesPlayed(pair.played())
+                .teamWins(teamIsLow ? pair.lowWins() : pair.highWins())
+                .otherTeamWins(teamIsLow ? pair.highWins() : pair.lowWins())
+                .recentResults(recentResults)
+                .build();
+    }
+
+    /**
+     * Drop cached records of the pairs touched by a match write
+     */
+    @EventListener
+    public void onMatchChanged(MatchChangedEvent event) {
+        evict(event.previous());
+        evict(event.current());
+    }
+
+    private PairRecord getPairRecord(long low, long high) {
+        PairKey key = new PairKey(low, high);
+        PairRecord cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long evictionsBefore = evictions.get();
+        PairRecord pair = aggregate(low, high);
+
+        // do not cache a record computed while a match of the pair was being written
+        if (evictions.get() == evictionsBefore) {
+            cache.put(key, pair);
+            // an eviction may have slipped in between the check and the put
+            if (evictions.get() != evictionsBefore) {
+                cache.remove(key, pair);
+            }
+        }
+        return pair;
+    }
+
+    private PairRecord aggregate(long low, long high) {
+        // Aggregation pipeline has 2 stages -> match (on the team pair index), facet
+
+        // 1. match
+        AggregationOperation matchStage = context -> new Document("$match",
+                new Document()
+                        .append("teamPairLow", low)
+                        .append("teamPairHigh", high)
+                        .append("status", FIELD_COMPLETED));
+
+        // 2. facet -> totals and the latest results in one round trip
+        AggregationOperation facetStage = context -> new Document("$facet",
+                new Document()
+                        .append("totals", List.of(new Document("$group",
+                                new Document()
+                                        .append("_id", null)
+                                        .append("played", new Document("$sum", 1))
+                                        .append("lowWins", winsOf(low))
+                                        .append("highWins", winsOf(high)))))
+                        .append("recent", List.of(
+                                new Document("$sort", new Document("date", -1)),
+                                new Document("$limit", RECENT_RESULTS))));
+
+        Aggregation aggregation = Aggregation.newAggregation(matchStage, facetStage);
+        Document result = mongoTemplate.aggregate(aggregation, "matches", Document.class).getUniqueMappedResult();
+
+        if (result == null) {
+            return new PairRecord(0, 0, 0, List.of());
+        }
+
+        List<Document> totals = result.getList("totals", Document.class, List.of());
+        List<Match> recent = result.getList("recent", Document.class, List.of())
+                .stream()
+                .map(document -> mongoTemplate.getConverter().read(Match.class, document))
+                .toList();
+
+        if (totals.isEmpty()) {
+            return new PairRecord(0, 0, 0, recent);
+        }
+
+        Document counts = totals.get(0);
+        return new PairRecord(
+                counts.getInteger("played", 0),
+                counts.getInteger("lowWins", 0),
+                counts.getInteger("highWins", 0),
+                recent);
+    }
+
+    private static Document winsOf(long teamId) {
+        return new Document("$sum",
+                new Document("$cond", List.of(new Document("$eq", List.of(FIELD_WINNER, teamId)), 1, 0)));
+    }
+
+    private void evict(Match match) {
+        if (match == null || match.getFirstTeam() == null || match.getSecondTeam() == null) {
+            return;
+        }
+        evictions.incrementAndGet();
+        cache.remove(new PairKey(
+                Math.min(match.getFirstTeam(), match.getSecondTeam()),
+                Math.max(match.getFirstTeam(), match.getSecondTeam())));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.tournament_data.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.LeaderboardEntry;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Stats;
+import com.example.tournament_data.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    static final int MAX_LIMIT = 100;
+
+    private static final Set<String> RANKED_STATS = Set.of("runsScored", "wicketsTaken", "catchesTaken");
+
+    private final MongoTemplate mongoTemplate;
+    private final TeamRepository teamRepository;
+
+    /**
+     * Get top players by a career statistic, optionally filtered by role and team.
+     * Only the stat order is index-backed ({stats.&lt;stat&gt;: -1, _id: 1}); the role and team filters are applied
+     * while walking that index, so a narrow filter reads more index entries before it fills the limit.
+     */
+    public List<LeaderboardEntry> getStatsLeaderboard(String stat, int limit, String role, Long teamId) {
+        if (stat == null || !RANKED_STATS.contains(stat)) {
+            throw new InvalidRequestException(
+                    "stat",
+                    "Stat must be one of: runsScored, wicketsTaken, catchesTaken");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException(
+                    "limit",
+                    "Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        String statField = "stats." + stat;
+
+        Criteria criteria = new Criteria();
+        if (role != null && !role.isBlank()) {
+            criteria = criteria.and("role").is(role);
+        }
+        if (teamId != null) {
+            criteria = criteria.and("teamId").is(teamId);
+        }
+
+        // walks the stats_<stat>_desc_id index and stops after `limit` matching documents
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Order.desc(statField), Sort.Order.asc("_id")))
+                .limit(limit);
+        query.fields().include("name", "teamId", "role", statField);
+
+        List<Player> players = mongoTemplate.find(query, Player.class);
+
+        // Single DB call for all team names
+        Map<Long, String> teamNames = new HashMap<>();
+        teamRepository.findAllById(players.stream().map(Player::getTeamId).filter(Objects::nonNull).distinct().toList())
+                .forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+
+        List<LeaderboardEntry> leaderboard = new ArrayList<>(players.size());
+        for (Player player : players) {
+            leaderboard.add(LeaderboardEntry.builder()
+                    .rank(leaderboard.size() + 1)
+                    .playerId(player.getId())
+                    .playerName(player.getName())
+                    .teamName(player.getTeamId() != null ? teamNames.get(player.getTeamId()) : null)
+                    .role(player.getRole())
+                    .value(statValue(player.getStats(), stat))
+                    .build());
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Stats are stored as nullable Integers, a missing value ranks as 0
+     */
+    static int statValue(Stats stats, String stat) {
+        if (stats == null) {
+            return 0;
+        }
+        Integer value = switch (stat) {
+            case "runsScored" -> stats.getRunsScored();
+            case "wicketsTaken" -> stats.getWicketsTaken();
+            case "catchesTaken" -> stats.getCatchesTaken();
+            default -> null;
+        };
+        return value != null ? value : 0;
+    }
+}
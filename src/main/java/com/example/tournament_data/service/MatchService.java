@@ -1,16 +1,34 @@
 package com.example.tournament_data.service;  
   
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
   
+import com.example.tournament_data.dto.MatchBulkCreateRequest;
 import com.example.tournament_data.dto.MatchCreateRequest;  
 import com.example.tournament_data.dto.MatchPatchRequest;  
 import com.example.tournament_data.dto.MatchResponse;  
 import com.example.tournament_data.dto.ResultCreateRequest;  
 import com.example.tournament_data.dto.ResultResponse;  
+import com.example.tournament_data.event.MatchChangedEvent;
 import com.example.tournament_data.exception.InvalidRequestException;  
 import com.example.tournament_data.exception.ResourceNotFoundException;  
+import com.example.tournament_data.ids.IdGenerator;
 import com.example.tournament_data.model.Match;  
 import com.example.tournament_data.model.Player;  
 import com.example.tournament_data.model.Result;  
@@ -29,7 +47,14 @@ public class MatchService {
     private final MatchRepository matchRepository;  
     private final TeamRepository teamRepository;  
     private final PlayerRepository playerRepository;  
-    private final SequenceGeneratorService sequenceGeneratorService;
+    private final IdGenerator idGenerator;
+    private final SequenceReservationService sequenceReservationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelLookups parallelLookups;
+    private final SingleFlight singleFlight;
+    private final MatchWriteGate matchWriteGate;
+    private final StandingsService standingsService;
+    private final VenueStatsService venueStatsService;
 
     private static final String FIELD_FIRST_TEAM_NAME = "firstTeamName";
     private static final String FIELD_SECOND_TEAM_NAME = "secondTeamName";
@@ -42,263 +67,446 @@ public class MatchService {
      * Create a new match  
      */  
     public MatchResponse create(@Valid MatchCreateRequest request) {  
-        // Find first team by name  
-        Team firstTeam = teamRepository.findByTeamNameIgnoreCase(request.getFirstTeamName())  
-                .orElseThrow(() -> new InvalidRequestException(
-                        FIELD_FIRST_TEAM_NAME,
-                        FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getFirstTeamName()));
+        if (request.getId() != null) {
+            throw new InvalidRequestException(
+                    "id",
+                    "Ids can only be supplied to the bulk create, together with their reservation");
+        }
+        return convertToResponse(create(request, null));
+    }
+
+    /**
+     * Create matches with pre-reserved ids, in request order.
+     * Matches already created with their id (by an earlier attempt of the same sync) are returned as they are,
+     * as long as they have the same teams and date; reserved ids are inserted, never upserted, so a retry racing
+     * the original request cannot create a match (and publish its MatchChangedEvent) twice.
+     * The attempt that created them may have failed before its MatchChangedEvent was handled, so standings and
+     * the stats of their venues are recomputed once the batch is done, which is idempotent either way.
+     */
+    public List<MatchResponse> bulkCreate(@Valid MatchBulkCreateRequest request) {
+        List<Long> ids = request.getMatches().stream().map(MatchCreateRequest::getId).toList();
+        sequenceReservationService.validate(request.getReservationId(), Match.SEQUENCE_NAME, ids);
+
+        // Single DB call for the matches that already exist
+        Map<Long, Match> existing = matchRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+
+        List<MatchResponse> matches = new ArrayList<>(ids.size());
+        List<Match> recovered = new ArrayList<>();
+        for (MatchCreateRequest match : request.getMatches()) {
+            Match created = existing.get(match.getId());
+            Match saved = created == null ? create(match, match.getId()) : null;
+            if (saved != null) {
+                matches.add(convertToResponse(saved));
+            } else {
+                // created by an earlier attempt, or by a concurrent one that inserted the reserved id first
+                Match stored = created != null ? created : matchRepository.findById(match.getId()).orElseThrow();
+                matches.add(alreadyCreated(stored, match));
+                recovered.add(stored);
+            }
+        }
+        repairDerivedData(recovered);
+        return matches;
+    }
+
+    // null when a concurrent attempt already inserted the reserved id
+    private Match create(MatchCreateRequest request, Long reservedId) {
+        // Both teams and the man of the match are independent lookups, issue them together
+        CompletableFuture<Team> firstTeamLookup = parallelLookups.submit(
+                () -> findTeamByName(request.getFirstTeamName(), FIELD_FIRST_TEAM_NAME));
+        CompletableFuture<Team> secondTeamLookup = parallelLookups.submit(
+                () -> findTeamByName(request.getSecondTeamName(), FIELD_SECOND_TEAM_NAME));
+        CompletableFuture<Optional<Player>> manOfTheMatchLookup = lookupManOfTheMatch(request.getResult());
+
+        try {
+            Team firstTeam = ParallelLookups.join(firstTeamLookup);
+            Team secondTeam = ParallelLookups.join(secondTeamLookup);
   
-        // Find second team by name  
-        Team secondTeam = teamRepository.findByTeamNameIgnoreCase(request.getSecondTeamName())  
-                .orElseThrow(() -> new InvalidRequestException(
+            // Validate that both teams are different  
+            if (firstTeam.getId().equals(secondTeam.getId())) {  
+                throw new InvalidRequestException(
                         FIELD_SECOND_TEAM_NAME,
-                        FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getSecondTeamName()));
+                        "First team and second team cannot be the same");  
+            }  
+  
+            // Validate result is provided when status is COMPLETED  
+            if (FIELD_COMPLETED.equals(request.getStatus()) && request.getResult() == null) {
+                throw new InvalidRequestException(  
+                        "result",  
+                        "Result is required when match status is COMPLETED");  
+            }  
+  
+            // Validate result is not provided when status is SCHEDULED  
+            if (FIELD_SCHEDULED.equals(request.getStatus()) && request.getResult() != null) {
+                throw new InvalidRequestException(  
+                        "result",  
+                        "Result should not be provided when match status is SCHEDULED");  
+            }  
+  
+            // Build Result if provided  
+            Result result = null;  
+            if (request.getResult() != null) {  
+                result = buildResult(request.getResult(), firstTeam, secondTeam, ParallelLookups.join(manOfTheMatchLookup));
+            }  
+  
+            // Generate auto-incremented ID (or take the reserved one)
+            Long matchId = reservedId != null ? reservedId : idGenerator.nextId(Match.SEQUENCE_NAME);
+  
+            // Build Match entity  
+            Match match = Match.builder()  
+                    .id(matchId)  
+                    .venue(request.getVenue())  
+                    .date(request.getDate())  
+                    .firstTeam(firstTeam.getId())
+                    .secondTeam(secondTeam.getId())  
+                    .status(request.getStatus())  
+                    .result(result)  
+                    .build();  
+  
+            return matchWriteGate.write(() -> {
+                Match written = reservedId == null ? matchRepository.save(match) : insertReserved(match);
+                if (written != null) {
+                    eventPublisher.publishEvent(new MatchChangedEvent(null, written));
+                }
+                return written;
+            });
+        } finally {
+            // lookups not joined yet, e.g. when a validation failed first
+            ParallelLookups.cancel(firstTeamLookup, secondTeamLookup, manOfTheMatchLookup);
+        }
+    }
+
+    // a reserved id is inserted so a concurrent attempt with the same id fails instead of replacing it,
+    // null when that attempt got there first
+    private Match insertReserved(Match match) {
+        try {
+            return matchRepository.insert(match);
+        } catch (DuplicateKeyException ex) {
+            return null;
+        }
+    }
+
+    // the write and its listeners hold the gate together, a standings or venue recompute never sees one without the other
+    private Match writeAndPublish(Match previous, Supplier<Match> write) {
+        return matchWriteGate.write(() -> {
+            Match current = write.get();
+            eventPublisher.publishEvent(new MatchChangedEvent(previous, current));
+            return current;
+        });
+    }
   
-        // Validate that both teams are different  
-        if (firstTeam.getId().equals(secondTeam.getId())) {  
+    // a match stored under a reserved id is only the same match if teams and date match the request
+    private MatchResponse alreadyCreated(Match stored, MatchCreateRequest request) {
+        MatchResponse response = convertToResponse(stored);
+        if (!sameName(response.getFirstTeamName(), request.getFirstTeamName())
+                || !sameName(response.getSecondTeamName(), request.getSecondTeamName())
+                || !Objects.equals(toMillis(stored.getDate()), toMillis(request.getDate()))) {
             throw new InvalidRequestException(
-                    FIELD_SECOND_TEAM_NAME,
-                    "First team and second team cannot be the same");  
-        }  
-  
-        // Validate result is provided when status is COMPLETED  
-        if (FIELD_COMPLETED.equals(request.getStatus()) && request.getResult() == null) {
-            throw new InvalidRequestException(  
-                    "result",  
-                    "Result is required when match status is COMPLETED");  
-        }  
-  
-        // Validate result is not provided when status is SCHEDULED  
-        if (FIELD_SCHEDULED.equals(request.getStatus()) && request.getResult() != null) {
-            throw new InvalidRequestException(  
-                    "result",  
-                    "Result should not be provided when match status is SCHEDULED");  
-        }  
-  
-        // Build Result if provided  
-        Result result = null;  
-        if (request.getResult() != null) {  
-            result = buildResult(request.getResult(), firstTeam, secondTeam);  
-        }  
-  
-        // Generate auto-incremented ID  
-        Integer matchId = sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME);  
-  
-        // Build Match entity  
-        Match match = Match.builder()  
-                .id(matchId)  
-                .venue(request.getVenue())  
-                .date(request.getDate())  
-                .firstTeam(firstTeam.getId())
-                .secondTeam(secondTeam.getId())  
-                .status(request.getStatus())  
-                .result(result)  
-                .build();  
-  
-        Match savedMatch = matchRepository.save(match);  
-  
-        return convertToResponse(savedMatch);  
-    }  
-  
+                    "id",
+                    "Id " + stored.getId() + " is already used by a different match");
+        }
+        return response;
+    }
+
+    // recomputes outside of any match write, the standings rebuild holds the gate exclusively
+    private void repairDerivedData(List<Match> recovered) {
+        if (recovered.stream().anyMatch(match -> FIELD_COMPLETED.equals(match.getStatus()))) {
+            standingsService.rebuild();
+        }
+
+        Set<String> venueKeys = new HashSet<>();
+        recovered.forEach(match -> venueKeys.add(Match.normalizeVenue(match.getVenue())));
+        venueKeys.remove(null);
+        if (!venueKeys.isEmpty()) {
+            venueStatsService.refresh(venueKeys);
+        }
+    }
+
+    private static boolean sameName(String stored, String requested) {
+        return stored != null && stored.equalsIgnoreCase(requested);
+    }
+
+    // Mongo keeps dates to the millisecond
+    private static LocalDateTime toMillis(LocalDateTime date) {
+        return date != null ? date.truncatedTo(ChronoUnit.MILLIS) : null;
+    }
+
     /**  
      * Get all matches  
      */  
     public List<MatchResponse> getAllMatches() {  
-        return matchRepository.findAll()  
-                .stream()  
-                .map(this::convertToResponse)  
+        List<Match> matches = matchRepository.findAll();
+
+        // Single DB call for all teams and one for all men of the match
+        Set<Long> teamIds = new HashSet<>();
+        Set<Long> playerIds = new HashSet<>();
+        for (Match match : matches) {
+            teamIds.add(match.getFirstTeam());
+            teamIds.add(match.getSecondTeam());
+            if (match.getResult() != null) {
+                teamIds.add(match.getResult().getWinner());
+                playerIds.add(match.getResult().getManOfTheMatchId());
+            }
+        }
+        teamIds.remove(null);
+        playerIds.remove(null);
+
+        Map<Long, String> teamNames = new HashMap<>();
+        if (!teamIds.isEmpty()) {
+            teamRepository.findAllById(teamIds).forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+        }
+        Map<Long, String> playerNames = new HashMap<>();
+        if (!playerIds.isEmpty()) {
+            playerRepository.findByIdIn(playerIds)
+                    .forEach(player -> playerNames.put(player.getId(), player.getName()));
+        }
+
+        return matches.stream()
+                .map(match -> convertToResponse(match, teamNames, playerNames))
                 .toList();
     }  
   
     /**  
      * Get match by ID  
      */  
-    public MatchResponse getMatchById(Integer id) {  
-        Match match = matchRepository.findById(id)  
-                .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
-  
-        return convertToResponse(match);  
+    public MatchResponse getMatchById(Long id) {  
+        return singleFlight.execute("match.by-id", id, () -> {
+            Match match = matchRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
+
+            return convertToResponse(match);
+        });
     }  
   
     /**  
      * Update match (full update)  
      */  
-    public MatchResponse updateMatch(Integer id, @Valid MatchCreateRequest request) {  
-        // Find existing match  
-        Match existingMatch = matchRepository.findById(id)  
-                .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
-  
-        // Find first team by name  
-        Team firstTeam = teamRepository.findByTeamNameIgnoreCase(request.getFirstTeamName())  
-                .orElseThrow(() -> new InvalidRequestException(
-                        FIELD_FIRST_TEAM_NAME,
-                        FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getFirstTeamName()));
+    public MatchResponse updateMatch(Long id, @Valid MatchCreateRequest request) {  
+        // The existing match, both teams and the man of the match are independent lookups, issue them together
+        CompletableFuture<Optional<Match>> existingMatchLookup = parallelLookups.submit(() -> matchRepository.findById(id));
+        CompletableFuture<Team> firstTeamLookup = parallelLookups.submit(
+                () -> findTeamByName(request.getFirstTeamName(), FIELD_FIRST_TEAM_NAME));
+        CompletableFuture<Team> secondTeamLookup = parallelLookups.submit(
+                () -> findTeamByName(request.getSecondTeamName(), FIELD_SECOND_TEAM_NAME));
+        CompletableFuture<Optional<Player>> manOfTheMatchLookup = lookupManOfTheMatch(request.getResult());
+
+        try {
+            // Find existing match  
+            Match existingMatch = ParallelLookups.join(existingMatchLookup)
+                    .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
+
+            Team firstTeam = ParallelLookups.join(firstTeamLookup);
+            Team secondTeam = ParallelLookups.join(secondTeamLookup);
   
-        // Find second team by name  
-        Team secondTeam = teamRepository.findByTeamNameIgnoreCase(request.getSecondTeamName())  
-                .orElseThrow(() -> new InvalidRequestException(
+            // Validate that both teams are different  
+            if (firstTeam.getId().equals(secondTeam.getId())) {  
+                throw new InvalidRequestException(
                         FIELD_SECOND_TEAM_NAME,
-                        FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getSecondTeamName()));
-  
-        // Validate that both teams are different  
-        if (firstTeam.getId().equals(secondTeam.getId())) {  
-            throw new InvalidRequestException(
-                    FIELD_SECOND_TEAM_NAME,
-                    "First team and second team cannot be the same");  
-        }  
-  
-        // Validate result is provided when status is COMPLETED  
-        if (FIELD_COMPLETED.equals(request.getStatus()) && request.getResult() == null) {
-            throw new InvalidRequestException(  
-                    "result",  
-                    "Result is required when match status is COMPLETED");  
-        }  
-  
-        // Validate result is not provided when status is SCHEDULED  
-        if (FIELD_SCHEDULED.equals(request.getStatus()) && request.getResult() != null) {
-            throw new InvalidRequestException(  
-                    "result",  
-                    "Result should not be provided when match status is SCHEDULED");  
-        }  
-  
-        // Build Result if provided  
-        Result result = null;  
-        if (request.getResult() != null) {  
-            result = buildResult(request.getResult(), firstTeam, secondTeam);  
-        }  
-  
-        // Update fields  
-        existingMatch.setVenue(request.getVenue());  
-        existingMatch.setDate(request.getDate());  
-        existingMatch.setFirstTeam(firstTeam.getId());  
-        existingMatch.setSecondTeam(secondTeam.getId());  
-        existingMatch.setStatus(request.getStatus());  
-        existingMatch.setResult(result);  
-  
-        Match updatedMatch = matchRepository.save(existingMatch);  
-  
-        return convertToResponse(updatedMatch);  
+                        "First team and second team cannot be the same");  
+            }  
+  
+            // Validate result is provided when status is COMPLETED  
+            if (FIELD_COMPLETED.equals(request.getStatus()) && request.getResult() == null) {
+                throw new InvalidRequestException(  
+                        "result",  
+                        "Result is required when match status is COMPLETED");  
+            }  
+  
+            // Validate result is not provided when status is SCHEDULED  
+            if (FIELD_SCHEDULED.equals(request.getStatus()) && request.getResult() != null) {
+                throw new InvalidRequestException(  
+                        "result",  
+                        "Result should not be provided when match status is SCHEDULED");  
+            }  
+  
+            // Build Result if provided  
+            Result result = null;  
+            if (request.getResult() != null) {  
+                result = buildResult(request.getResult(), firstTeam, secondTeam, ParallelLookups.join(manOfTheMatchLookup));
+            }  
+  
+            // Keep a copy of the old state for listeners (standings etc.)
+            Match previousMatch = existingMatch.toBuilder().build();
+
+            // Update fields  
+            existingMatch.setVenue(request.getVenue());  
+            existingMatch.setDate(request.getDate());  
+            existingMatch.setFirstTeam(firstTeam.getId());  
+            existingMatch.setSecondTeam(secondTeam.getId());  
+            existingMatch.setStatus(request.getStatus());  
+            existingMatch.setResult(result);  
+  
+            Match updatedMatch = writeAndPublish(previousMatch, () -> matchRepository.save(existingMatch));
+  
+            return convertToResponse(updatedMatch);  
+        } finally {
+            // lookups not joined yet, e.g. when a validation failed first
+            ParallelLookups.cancel(existingMatchLookup, firstTeamLookup, secondTeamLookup, manOfTheMatchLookup);
+        }
     }  
   
     /**  
      * Patch match (partial update)  
      */  
-    public MatchResponse patchMatch(Integer id, @Valid MatchPatchRequest request) {  
-        // Find existing match  
-        Match existingMatch = matchRepository.findById(id)  
-                .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
+    public MatchResponse patchMatch(Long id, @Valid MatchPatchRequest request) {  
+        // Lookups by name do not depend on the existing match, start them before reading it
+        boolean hasFirstTeamName = request.getFirstTeamName() != null && !request.getFirstTeamName().isBlank();
+        boolean hasSecondTeamName = request.getSecondTeamName() != null && !request.getSecondTeamName().isBlank();
+        CompletableFuture<Team> firstTeamLookup = hasFirstTeamName
+                ? parallelLookups.submit(() -> findTeamByName(request.getFirstTeamName(), FIELD_FIRST_TEAM_NAME))
+                : null;
+        CompletableFuture<Team> secondTeamLookup = hasSecondTeamName
+                ? parallelLookups.submit(() -> findTeamByName(request.getSecondTeamName(), FIELD_SECOND_TEAM_NAME))
+                : null;
+        CompletableFuture<Optional<Player>> manOfTheMatchLookup = lookupManOfTheMatch(request.getResult());
 
-        // Get current teams for validation
-        Team currentFirstTeam = teamRepository.findById(existingMatch.getFirstTeam()).orElse(null);
-        Team currentSecondTeam = teamRepository.findById(existingMatch.getSecondTeam()).orElse(null);
+        try {
+            // Find existing match  
+            Match existingMatch = matchRepository.findById(id)  
+                    .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
 
-        // Update venue if provided
-        if (request.getVenue() != null && !request.getVenue().isBlank()) {
-            existingMatch.setVenue(request.getVenue());
-        }
+            // Keep a copy of the old state for listeners (standings etc.)
+            Match previousMatch = existingMatch.toBuilder().build();
 
-        // Update date if provided
-        if (request.getDate() != null) {
-            existingMatch.setDate(request.getDate());
-        }
+            // Get current teams for validation (both together)
+            CompletableFuture<Optional<Team>> currentFirstTeamLookup = parallelLookups.submit(
+                    () -> teamRepository.findById(existingMatch.getFirstTeam()));
+            CompletableFuture<Optional<Team>> currentSecondTeamLookup = parallelLookups.submit(
+                    () -> teamRepository.findById(existingMatch.getSecondTeam()));
+            Team currentFirstTeam = ParallelLookups.join(currentFirstTeamLookup).orElse(null);
+            Team currentSecondTeam = ParallelLookups.join(currentSecondTeamLookup).orElse(null);
 
-        // Update first team if provided
-        if (request.getFirstTeamName() != null && !request.getFirstTeamName().isBlank()) {
-            Team firstTeam = teamRepository.findByTeamNameIgnoreCase(request.getFirstTeamName())
-                    .orElseThrow(() -> new InvalidRequestException(
-                            FIELD_FIRST_TEAM_NAME,
-                            FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getFirstTeamName()));
+            // Update venue if provided
+            if (request.getVenue() != null && !request.getVenue().isBlank()) {
+                existingMatch.setVenue(request.getVenue());
+            }
 
-            // Validate not same as second team
-            if (firstTeam.getId().equals(existingMatch.getSecondTeam())) {
-                throw new InvalidRequestException(
-                        FIELD_FIRST_TEAM_NAME,
-                        "First team and second team cannot be the same");
+            // Update date if provided
+            if (request.getDate() != null) {
+                existingMatch.setDate(request.getDate());
             }
 
-            existingMatch.setFirstTeam(firstTeam.getId());
-            currentFirstTeam = firstTeam;
-        }
+            // Update first team if provided
+            if (hasFirstTeamName) {
+                Team firstTeam = ParallelLookups.join(firstTeamLookup);
 
-        // Update second team if provided
-        if (request.getSecondTeamName() != null && !request.getSecondTeamName().isBlank()) {
-            Team secondTeam = teamRepository.findByTeamNameIgnoreCase(request.getSecondTeamName())
-                    .orElseThrow(() -> new InvalidRequestException(
-                            FIELD_SECOND_TEAM_NAME,
-                            FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getSecondTeamName()));
+                // Validate not same as second team
+                if (firstTeam.getId().equals(existingMatch.getSecondTeam())) {
+                    throw new InvalidRequestException(
+                            FIELD_FIRST_TEAM_NAME,
+                            "First team and second team cannot be the same");
+                }
 
-            // Validate not same as first team
-            if (secondTeam.getId().equals(existingMatch.getFirstTeam())) {
-                throw new InvalidRequestException(
-                        FIELD_SECOND_TEAM_NAME,
-                        "First team and second team cannot be the same");
+                existingMatch.setFirstTeam(firstTeam.getId());
+                currentFirstTeam = firstTeam;
             }
 
-            existingMatch.setSecondTeam(secondTeam.getId());
-            currentSecondTeam = secondTeam;
-        }
+            // Update second team if provided
+            if (hasSecondTeamName) {
+                Team secondTeam = ParallelLookups.join(secondTeamLookup);
 
-        // Update status if provided
-        if (request.getStatus() != null && !request.getStatus().isBlank()) {
-            // If changing to COMPLETED, result must be provided
-            if (FIELD_COMPLETED.equals(request.getStatus()) &&
-                    existingMatch.getResult() == null &&
-                    request.getResult() == null) {
-                throw new InvalidRequestException(
-                        "result",
-                        "Result is required when changing match status to COMPLETED");
-            }
+                // Validate not same as first team
+                if (secondTeam.getId().equals(existingMatch.getFirstTeam())) {
+                    throw new InvalidRequestException(
+                            FIELD_SECOND_TEAM_NAME,
+                            "First team and second team cannot be the same");
+                }
 
-            // If changing to SCHEDULED, clear result
-            if (FIELD_SCHEDULED.equals(request.getStatus())) {
-                existingMatch.setResult(null);
+                existingMatch.setSecondTeam(secondTeam.getId());
+                currentSecondTeam = secondTeam;
             }
 
-            existingMatch.setStatus(request.getStatus());
-        }
+            // Update status if provided
+            if (request.getStatus() != null && !request.getStatus().isBlank()) {
+                // If changing to COMPLETED, result must be provided
+                if (FIELD_COMPLETED.equals(request.getStatus()) &&
+                        existingMatch.getResult() == null &&
+                        request.getResult() == null) {
+                    throw new InvalidRequestException(
+                            "result",
+                            "Result is required when changing match status to COMPLETED");
+                }
 
-        // Update result if provided
-        if (request.getResult() != null) {
-            // Validate match is COMPLETED or being changed to COMPLETED
-            String effectiveStatus = request.getStatus() != null ? request.getStatus() : existingMatch.getStatus();
-            if (!FIELD_COMPLETED.equals(effectiveStatus)) {
-                throw new InvalidRequestException(
-                        "result",
-                        "Result can only be set for COMPLETED matches");
+                // If changing to SCHEDULED, clear result
+                if (FIELD_SCHEDULED.equals(request.getStatus())) {
+                    existingMatch.setResult(null);
+                }
+
+                existingMatch.setStatus(request.getStatus());
             }
 
-            if (currentFirstTeam != null && currentSecondTeam != null) {
-                Result result = buildResult(request.getResult(), currentFirstTeam, currentSecondTeam);
-                existingMatch.setResult(result);
+            // Update result if provided
+            if (request.getResult() != null) {
+                // Validate match is COMPLETED or being changed to COMPLETED
+                String effectiveStatus = request.getStatus() != null ? request.getStatus() : existingMatch.getStatus();
+                if (!FIELD_COMPLETED.equals(effectiveStatus)) {
+                    throw new InvalidRequestException(
+                            "result",
+                            "Result can only be set for COMPLETED matches");
+                }
+
+                if (currentFirstTeam != null && currentSecondTeam != null) {
+                    Result result = buildResult(request.getResult(), currentFirstTeam, currentSecondTeam,
+                            ParallelLookups.join(manOfTheMatchLookup));
+                    existingMatch.setResult(result);
+                }
             }
-        }
   
-        Match updatedMatch = matchRepository.save(existingMatch);  
+            Match updatedMatch = writeAndPublish(previousMatch, () -> matchRepository.save(existingMatch));
   
-        return convertToResponse(updatedMatch);  
+            return convertToResponse(updatedMatch);  
+        } finally {
+            // lookups not joined yet, e.g. when a validation failed first
+            ParallelLookups.cancel(firstTeamLookup, secondTeamLookup, manOfTheMatchLookup);
+        }
     }
 
     /**  
      * Delete match  
      */  
-    public MatchResponse deleteMatch(Integer id) {  
+    public MatchResponse deleteMatch(Long id) {  
         Match existingMatch = matchRepository.findById(id)  
                 .orElseThrow(() -> new ResourceNotFoundException(FIELD_MATCH, "id", id));
   
         // Convert to response before deleting  
         MatchResponse response = convertToResponse(existingMatch);  
   
-        matchRepository.deleteById(id);  
+        writeAndPublish(existingMatch, () -> {
+            matchRepository.deleteById(id);
+            return null;
+        });
   
         return response;  
     }  
   
+    /**
+     * Find team by name, reporting a missing team against the given request field
+     */
+    private Team findTeamByName(String teamName, String field) {
+        return teamRepository.findByTeamNameIgnoreCase(teamName)
+                .orElseThrow(() -> new InvalidRequestException(
+                        field,
+                        FIELD_TEAM_NOT_FOUND_WITH_NAME + teamName));
+    }
+
+    /**
+     * Start the man of the match lookup of a result (none without a result)
+     */
+    private CompletableFuture<Optional<Player>> lookupManOfTheMatch(ResultCreateRequest result) {
+        if (result == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return parallelLookups.submit(() -> playerRepository.findByNameIgnoreCase(result.getManOfTheMatchName()));
+    }
+
     /**  
      * Build Result entity from request  
      */  
-    private Result buildResult(ResultCreateRequest request, Team firstTeam, Team secondTeam) {  
+    Result buildResult(ResultCreateRequest request, Team firstTeam, Team secondTeam,
+            Optional<Player> manOfTheMatchByName) {
         // Validate winner team name matches one of the playing teams  
-        Integer winnerId;  
+        Long winnerId;  
         if (request.getWinner().equalsIgnoreCase(firstTeam.getTeamName())) {  
             winnerId = firstTeam.getId();  
         } else if (request.getWinner().equalsIgnoreCase(secondTeam.getTeamName())) {  
@@ -310,8 +518,8 @@ public class MatchService {
                             + secondTeam.getTeamName());  
         }  
   
-        // Find man of the match by name  
-        Player manOfTheMatch = playerRepository.findByNameIgnoreCase(request.getManOfTheMatchName())  
+        // Man of the match, looked up by name alongside the teams  
+        Player manOfTheMatch = manOfTheMatchByName
                 .orElseThrow(() -> new InvalidRequestException(  
                         "result.manOfTheMatchName",  
                         "Player not found with name: " + request.getManOfTheMatchName()));  
@@ -328,13 +536,14 @@ public class MatchService {
                 .winner(winnerId)  
                 .margin(request.getMargin())  
                 .manOfTheMatchId(manOfTheMatch.getId())  
+                .manOfTheMatchTeamId(manOfTheMatch.getTeamId())
                 .build();  
     }  
   
     /**  
      * Convert Match entity to MatchResponse DTO  
      */  
-    private MatchResponse convertToResponse(Match match) {  
+    MatchResponse convertToResponse(Match match) {  
         // Get first team name  
         String firstTeamName = getTeamName(match.getFirstTeam());  
   
@@ -358,6 +567,35 @@ public class MatchService {
                 .build();  
     }  
   
+    /**
+     * Convert Match entity to MatchResponse DTO with names resolved up front
+     */
+    MatchResponse convertToResponse(Match match, Map<Long, String> teamNames, Map<Long, String> playerNames) {
+        ResultResponse resultResponse = null;
+        if (match.getResult() != null) {
+            Result result = match.getResult();
+            resultResponse = ResultResponse.builder()
+                    .winner(nameOf(teamNames, result.getWinner()))
+                    .margin(result.getMargin())
+                    .manOfTheMatch(nameOf(playerNames, result.getManOfTheMatchId()))
+                    .build();
+        }
+
+        return MatchResponse.builder()
+                .id(match.getId())
+                .venue(match.getVenue())
+                .date(match.getDate())
+                .firstTeamName(nameOf(teamNames, match.getFirstTeam()))
+                .secondTeamName(nameOf(teamNames, match.getSecondTeam()))
+                .status(match.getStatus())
+                .result(resultResponse)
+                .build();
+    }
+
+    private static String nameOf(Map<Long, String> names, Long id) {
+        return id != null ? names.get(id) : null;
+    }
+
     /**  
      * Convert Result entity to ResultResponse DTO  
      */  
@@ -378,7 +616,7 @@ public class MatchService {
     /**  
      * Get team name from team ID  
      */  
-    private String getTeamName(Integer teamId) {  
+    private String getTeamName(Long teamId) {  
         if (teamId == null) {  
             return null;  
         }  
@@ -389,7 +627,7 @@ public class MatchService {
     /**  
      * Get player name from player ID  
      */  
-    private String getPlayerName(Integer playerId) {  
+    private String getPlayerName(Long playerId) {  
         if (playerId == null) {  
             return null;  
         }  
@@ -0,0 +1,43 @@
+package com.example.tournament_data.service;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps full recomputes of match-derived data (standings, venue stats) apart from match writes.
+ * A match write holds the gate from the write until its MatchChangedEvent listeners have returned, so a
+ * recompute either sees the write and its incremental update both, or neither of them.
+ * Match writes share the gate with each other; a recompute waits for the writes in flight and holds back new
+ * ones until it is done. Recomputes must not be started from inside a write (e.g. from a listener).
+ */
+@Component
+public class MatchWriteGate {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Run a match write together with the publication of its event
+     */
+    public <T> T write(Supplier<T> matchWrite) {
+        lock.readLock().lock();
+        try {
+            return matchWrite.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Run a full recompute with no match write in flight
+     */
+    public void recompute(Runnable recompute) {
+        lock.writeLock().lock();
+        try {
+            recompute.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
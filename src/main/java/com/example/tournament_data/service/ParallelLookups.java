@@ -0,0 +1,83 @@
+package com.example.tournament_data.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues independent repository lookups of one request concurrently, so the request waits for the slowest
+ * round trip instead of the sum of them. Results are joined in the order the caller validates them, which keeps
+ * the error a client sees the same as with sequential lookups.
+ * Every lookup gets its own virtual thread; lookups only wait on Mongo, and the connection pool
+ * (tournament.mongo.pool) is what limits how many run at once. A TaskDecorator bean, if present, carries
+ * request-scoped state (e.g. the DB call count) over to the lookup threads.
+ */
+@Component
+public class ParallelLookups implements DisposableBean {
+
+    private final Executor executor;
+
+    @Autowired
+    public ParallelLookups(ObjectProvider<TaskDecorator> taskDecorator) {
+        SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("lookup-");
+        virtualThreads.setVirtualThreads(true);
+        taskDecorator.ifUnique(virtualThreads::setTaskDecorator);
+        this.executor = virtualThreads;
+    }
+
+    ParallelLookups(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Start a lookup
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, executor);
+    }
+
+    /**
+     * Wait for a lookup and rethrow its exception as is (e.g. InvalidRequestException)
+     */
+    public static <T> T join(CompletableFuture<T> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Give up on lookups whose results are no longer needed (null and completed ones are ignored).
+     * A lookup that has not started is skipped; one already waiting on Mongo is not interrupted, which would close
+     * its pooled connection, it finishes on its own thread and its result is dropped.
+     */
+    public static void cancel(CompletableFuture<?>... lookups) {
+        for (CompletableFuture<?> lookup : lookups) {
+            if (lookup != null) {
+                lookup.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -1,14 +1,30 @@
 package com.example.tournament_data.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import com.example.tournament_data.dto.PlayerBulkCreateRequest;
 import com.example.tournament_data.dto.PlayerCreateRequest;
 import com.example.tournament_data.dto.PlayerPatchRequest;
 import com.example.tournament_data.dto.PlayerResponse;
 import com.example.tournament_data.exception.InvalidRequestException;
 import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.ids.IdGenerator;
 import com.example.tournament_data.model.Player;
 import com.example.tournament_data.model.Stats;
 import com.example.tournament_data.model.Team;
@@ -22,9 +38,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PlayerService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PlayerService.class);
+
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
-    private final SequenceGeneratorService sequenceGeneratorService;
+    private final IdGenerator idGenerator;
+    private final SequenceReservationService sequenceReservationService;
+    private final MongoTemplate mongoTemplate;
+
+    static final int MAX_PAGE_SIZE = 100;
 
     private static final int MAX_TEAM_PLAYERS = 25;
     private static final String FIELD_NAME = "name";
@@ -36,6 +58,39 @@ public class PlayerService {
      * Create a new player
      */
     public PlayerResponse create(@Valid PlayerCreateRequest request) {
+        if (request.getId() != null) {
+            throw new InvalidRequestException(
+                    "id",
+                    "Ids can only be supplied to the bulk create, together with their reservation");
+        }
+        return create(request, null);
+    }
+
+    /**
+     * Create players with pre-reserved ids, in request order.
+     * Players already created with their id (by an earlier attempt of the same sync) are returned as they are,
+     * as long as they have the same name and team; reserved ids are inserted, never upserted, so a retry racing
+     * the original request cannot create or overwrite a player twice. An attempt that stopped between inserting the
+     * player and adding it to its team is repaired: team membership is always set with $addToSet.
+     */
+    public List<PlayerResponse> bulkCreate(@Valid PlayerBulkCreateRequest request) {
+        List<Long> ids = request.getPlayers().stream().map(PlayerCreateRequest::getId).toList();
+        sequenceReservationService.validate(request.getReservationId(), Player.SEQUENCE_NAME, ids);
+
+        // Single DB call for the players that already exist
+        Map<Long, Player> existing = playerRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        List<PlayerResponse> players = new ArrayList<>(ids.size());
+        for (PlayerCreateRequest player : request.getPlayers()) {
+            Player created = existing.get(player.getId());
+            players.add(created != null ? alreadyCreated(created, player) : create(player, player.getId()));
+        }
+        return players;
+    }
+
+    private PlayerResponse create(PlayerCreateRequest request, Long reservedId) {
         // Team name is required - find team by name
         Team team = teamRepository.findByTeamNameIgnoreCase(request.getTeamName())
                 .orElseThrow(() -> new InvalidRequestException(
@@ -43,7 +98,11 @@ public class PlayerService {
                         FIELD_TEAM_NOT_FOUND_WITH_NAME + request.getTeamName()));
 
         // Check if player with same name already exists in this team
-        for (Integer existingPlayerId : team.getPlayerIds()) {
+        for (Long existingPlayerId : team.getPlayerIds()) {
+            if (existingPlayerId.equals(reservedId)) {
+                // created by a concurrent attempt of the same sync
+                return alreadyCreated(playerRepository.findById(reservedId).orElseThrow(), request);
+            }
             Player existingPlayer = playerRepository.findById(existingPlayerId).orElse(null);
             if (existingPlayer != null && existingPlayer.getName().equalsIgnoreCase(request.getName())) {
                 throw new InvalidRequestException(
@@ -60,8 +119,8 @@ public class PlayerService {
                     "Team '" + team.getTeamName() + "' has reached maximum player limit of 25");
         }
 
-        // Generate auto-incremented ID
-        Integer playerId = sequenceGeneratorService.generateSequence(Player.SEQUENCE_NAME);
+        // Generate auto-incremented ID (or take the reserved one)
+        Long playerId = reservedId != null ? reservedId : idGenerator.nextId(Player.SEQUENCE_NAME);
 
         // Build Stats with defaults if not provided
         Stats stats = buildStats(request.getStats());
@@ -77,16 +136,52 @@ public class PlayerService {
                 .stats(stats)
                 .build();
 
-        // Save the player
-        Player savedPlayer = playerRepository.save(player);
+        // Save the player, a reserved id is inserted so a concurrent attempt with the same id fails instead of replacing it
+        Player savedPlayer;
+        if (reservedId == null) {
+            savedPlayer = playerRepository.save(player);
+        } else {
+            try {
+                savedPlayer = playerRepository.insert(player);
+            } catch (DuplicateKeyException ex) {
+                return alreadyCreated(playerRepository.findById(reservedId).orElseThrow(), request);
+            }
+        }
 
         // Add player to team's playerIds list
-        team.getPlayerIds().add(savedPlayer.getId());
-        teamRepository.save(team);
+        if (reservedId == null) {
+            team.getPlayerIds().add(savedPlayer.getId());
+            teamRepository.save(team);
+        } else {
+            addToTeam(savedPlayer);
+        }
 
         return convertToResponse(savedPlayer);
     }
 
+    // a player stored under a reserved id is only the same player if name and team match the request
+    private PlayerResponse alreadyCreated(Player stored, PlayerCreateRequest request) {
+        PlayerResponse response = convertToResponse(stored);
+        if (!stored.getName().equalsIgnoreCase(request.getName())
+                || response.getTeamName() == null
+                || !response.getTeamName().equalsIgnoreCase(request.getTeamName())) {
+            throw new InvalidRequestException(
+                    "id",
+                    "Id " + stored.getId() + " is already used by a different player");
+        }
+        // the attempt that inserted it may have failed before adding it to the team
+        addToTeam(stored);
+        return response;
+    }
+
+    // idempotent, and unlike saving the loaded team it cannot drop players added by a concurrent attempt
+    private void addToTeam(Player player) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(player.getTeamId())),
+                new Update().addToSet("playerIds", player.getId()),
+                Team.class);
+    }
+
     /**
      * Get all players
      */
@@ -97,10 +192,98 @@ public class PlayerService {
                 .toList();
     }
 
+    /**
+     * Filter players, one page at a time.
+     * Every query has to start from an index: teamId (team_role_id), role (role_styles_id) or minRuns
+     * (stats_runsScored_desc_id). Batting/bowling style alone would scan the whole collection and is rejected.
+     * Results are sorted in the key order of that index (ending in _id), so the planner picks it and pages come
+     * straight off the index without an in-memory sort. No hint is given: the indexes are created in the background
+     * (or not at all), and a hint naming a missing index fails the query.
+     */
+    public List<PlayerResponse> filterPlayers(String role, String battingStyle, String bowlingStyle, Long teamId,
+            Integer minRuns, int page, int size) {
+        if (page < 0) {
+            throw new InvalidRequestException(
+                    "page",
+                    "Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(
+                    "size",
+                    "Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (minRuns != null && minRuns < 0) {
+            throw new InvalidRequestException(
+                    "minRuns",
+                    "Minimum runs must not be negative");
+        }
+
+        boolean hasRole = role != null && !role.isBlank();
+        boolean hasStyle = (battingStyle != null && !battingStyle.isBlank())
+                || (bowlingStyle != null && !bowlingStyle.isBlank());
+        if (hasStyle && !hasRole && teamId == null && minRuns == null) {
+            throw new InvalidRequestException(
+                    "battingStyle",
+                    "Batting or bowling style must be combined with role, teamId or minRuns");
+        }
+        if (hasRole && teamId == null && minRuns == null) {
+            logger.warn("Player filter on role '{}' alone reads a large share of the role index", role);
+        }
+
+        Criteria criteria = new Criteria();
+        if (teamId != null) {
+            criteria = criteria.and("teamId").is(teamId);
+        }
+        if (hasRole) {
+            criteria = criteria.and("role").is(role);
+        }
+        if (battingStyle != null && !battingStyle.isBlank()) {
+            criteria = criteria.and("battingStyle").is(battingStyle);
+        }
+        if (bowlingStyle != null && !bowlingStyle.isBlank()) {
+            criteria = criteria.and("bowlingStyle").is(bowlingStyle);
+        }
+        if (minRuns != null) {
+            criteria = criteria.and("stats.runsScored").gte(minRuns);
+        }
+
+        // sort in the key order of the index the filter starts from
+        Sort sort;
+        if (teamId != null) {
+            sort = Sort.by(Sort.Direction.ASC, "teamId", "role", "_id");
+        } else if (hasRole) {
+            sort = Sort.by(Sort.Direction.ASC, "role", "battingStyle", "bowlingStyle", "_id");
+        } else if (minRuns != null) {
+            sort = Sort.by(Sort.Order.desc("stats.runsScored"), Sort.Order.asc("_id"));
+        } else {
+            // without filters the _id index drives the paging
+            sort = Sort.by(Sort.Direction.ASC, "_id");
+        }
+
+        Query query = new Query(criteria)
+                .with(sort)
+                .skip((long) page * size)
+                .limit(size);
+        query.fields().include(FIELD_NAME, "teamId", "role", "battingStyle", "bowlingStyle", "stats");
+
+        List<Player> players = mongoTemplate.find(query, Player.class);
+
+        // Single DB call for all team names
+        Map<Long, String> teamNames = new HashMap<>();
+        List<Long> teamIds = players.stream().map(Player::getTeamId).filter(Objects::nonNull).distinct().toList();
+        if (!teamIds.isEmpty()) {
+            teamRepository.findAllById(teamIds).forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+        }
+
+        return players.stream()
+                .map(player -> convertToResponse(player, teamNames.get(player.getTeamId())))
+                .toList();
+    }
+
     /**
      * Get player by ID
      */
-    public PlayerResponse getPlayerById(Integer id) {
+    public PlayerResponse getPlayerById(Long id) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(FIELD_PLAYER, "id", id));
 
@@ -110,7 +293,7 @@ public class PlayerService {
     /**
      * Update player (full update)
      */
-    public PlayerResponse updatePlayer(Integer id, @Valid PlayerCreateRequest request) {
+    public PlayerResponse updatePlayer(Long id, @Valid PlayerCreateRequest request) {
         // Find existing player
         Player existingPlayer = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(FIELD_PLAYER, "id", id));
@@ -130,9 +313,9 @@ public class PlayerService {
         return convertToResponse(updatedPlayer);
     }
 
-    private void handleTeamTransfer(Player player, Team newTeam, Integer playerId) {
-        Integer oldTeamId = player.getTeamId();
-        Integer newTeamId = newTeam.getId();
+    private void handleTeamTransfer(Player player, Team newTeam, Long playerId) {
+        Long oldTeamId = player.getTeamId();
+        Long newTeamId = newTeam.getId();
 
         if (shouldTransferTeam(oldTeamId, newTeamId)) {
             removePlayerFromOldTeam(playerId, oldTeamId);
@@ -142,11 +325,11 @@ public class PlayerService {
         }
     }
 
-    private boolean shouldTransferTeam(Integer oldTeamId, Integer newTeamId) {
+    private boolean shouldTransferTeam(Long oldTeamId, Long newTeamId) {
         return oldTeamId != null && !oldTeamId.equals(newTeamId);
     }
 
-    private void addPlayerToTeam(Integer playerId, Team team) {
+    private void addPlayerToTeam(Long playerId, Team team) {
         if (!team.getPlayerIds().contains(playerId)) {
             team.getPlayerIds().add(playerId);
             teamRepository.save(team);
@@ -155,7 +338,7 @@ public class PlayerService {
 
 // ==================== Validation ====================
 
-    private void validateNameNotDuplicateInTeam(Team team, String name, Integer excludePlayerId) {
+    private void validateNameNotDuplicateInTeam(Team team, String name, Long excludePlayerId) {
         // Batch fetch all team players (optimized - avoids N+1)
         List<Player> teamPlayers = playerRepository.findByIdIn(team.getPlayerIds());
 
@@ -172,7 +355,7 @@ public class PlayerService {
 
 // ==================== Update Fields ====================
 
-    private void updatePlayerFields(Player player, PlayerCreateRequest request, Integer newTeamId) {
+    private void updatePlayerFields(Player player, PlayerCreateRequest request, Long newTeamId) {
         player.setName(request.getName());
         player.setTeamId(newTeamId);
         player.setRole(request.getRole());
@@ -184,7 +367,7 @@ public class PlayerService {
     /**
      * Patch player (partial update)
      */
-    public PlayerResponse patchPlayer(Integer id, PlayerPatchRequest request) {
+    public PlayerResponse patchPlayer(Long id, PlayerPatchRequest request) {
         // Find existing player
         Player existingPlayer = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(FIELD_PLAYER, "id", id));
@@ -199,7 +382,7 @@ public class PlayerService {
         return convertToResponse(updatedPlayer);
     }
 
-    private void updateName(Player player, String newName, Integer playerId) {
+    private void updateName(Player player, String newName, Long playerId) {
         if (newName == null || newName.isBlank()) {
             return;
         }
@@ -208,7 +391,7 @@ public class PlayerService {
         player.setName(newName);
     }
 
-    private void validateNameNotDuplicateInTeam(Integer teamId, String name, Integer excludePlayerId) {
+    private void validateNameNotDuplicateInTeam(Long teamId, String name, Long excludePlayerId) {
         if (teamId == null) {
             return;
         }
@@ -260,14 +443,14 @@ public class PlayerService {
 
     // ==================== Update Team ====================
 
-    private void updateTeam(Player player, String teamName, Integer playerId) {
+    private void updateTeam(Player player, String teamName, Long playerId) {
         if (teamName == null || teamName.isBlank()) {
             return;
         }
 
         Team newTeam = findTeamByName(teamName);
-        Integer oldTeamId = player.getTeamId();
-        Integer newTeamId = newTeam.getId();
+        Long oldTeamId = player.getTeamId();
+        Long newTeamId = newTeam.getId();
 
         if (isTeamChanged(oldTeamId, newTeamId)) {
             transferPlayerToNewTeam(playerId, oldTeamId, newTeam);
@@ -282,16 +465,16 @@ public class PlayerService {
                         FIELD_TEAM_NOT_FOUND_WITH_NAME + teamName));
     }
 
-    private boolean isTeamChanged(Integer oldTeamId, Integer newTeamId) {
+    private boolean isTeamChanged(Long oldTeamId, Long newTeamId) {
         return oldTeamId == null || !oldTeamId.equals(newTeamId);
     }
 
-    private void transferPlayerToNewTeam(Integer playerId, Integer oldTeamId, Team newTeam) {
+    private void transferPlayerToNewTeam(Long playerId, Long oldTeamId, Team newTeam) {
         removePlayerFromOldTeam(playerId, oldTeamId);
         addPlayerToNewTeam(playerId, newTeam);
     }
 
-    private void removePlayerFromOldTeam(Integer playerId, Integer oldTeamId) {
+    private void removePlayerFromOldTeam(Long playerId, Long oldTeamId) {
         if (oldTeamId == null) {
             return;
         }
@@ -303,13 +486,13 @@ public class PlayerService {
         });
     }
 
-    private void clearCaptainIfNeeded(Team team, Integer playerId) {
+    private void clearCaptainIfNeeded(Team team, Long playerId) {
         if (playerId.equals(team.getCaptainId())) {
             team.setCaptainId(null);
         }
     }
 
-    private void addPlayerToNewTeam(Integer playerId, Team newTeam) {
+    private void addPlayerToNewTeam(Long playerId, Team newTeam) {
         validateTeamPlayerLimit(newTeam);
 
         if (!newTeam.getPlayerIds().contains(playerId)) {
@@ -371,7 +554,7 @@ public class PlayerService {
     /**
      * Delete player
      */
-    public PlayerResponse deletePlayer(Integer id) {
+    public PlayerResponse deletePlayer(Long id) {
         Player existingPlayer = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(FIELD_PLAYER, "id", id));
 
@@ -402,7 +585,7 @@ public class PlayerService {
     /**
      * Convert Player entity to PlayerResponse DTO
      */
-    private PlayerResponse convertToResponse(Player player) {
+    PlayerResponse convertToResponse(Player player) {
         String teamName = null;
 
         // Get team name from teamId
@@ -413,6 +596,10 @@ public class PlayerService {
             }
         }
 
+        return convertToResponse(player, teamName);
+    }
+
+    PlayerResponse convertToResponse(Player player, String teamName) {
         return PlayerResponse.builder()
                 .id(player.getId())
                 .name(player.getName())
@@ -0,0 +1,191 @@
+package com.example.tournament_data.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.SearchSuggestion;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.search.NameSearchIndex;
+import com.example.tournament_data.search.NameSearchIndex.Kind;
+
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    static final int MAX_LIMIT = 50;
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final boolean buildOnStartup;
+
+    private volatile NameSearchIndex index = new NameSearchIndex();
+
+    // writes seen while a rebuild is streaming, replayed on the new index before it is swapped in
+    private List<Consumer<NameSearchIndex>> pendingWrites;
+
+    public SearchService(MongoTemplate mongoTemplate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${tournament.search.build-on-startup:true}") boolean buildOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+        this.buildOnStartup = buildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (buildOnStartup) {
+            taskExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Search players, teams and venues by name, tolerating typos
+     */
+    public List<SearchSuggestion> search(String query, int limit, String type) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException(
+                    "q",
+                    "Search query is required");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException(
+                    "limit",
+                    "Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Kind kind = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                kind = Kind.valueOf(type.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidRequestException(
+                        "type",
+                        "Type must be one of: PLAYER, TEAM, VENUE");
+            }
+        }
+
+        List<NameSearchIndex.Hit> hits = index.search(query, limit, kind);
+        List<SearchSuggestion> suggestions = new ArrayList<>(hits.size());
+        for (NameSearchIndex.Hit hit : hits) {
+            suggestions.add(SearchSuggestion.builder()
+                    .type(hit.kind().name())
+                    .id(hit.kind() == Kind.VENUE ? null : Long.valueOf(hit.id()))
+                    .name(hit.name())
+                    .score(hit.score())
+                    .build());
+        }
+        return suggestions;
+    }
+
+    /**
+     * Rebuild the index by streaming the name fields of all players, teams and matches
+     */
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingWrites != null) {
+                return; // already rebuilding
+            }
+            pendingWrites = new ArrayList<>();
+        }
+
+        NameSearchIndex fresh = new NameSearchIndex();
+        try {
+            try (Stream<Player> players = streamField(Player.class, "name")) {
+                players.forEach(player -> indexPlayer(fresh, player));
+            }
+            try (Stream<Team> teams = streamField(Team.class, "teamName")) {
+                teams.forEach(team -> indexTeam(fresh, team));
+            }
+            try (Stream<Match> matches = streamField(Match.class, "venue")) {
+                matches.forEach(match -> fresh.putMatchVenue(match.getId(), match.getVenue()));
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Could not build search index: {}", ex.getMessage());
+            synchronized (this) {
+                pendingWrites = null;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            pendingWrites.forEach(write -> write.accept(fresh));
+            pendingWrites = null;
+            index = fresh;
+        }
+        logger.info("Search index built with {} entries", fresh.size());
+    }
+
+    /**
+     * Keep the index in sync with every saved player, team and match
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        Object source = event.getSource();
+        if (source instanceof Player player) {
+            apply(target -> indexPlayer(target, player));
+        } else if (source instanceof Team team) {
+            apply(target -> indexTeam(target, team));
+        } else if (source instanceof Match match) {
+            apply(target -> target.putMatchVenue(match.getId(), match.getVenue()));
+        }
+    }
+
+    /**
+     * Drop deleted players, teams and matches, deletes only carry the id filter
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (!(event.getDocument().get("_id") instanceof Number id)) {
+            return;
+        }
+        Class<?> type = event.getType();
+        if (type == Player.class) {
+            apply(target -> target.remove(Kind.PLAYER, id.toString()));
+        } else if (type == Team.class) {
+            apply(target -> target.remove(Kind.TEAM, id.toString()));
+        } else if (type == Match.class) {
+            apply(target -> target.removeMatchVenue(id.longValue()));
+        }
+    }
+
+    private synchronized void apply(Consumer<NameSearchIndex> write) {
+        write.accept(index);
+        if (pendingWrites != null) {
+            pendingWrites.add(write);
+        }
+    }
+
+    private <T> Stream<T> streamField(Class<T> entityClass, String field) {
+        Query query = new Query();
+        query.fields().include(field);
+        return mongoTemplate.stream(query, entityClass);
+    }
+
+    private static void indexPlayer(NameSearchIndex target, Player player) {
+        target.put(Kind.PLAYER, player.getId().toString(), player.getName());
+    }
+
+    private static void indexTeam(NameSearchIndex target, Team team) {
+        target.put(Kind.TEAM, team.getId().toString(), team.getTeamName());
+    }
+}
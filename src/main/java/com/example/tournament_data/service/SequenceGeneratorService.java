@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import com.example.tournament_data.exception.InvalidRequestException;
 import com.example.tournament_data.model.DatabaseSequence;
 
 import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
@@ -32,6 +33,25 @@ public class SequenceGeneratorService {
         return counter != null ? counter.getSeq() : 1;
     }
 
+    /**
+     * Reserve count consecutive values in a single round trip, returns the first of them
+     */
+    public Integer reserveBlock(String seqName, int count) {
+        if (count < 1) {
+            throw new InvalidRequestException(
+                    "count",
+                    "Count must be at least 1");
+        }
+
+        DatabaseSequence counter = mongoOperations.findAndModify(
+                Query.query(Criteria.where("_id").is(seqName)),
+                new Update().inc("seq", count),
+                options().returnNew(true).upsert(true),
+                DatabaseSequence.class);
+
+        return counter != null ? counter.getSeq() - count + 1 : 1;
+    }
+
     /**
      * Get current sequence value without incrementing
      */
@@ -43,6 +63,17 @@ public class SequenceGeneratorService {
         return counter != null ? counter.getSeq() : 0;
     }
 
+    /**
+     * Move sequence forward to at least the given value, never backwards
+     */
+    public void advanceSequence(String seqName, Integer value) {
+        mongoOperations.findAndModify(
+                Query.query(Criteria.where("_id").is(seqName)),
+                new Update().max("seq", value),
+                options().upsert(true),
+                DatabaseSequence.class);
+    }
+
     /**
      * Reset sequence to a specific value (useful for testing)
      */
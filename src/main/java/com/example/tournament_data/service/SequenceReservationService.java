@@ -0,0 +1,116 @@
+package com.example.tournament_data.service;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.SequenceReservationResponse;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.SequenceReservation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reserves contiguous id blocks for clients that create players and matches offline.
+ * The block is taken from the entity's sequence with one increment, so nothing else is ever given those ids,
+ * and recorded in sequence_reservations; bulk creates only accept ids of a recorded block.
+ */
+@Service
+@RequiredArgsConstructor
+public class SequenceReservationService {
+
+    static final int MAX_COUNT = 1000;
+
+    private static final String FIELD_RESERVATION_ID = "reservationId";
+
+    // entities that can be created in bulk, by the name used in the API
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "players", Player.SEQUENCE_NAME,
+            "matches", Match.SEQUENCE_NAME);
+
+    private final SequenceGeneratorService sequenceGeneratorService;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Reserve count consecutive ids of the named entities
+     */
+    public SequenceReservationResponse reserve(String name, int count) {
+        String sequence = SEQUENCES.get(name);
+        if (sequence == null) {
+            throw new InvalidRequestException(
+                    "name",
+                    "Name must be one of: players, matches");
+        }
+        if (count < 1 || count > MAX_COUNT) {
+            throw new InvalidRequestException(
+                    "count",
+                    "Count must be between 1 and " + MAX_COUNT);
+        }
+
+        long firstId = sequenceGeneratorService.reserveBlock(sequence, count);
+        SequenceReservation reservation = mongoTemplate.insert(SequenceReservation.builder()
+                .sequence(sequence)
+                .firstId(firstId)
+                .lastId(firstId + count - 1)
+                .createdAt(Instant.now())
+                .build());
+
+        return SequenceReservationResponse.builder()
+                .reservationId(reservation.getId())
+                .name(name)
+                .firstId(reservation.getFirstId())
+                .lastId(reservation.getLastId())
+                .count(count)
+                .createdAt(reservation.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Check that every id is given once and belongs to the reservation, which must be a block of the sequence
+     */
+    public void validate(String reservationId, String sequence, List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_COUNT) {
+            throw new InvalidRequestException(
+                    "items",
+                    "Number of items must be between 1 and " + MAX_COUNT);
+        }
+
+        SequenceReservation reservation = mongoTemplate.findById(reservationId, SequenceReservation.class);
+        if (reservation == null) {
+            throw new ResourceNotFoundException("Reservation", "id", reservationId);
+        }
+        if (!sequence.equals(reservation.getSequence())) {
+            throw new InvalidRequestException(
+                    FIELD_RESERVATION_ID,
+                    "Reservation " + reservationId + " is not for " + sequence);
+        }
+
+        Set<Long> seen = new HashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new InvalidRequestException(
+                        "id",
+                        "Every item needs an id from reservation " + reservationId);
+            }
+            if (id < reservation.getFirstId() || id > reservation.getLastId()) {
+                throw new InvalidRequestException(
+                        "id",
+                        "Id " + id + " is outside of reservation " + reservationId + " ("
+                                + reservation.getFirstId() + "-" + reservation.getLastId() + ")");
+            }
+            if (!seen.add(id)) {
+                throw new InvalidRequestException(
+                        "id",
+                        "Id " + id + " is used more than once");
+            }
+        }
+    }
+}
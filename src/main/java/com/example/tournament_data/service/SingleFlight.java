@@ -0,0 +1,83 @@
+package com.example.tournament_data.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for an operation and key runs the query, callers
+ * arriving while it is in flight wait for and share its result (or exception). Nothing is kept once the query
+ * completes, so this is not a cache, it only collapses bursts.
+ * Shared results are handed to every waiter as is and must not be modified by callers.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    static final String METRIC_REQUESTS = "tournament.singleflight.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private record FlightKey(String operation, Object key) {
+    }
+
+    /**
+     * Run the loader, or join the identical call already in flight
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+
+        if (leader != null) {
+            counter(operation, "coalesced").increment();
+            return (T) ParallelLookups.join(leader);
+        }
+
+        counter(operation, "leader").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * A write may land after an in-flight read has passed it; later callers start a fresh read instead of joining
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        inFlight.clear();
+    }
+
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        inFlight.clear();
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder(METRIC_REQUESTS)
+                .description("Reads served by a single-flight query, by who ran the query")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.tournament_data.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.StandingResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Standing;
+import com.example.tournament_data.repository.TeamRepository;
+
+@Service
+public class StandingsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsService.class);
+
+    static final int POINTS_FOR_WIN = 2;
+
+    private static final String FIELD_COMPLETED = "COMPLETED";
+    private static final String FIELD_POINTS = "points";
+    private static final String FIELD_WON = "won";
+
+    private final MongoTemplate mongoTemplate;
+    private final TeamRepository teamRepository;
+    private final MatchWriteGate matchWriteGate;
+    private final TaskExecutor taskExecutor;
+    private final boolean buildOnStartup;
+
+    public StandingsService(MongoTemplate mongoTemplate,
+            TeamRepository teamRepository,
+            MatchWriteGate matchWriteGate,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${tournament.standings.build-on-startup:true}") boolean buildOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.teamRepository = teamRepository;
+        this.matchWriteGate = matchWriteGate;
+        this.taskExecutor = taskExecutor;
+        this.buildOnStartup = buildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (buildOnStartup) {
+            taskExecutor.execute(this::buildIfEmpty);
+        }
+    }
+
+    /**
+     * Build the table once, for databases with matches written before standings were maintained
+     */
+    public void buildIfEmpty() {
+        try {
+            if (!mongoTemplate.exists(new Query(), Standing.class)) {
+                rebuild();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Could not build the points table: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Keep the points table in step with match writes: revert the old result, apply the new one.
+     * Runs inside the match write (MatchWriteGate), so it never interleaves with a rebuild.
+     */
+    @EventListener
+    public void onMatchChanged(MatchChangedEvent event) {
+        Match previous = event.previous();
+        Match current = event.current();
+
+        // e.g. only venue or date changed, the table stays the same
+        if (isCompleted(previous) && isCompleted(current) && sameOutcome(previous, current)) {
+            return;
+        }
+
+        if (isCompleted(previous)) {
+            applyResult(previous, -1);
+        }
+        if (isCompleted(current)) {
+            applyResult(current, 1);
+        }
+    }
+
+    /**
+     * Get points table ordered by points, then wins
+     */
+    public List<StandingResponse> getStandings() {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, FIELD_POINTS, FIELD_WON));
+        List<Standing> standings = mongoTemplate.find(query, Standing.class);
+
+        // Single DB call for all team names
+        Map<Long, String> teamNames = new HashMap<>();
+        teamRepository.findAllById(standings.stream().map(Standing::getTeamId).toList())
+                .forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+
+        List<StandingResponse> table = new ArrayList<>(standings.size());
+        for (Standing standing : standings) {
+            table.add(StandingResponse.builder()
+                    .position(table.size() + 1)
+                    .teamId(standing.getTeamId())
+                    .teamName(teamNames.get(standing.getTeamId()))
+                    .played(standing.getPlayed())
+                    .won(standing.getWon())
+                    .lost(standing.getLost())
+                    .points(standing.getPoints())
+                    .build());
+        }
+        return table;
+    }
+
+    /**
+     * Rebuild the whole points table from the completed matches.
+     * Match writes and their incremental updates are held back while the table is aggregated and written
+     * (MatchWriteGate), so none of them is lost or counted twice. Rows are replaced one by one (upsert),
+     * so readers never see an empty table.
+     */
+    public List<StandingResponse> rebuild() {
+        matchWriteGate.recompute(this::replaceTable);
+        return getStandings();
+    }
+
+    private void replaceTable() {
+        List<Standing> table = aggregateTable();
+
+        if (!table.isEmpty()) {
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Standing.class);
+            for (Standing standing : table) {
+                bulkOps.replaceOne(byTeam(standing.getTeamId()), standing, FindAndReplaceOptions.options().upsert());
+            }
+            bulkOps.execute();
+        }
+
+        // teams without any completed match left
+        List<Long> teamIds = table.stream().map(Standing::getTeamId).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").nin(teamIds)), Standing.class);
+    }
+
+    private List<Standing> aggregateTable() {
+        // Aggregation pipeline has 5 stages -> match, project (winner+loser rows), unwind, group (team), addFields
+
+        // 1. match completed matches with a winner
+        AggregationOperation matchStage = context -> new Document("$match", new Document()
+                .append("status", FIELD_COMPLETED)
+                .append("result.winner", new Document("$ne", null)));
+
+        // 2. project -> one row for the winner and one for the loser
+        Document loser = new Document("$cond", List.of(
+                new Document("$eq", List.of("$result.winner", "$firstTeam")), "$secondTeam", "$firstTeam"));
+        AggregationOperation rowsStage = context -> new Document("$project", new Document("rows", List.of(
+                new Document().append("teamId", "$result.winner").append(FIELD_WON, 1).append("lost", 0),
+                new Document().append("teamId", loser).append(FIELD_WON, 0).append("lost", 1))));
+
+        // 3. unwind
+        AggregationOperation unwindStage = context -> new Document("$unwind", "$rows");
+
+        // 4. group per team
+        AggregationOperation groupStage = context -> new Document("$group", new Document()
+                .append("_id", "$rows.teamId")
+                .append("played", new Document("$sum", 1))
+                .append(FIELD_WON, new Document("$sum", "$rows.won"))
+                .append("lost", new Document("$sum", "$rows.lost")));
+
+        // 5. addFields -> points
+        AggregationOperation pointsStage = context -> new Document("$addFields",
+                new Document(FIELD_POINTS, new Document("$multiply", List.of("$won", POINTS_FOR_WIN))));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                matchStage, rowsStage, unwindStage, groupStage, pointsStage);
+
+        return mongoTemplate.aggregate(aggregation, "matches", Standing.class).getMappedResults();
+    }
+
+    private void applyResult(Match match, int sign) {
+        Long winner = match.getResult().getWinner();
+        Long loser = loserOf(match);
+        Update winnerUpdate = new Update()
+                .inc("played", sign)
+                .inc(FIELD_WON, sign)
+                .inc(FIELD_POINTS, sign * POINTS_FOR_WIN);
+        Update loserUpdate = new Update()
+                .inc("played", sign)
+                .inc("lost", sign);
+
+        // both rows in one round trip
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Standing.class);
+        if (sign > 0) {
+            bulkOps.upsert(byTeam(winner), winnerUpdate);
+            bulkOps.upsert(byTeam(loser), loserUpdate);
+        } else {
+            // a revert only touches rows that still count the result, it never creates a row or drives one negative
+            bulkOps.updateOne(byTeam(winner).addCriteria(Criteria.where(FIELD_WON).gt(0)), winnerUpdate);
+            bulkOps.updateOne(byTeam(loser).addCriteria(Criteria.where("lost").gt(0)), loserUpdate);
+        }
+        bulkOps.execute();
+    }
+
+    private static Query byTeam(Long teamId) {
+        return Query.query(Criteria.where("_id").is(teamId));
+    }
+
+    private static Long loserOf(Match match) {
+        Long winner = match.getResult().getWinner();
+        return winner.equals(match.getFirstTeam()) ? match.getSecondTeam() : match.getFirstTeam();
+    }
+
+    private boolean isCompleted(Match match) {
+        return match != null
+                && FIELD_COMPLETED.equals(match.getStatus())
+                && match.getResult() != null
+                && match.getResult().getWinner() != null;
+    }
+
+    private static boolean sameOutcome(Match previous, Match current) {
+        return Objects.equals(previous.getResult().getWinner(), current.getResult().getWinner())
+                && Objects.equals(loserOf(previous), loserOf(current));
+    }
+}
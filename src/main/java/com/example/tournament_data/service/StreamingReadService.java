@@ -0,0 +1,142 @@
+package com.example.tournament_data.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.MatchResponse;
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.dto.ResultResponse;
+import com.example.tournament_data.dto.TeamResponse;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Team;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read path for the list endpoints.
+ * Documents are mapped to the same DTOs as the blocking services and emitted as they arrive from the cursor;
+ * names of referenced documents are resolved per small batch so the first element is not held back by a full
+ * collection read.
+ */
+@Service
+@RequiredArgsConstructor
+public class StreamingReadService {
+
+    static final int BATCH_SIZE = 100;
+
+    // upper bound a resolved batch waits to fill up before it is emitted anyway
+    static final Duration BATCH_WAIT = Duration.ofMillis(20);
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    /**
+     * Stream all players
+     */
+    public Flux<PlayerResponse> streamPlayers() {
+        // team names are a small lookup shared by every player
+        return teamNames().flatMapMany(teamNames -> reactiveMongoTemplate.find(byId(), Player.class)
+                .map(player -> PlayerResponse.builder()
+                        .id(player.getId())
+                        .name(player.getName())
+                        .teamName(player.getTeamId() != null ? teamNames.get(player.getTeamId()) : null)
+                        .role(player.getRole())
+                        .battingStyle(player.getBattingStyle())
+                        .bowlingStyle(player.getBowlingStyle())
+                        .stats(player.getStats())
+                        .build()));
+    }
+
+    /**
+     * Stream all teams
+     */
+    public Flux<TeamResponse> streamTeams() {
+        return reactiveMongoTemplate.find(byId(), Team.class)
+                .bufferTimeout(BATCH_SIZE, BATCH_WAIT)
+                .concatMap(teams -> playerNames(teams.stream()
+                        .flatMap(team -> playerIdsOf(team).stream())
+                        .toList())
+                        .flatMapIterable(playerNames -> teams.stream()
+                                .map(team -> TeamResponse.builder()
+                                        .id(team.getId())
+                                        .teamName(team.getTeamName())
+                                        .homeGround(team.getHomeGround())
+                                        .coach(team.getCoach())
+                                        .captainName(team.getCaptainId() != null ? playerNames.get(team.getCaptainId()) : null)
+                                        .playerNames(playerIdsOf(team).stream()
+                                                .map(playerNames::get)
+                                                .filter(Objects::nonNull)
+                                                .toList())
+                                        .build())
+                                .toList()));
+    }
+
+    /**
+     * Stream all matches
+     */
+    public Flux<MatchResponse> streamMatches() {
+        return teamNames().flatMapMany(teamNames -> reactiveMongoTemplate.find(byId(), Match.class)
+                .bufferTimeout(BATCH_SIZE, BATCH_WAIT)
+                .concatMap(matches -> playerNames(matches.stream()
+                        .map(Match::getResult)
+                        .filter(Objects::nonNull)
+                        .map(Result::getManOfTheMatchId)
+                        .filter(Objects::nonNull)
+                        .toList())
+                        .flatMapIterable(playerNames -> matches.stream()
+                                .map(match -> MatchResponse.builder()
+                                        .id(match.getId())
+                                        .venue(match.getVenue())
+                                        .date(match.getDate())
+                                        .firstTeamName(nameOf(teamNames, match.getFirstTeam()))
+                                        .secondTeamName(nameOf(teamNames, match.getSecondTeam()))
+                                        .status(match.getStatus())
+                                        .result(match.getResult() == null ? null : ResultResponse.builder()
+                                                .winner(nameOf(teamNames, match.getResult().getWinner()))
+                                                .margin(match.getResult().getMargin())
+                                                .manOfTheMatch(nameOf(playerNames, match.getResult().getManOfTheMatchId()))
+                                                .build())
+                                        .build())
+                                .toList())));
+    }
+
+    private Mono<Map<Long, String>> teamNames() {
+        Query query = new Query();
+        query.fields().include("teamName");
+        return reactiveMongoTemplate.find(query, Team.class)
+                .collectMap(Team::getId, team -> Objects.requireNonNullElse(team.getTeamName(), ""));
+    }
+
+    private Mono<Map<Long, String>> playerNames(List<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        Query query = new Query(Criteria.where("_id").in(playerIds));
+        query.fields().include("name");
+        return reactiveMongoTemplate.find(query, Player.class)
+                .collectMap(Player::getId, player -> Objects.requireNonNullElse(player.getName(), ""));
+    }
+
+    private static Query byId() {
+        return new Query().with(Sort.by(Sort.Direction.ASC, "_id"));
+    }
+
+    private static List<Long> playerIdsOf(Team team) {
+        return team.getPlayerIds() != null ? team.getPlayerIds() : List.of();
+    }
+
+    private static String nameOf(Map<Long, String> names, Long id) {
+        return id != null ? names.get(id) : null;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.tournament_data.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.TeamFormResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TeamFormService {
+
+    static final int BUFFER_CAPACITY = 10;
+    static final int MAX_RESULTS = 50;
+
+    private static final String FIELD_COMPLETED = "COMPLETED";
+    private static final String FIELD_STATUS = "status";
+
+    // same order as the descending date index, matches without date last
+    private static final Comparator<Match> NEWEST_FIRST = Comparator.comparing(Match::getDate,
+            Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final TeamRepository teamRepository;
+
+    // latest completed matches per team, serves any n up to BUFFER_CAPACITY without a query
+    private final Map<Long, FormBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Get the last n completed results of a team, newest first
+     */
+    public TeamFormResponse getForm(Long teamId, int n) {
+        if (n < 1 || n > MAX_RESULTS) {
+            throw new InvalidRequestException(
+                    "n",
+                    "Number of results must be between 1 and " + MAX_RESULTS);
+        }
+
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", teamId));
+
+        List<Match> matches = n <= BUFFER_CAPACITY ? bufferedResults(teamId, n) : loadResults(teamId, n);
+
+        // Single DB call for all opponents
+        Set<Long> opponentIds = new HashSet<>();
+        matches.forEach(match -> opponentIds.add(opponentOf(match, teamId)));
+        opponentIds.remove(null);
+        Map<Long, String> teamNames = new HashMap<>();
+        if (!opponentIds.isEmpty()) {
+            teamRepository.findAllById(opponentIds).forEach(opponent -> teamNames.put(opponent.getId(), opponent.getTeamName()));
+        }
+
+        StringBuilder form = new StringBuilder(matches.size());
+        List<TeamFormResponse.FormResult> results = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            Long opponentId = opponentOf(match, teamId);
+            String outcome = outcomeOf(match, teamId);
+            form.append(outcome);
+            results.add(TeamFormResponse.FormResult.builder()
+                    .matchId(match.getId())
+                    .date(match.getDate())
+                    .venue(match.getVenue())
+                    .opponentId(opponentId)
+                    .opponentName(teamNames.get(opponentId))
+                    .outcome(outcome)
+                    .margin(match.getResult() != null ? match.getResult().getMargin() : null)
+                    .build());
+        }
+
+        return TeamFormResponse.builder()
+                .teamId(team.getId())
+                .teamName(team.getTeamName())
+                .form(form.toString())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Apply a match write to the buffers of the teams it involves (or involved)
+     */
+    @EventListener
+    public void onMatchChanged(MatchChangedEvent event) {
+        changes.incrementAndGet();
+
+        Match changed = event.current() != null ? event.current() : event.previous();
+        if (changed == null || changed.getId() == null) {
+            return;
+        }
+
+        Set<Long> teamIds = new HashSet<>();
+        for (Match match : new Match[] { event.previous(), event.current() }) {
+            if (match != null) {
+                teamIds.add(match.getFirstTeam());
+                teamIds.add(match.getSecondTeam());
+            }
+        }
+        teamIds.remove(null);
+
+        for (Long teamId : teamIds) {
+            FormBuffer buffer = buffers.get(teamId);
+            if (buffer == null) {
+                continue;
+            }
+            Match completed = isCompletedFor(event.current(), teamId) ? event.current().toBuilder().build() : null;
+            if (!buffer.apply(changed.getId(), completed)) {
+                buffers.remove(teamId, buffer); // reloaded on next read
+            }
+        }
+    }
+
+    private List<Match> bufferedResults(Long teamId, int n) {
+        FormBuffer buffer = buffers.get(teamId);
+        if (buffer == null) {
+            long changesBefore = changes.get();
+            buffer = new FormBuffer(loadResults(teamId, BUFFER_CAPACITY));
+
+            // do not keep a buffer loaded while a match was being written
+            if (changes.get() == changesBefore && buffers.putIfAbsent(teamId, buffer) == null) {
+                // a write may have slipped in between the check and the put, before the buffer was there to apply it
+                if (changes.get() != changesBefore) {
+                    buffers.remove(teamId, buffer);
+                }
+            }
+        }
+        return buffer.latest(n);
+    }
+
+    private List<Match> loadResults(Long teamId, int limit) {
+        // one branch per side so each uses its (team, status, date) index, merged in date order
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("firstTeam").is(teamId).and(FIELD_STATUS).is(FIELD_COMPLETED),
+                Criteria.where("secondTeam").is(teamId).and(FIELD_STATUS).is(FIELD_COMPLETED)))
+                .with(Sort.by(Sort.Direction.DESC, "date"))
+                .limit(limit);
+        query.fields().include("date", "venue", "firstTeam", "secondTeam", FIELD_STATUS, "result");
+
+        return mongoTemplate.find(query, Match.class);
+    }
+
+    private static boolean isCompletedFor(Match match, Long teamId) {
+        return match != null
+                && FIELD_COMPLETED.equals(match.getStatus())
+                && (teamId.equals(match.getFirstTeam()) || teamId.equals(match.getSecondTeam()));
+    }
+
+    private static Long opponentOf(Match match, Long teamId) {
+        return teamId.equals(match.getFirstTeam()) ? match.getSecondTeam() : match.getFirstTeam();
+    }
+
+    private static String outcomeOf(Match match, Long teamId) {
+        if (match.getResult() == null || match.getResult().getWinner() == null) {
+            return "N";
+        }
+        return teamId.equals(match.getResult().getWinner()) ? "W" : "L";
+    }
+
+    /**
+     * Newest-first window over a team's completed matches, oldest entry dropped when full.
+     * A buffer holding fewer than BUFFER_CAPACITY entries holds all of the team's completed matches.
+     */
+    static class FormBuffer {
+
+        private final Deque<Match> results = new ArrayDeque<>(BUFFER_CAPACITY + 1);
+
+        FormBuffer(List<Match> newestFirst) {
+            results.addAll(newestFirst);
+        }
+
+        synchronized List<Match> latest(int n) {
+            return results.stream().limit(n).toList();
+        }
+
+        /**
+         * Replace the entry of a match with its completed state (or drop it when null).
+         * Returns false when the buffer can no longer tell which matches belong in it.
+         */
+        synchronized boolean apply(Long matchId, Match completed) {
+            boolean wasFull = results.size() == BUFFER_CAPACITY;
+            boolean removed = results.removeIf(match -> matchId.equals(match.getId()));
+
+            // a full buffer only covers matches at least as new as its oldest entry
+            boolean lostCoverage = removed && wasFull;
+            if (completed == null) {
+                return !lostCoverage;
+            }
+            Match oldest = results.peekLast();
+            if ((lostCoverage || results.size() == BUFFER_CAPACITY)
+                    && oldest != null && NEWEST_FIRST.compare(completed, oldest) > 0) {
+                return !lostCoverage;
+            }
+
+            if (results.isEmpty() || NEWEST_FIRST.compare(completed, results.peekFirst()) <= 0) {
+                results.addFirst(completed);
+            } else {
+                List<Match> sorted = new ArrayList<>(results);
+                sorted.add(completed);
+                sorted.sort(NEWEST_FIRST);
+                results.clear();
+                results.addAll(sorted);
+            }
+            if (results.size() > BUFFER_CAPACITY) {
+                results.removeLast();
+            }
+            return true;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 
 import com.example.tournament_data.exception.InvalidRequestException;
 import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.ids.IdGenerator;
 import com.example.tournament_data.model.Player;
 import com.example.tournament_data.model.Team;
 import com.example.tournament_data.repository.PlayerRepository;
@@ -30,11 +31,14 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
-    private final SequenceGeneratorService sequenceGeneratorService;
+    private final IdGenerator idGenerator;
 
     // for aggregation
     private final MongoTemplate mongoTemplate;
 
+    // concurrent identical reads share one query
+    private final SingleFlight singleFlight;
+
     private static final String FIELD_CAPTAIN_NAME = "captainName";
     private static final String FIELD_PLAYER_NAMES = "playerNames";
     private static final String FIELD_PLAYERS = "players";
@@ -51,10 +55,10 @@ public class TeamService {
         }
 
         // Generate auto-incremented ID
-        Integer teamId = sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME);
+        Long teamId = idGenerator.nextId(Team.SEQUENCE_NAME);
 
         // Convert player names to IDs
-        List<Integer> playerIds = new ArrayList<>();
+        List<Long> playerIds = new ArrayList<>();
         if (request.getPlayerNames() != null && !request.getPlayerNames().isEmpty()) {
             for (String playerName : request.getPlayerNames()) {
                 Player player = playerRepository.findByNameIgnoreCase(playerName)
@@ -66,7 +70,7 @@ public class TeamService {
         }
 
         // Convert captain name to ID
-        Integer captainId = null;
+        Long captainId = null;
         if (request.getCaptainName() != null && !request.getCaptainName().isEmpty()) {
             Player captain = playerRepository.findByNameIgnoreCase(request.getCaptainName())
                     .orElseThrow(() -> new InvalidRequestException(
@@ -96,7 +100,7 @@ public class TeamService {
         Team savedTeam = teamRepository.save(team);
 
         // Update players' teamId
-        for (Integer playerId : playerIds) {
+        for (Long playerId : playerIds) {
             playerRepository.findById(playerId).ifPresent(player -> {
                 player.setTeamId(savedTeam.getId());
                 playerRepository.save(player);
@@ -119,7 +123,7 @@ public class TeamService {
     /**
      * Get team by ID
      */
-    public TeamResponse getTeamById(Integer id) {
+    public TeamResponse getTeamById(Long id) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
         return convertToResponse(team);
@@ -128,14 +132,14 @@ public class TeamService {
     /**
      * Get count of each role in the team
      */
-    public List<RoleCount> getRoleCount(Integer id) {
-        return playerRepository.findRoleCount(id);
+    public List<RoleCount> getRoleCount(Long id) {
+        return singleFlight.execute("team.role-count", id, () -> playerRepository.findRoleCount(id));
     }
 
     /**
      * Update team (full update)
      */
-    public TeamResponse updateTeam(Integer id, @Valid TeamCreateRequest request) {
+    public TeamResponse updateTeam(Long id, @Valid TeamCreateRequest request) {
         // Find existing team
         Team existingTeam = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
@@ -151,10 +155,10 @@ public class TeamService {
                 });
 
         // Get old player IDs to clear their teamId
-        List<Integer> oldPlayerIds = new ArrayList<>(existingTeam.getPlayerIds());
+        List<Long> oldPlayerIds = new ArrayList<>(existingTeam.getPlayerIds());
 
         // Convert new player names to IDs
-        List<Integer> newPlayerIds = new ArrayList<>();
+        List<Long> newPlayerIds = new ArrayList<>();
         if (request.getPlayerNames() != null && !request.getPlayerNames().isEmpty()) {
             for (String playerName : request.getPlayerNames()) {
                 Player player = playerRepository.findByNameIgnoreCase(playerName)
@@ -166,7 +170,7 @@ public class TeamService {
         }
 
         // Convert captain name to ID
-        Integer captainId = null;
+        Long captainId = null;
         if (request.getCaptainName() != null && !request.getCaptainName().isEmpty()) {
             Player captain = playerRepository.findByNameIgnoreCase(request.getCaptainName())
                     .orElseThrow(() -> new InvalidRequestException(
@@ -183,7 +187,7 @@ public class TeamService {
         }
 
         // Clear teamId for players no longer in team
-        for (Integer oldPlayerId : oldPlayerIds) {
+        for (Long oldPlayerId : oldPlayerIds) {
             if (!newPlayerIds.contains(oldPlayerId)) {
                 playerRepository.findById(oldPlayerId).ifPresent(player -> {
                     player.setTeamId(null);
@@ -193,7 +197,7 @@ public class TeamService {
         }
 
         // Set teamId for new players
-        for (Integer newPlayerId : newPlayerIds) {
+        for (Long newPlayerId : newPlayerIds) {
             playerRepository.findById(newPlayerId).ifPresent(player -> {
                 player.setTeamId(id);
                 playerRepository.save(player);
@@ -214,7 +218,7 @@ public class TeamService {
     /**
      * Patch team (partial update)
      */
-    public TeamResponse patchTeam(Integer id, @Valid TeamPatchRequest request) {
+    public TeamResponse patchTeam(Long id, @Valid TeamPatchRequest request) {
         // Find existing team
         Team existingTeam = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
@@ -229,7 +233,7 @@ public class TeamService {
         return convertToResponse(updatedTeam);
     }
 
-    private void updateTeamName(Team team, String newName, Integer teamId) {
+    private void updateTeamName(Team team, String newName, Long teamId) {
         if (newName == null || newName.isBlank()) {
             return;
         }
@@ -281,13 +285,13 @@ public class TeamService {
         }
     }
 
-    private void updatePlayers(Team team, List<String> playerNames, Integer teamId) {
+    private void updatePlayers(Team team, List<String> playerNames, Long teamId) {
         if (playerNames == null) {
             return;
         }
 
-        List<Integer> oldPlayerIds = new ArrayList<>(team.getPlayerIds());
-        List<Integer> newPlayerIds = convertPlayerNamesToIds(playerNames);
+        List<Long> oldPlayerIds = new ArrayList<>(team.getPlayerIds());
+        List<Long> newPlayerIds = convertPlayerNamesToIds(playerNames);
 
         // Clear captain if no longer in team
         clearCaptainIfNotInTeam(team, newPlayerIds);
@@ -298,7 +302,7 @@ public class TeamService {
         team.setPlayerIds(newPlayerIds);
     }
 
-    private List<Integer> convertPlayerNamesToIds(List<String> playerNames) {
+    private List<Long> convertPlayerNamesToIds(List<String> playerNames) {
         return playerNames.stream()
                 .map(name -> findPlayerByName(name, FIELD_PLAYER_NAMES, "Player"))
                 .map(Player::getId)
@@ -312,15 +316,15 @@ public class TeamService {
                         entityName + " not found with name: " + name));
     }
 
-    private void clearCaptainIfNotInTeam(Team team, List<Integer> newPlayerIds) {
+    private void clearCaptainIfNotInTeam(Team team, List<Long> newPlayerIds) {
         if (team.getCaptainId() != null && !newPlayerIds.contains(team.getCaptainId())) {
             team.setCaptainId(null);
         }
     }
 
-    private void updatePlayerTeamAssociations(List<Integer> oldPlayerIds,
-                                              List<Integer> newPlayerIds,
-                                              Integer teamId) {
+    private void updatePlayerTeamAssociations(List<Long> oldPlayerIds,
+                                              List<Long> newPlayerIds,
+                                              Long teamId) {
         // Clear teamId for removed players
         clearTeamIdForRemovedPlayers(oldPlayerIds, newPlayerIds);
 
@@ -328,25 +332,25 @@ public class TeamService {
         setTeamIdForNewPlayers(newPlayerIds, teamId);
     }
 
-    private void clearTeamIdForRemovedPlayers(List<Integer> oldPlayerIds,
-                                              List<Integer> newPlayerIds) {
+    private void clearTeamIdForRemovedPlayers(List<Long> oldPlayerIds,
+                                              List<Long> newPlayerIds) {
         oldPlayerIds.stream()
                 .filter(id -> !newPlayerIds.contains(id))
                 .forEach(this::clearPlayerTeamId);
     }
 
-    private void setTeamIdForNewPlayers(List<Integer> playerIds, Integer teamId) {
+    private void setTeamIdForNewPlayers(List<Long> playerIds, Long teamId) {
         playerIds.forEach(playerId -> setPlayerTeamId(playerId, teamId));
     }
 
-    private void clearPlayerTeamId(Integer playerId) {
+    private void clearPlayerTeamId(Long playerId) {
         playerRepository.findById(playerId).ifPresent(player -> {
             player.setTeamId(null);
             playerRepository.save(player);
         });
     }
 
-    private void setPlayerTeamId(Integer playerId, Integer teamId) {
+    private void setPlayerTeamId(Long playerId, Long teamId) {
         playerRepository.findById(playerId).ifPresent(player -> {
             player.setTeamId(teamId);
             playerRepository.save(player);
@@ -357,7 +361,7 @@ public class TeamService {
     /**
      * Delete team
      */
-    public TeamResponse deleteTeam(Integer id) {
+    public TeamResponse deleteTeam(Long id) {
         Team existingTeam = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
 
@@ -378,7 +382,11 @@ public class TeamService {
     /**
      * Get team details with aggregation
      */
-    public TeamDetailsResponse getTeamDetails(Integer id) {
+    public TeamDetailsResponse getTeamDetails(Long id) {
+        return singleFlight.execute("team.details", id, () -> loadTeamDetails(id));
+    }
+
+    private TeamDetailsResponse loadTeamDetails(Long id) {
         // Verify team exists
         if (!teamRepository.existsById(id)) {
             throw new ResourceNotFoundException("Team", "id", id);
@@ -435,7 +443,7 @@ public class TeamService {
     /**
      * Convert Team entity to TeamResponse DTO
      */
-    private TeamResponse convertToResponse(Team team) {
+    TeamResponse convertToResponse(Team team) {
         String captainName = null;
         List<String> playerNames = new ArrayList<>();
 
@@ -444,7 +452,7 @@ public class TeamService {
             List<Player> players = playerRepository.findByIdIn(team.getPlayerIds());
 
             // Create map for quick lookup
-            Map<Integer, Player> playerMap = players.stream()
+            Map<Long, Player> playerMap = players.stream()
                     .collect(Collectors.toMap(Player::getId, p -> p));
 
             // Get captain name from map (no extra DB call)
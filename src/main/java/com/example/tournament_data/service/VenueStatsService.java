@@ -0,0 +1,224 @@
+package com.example.tournament_data.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.example.tournament_data.dto.VenueStatsResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.VenueStats;
+import com.example.tournament_data.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class VenueStatsService {
+
+    private static final String FIELD_COMPLETED = "COMPLETED";
+    private static final String FIELD_VENUE_KEY = "venueKey";
+    private static final String COLLECTION_VENUE_STATS = "venue_stats";
+
+    private final MongoTemplate mongoTemplate;
+    private final TeamRepository teamRepository;
+    private final MatchWriteGate matchWriteGate;
+
+    /**
+     * Get stats of all venues, busiest first
+     */
+    public List<VenueStatsResponse> getAllVenues() {
+        List<VenueStats> venues = mongoTemplate.find(
+                new Query().with(Sort.by(Sort.Direction.DESC, "matchesHosted")), VenueStats.class);
+        return convertToResponses(venues);
+    }
+
+    /**
+     * Get stats of a single venue by name (matched case and whitespace insensitive)
+     */
+    public VenueStatsResponse getVenueStats(String name) {
+        VenueStats venue = mongoTemplate.findById(Match.normalizeVenue(name), VenueStats.class);
+        if (venue == null) {
+            throw new ResourceNotFoundException("Venue", "name", name);
+        }
+        return convertToResponses(List.of(venue)).get(0);
+    }
+
+    /**
+     * Re-materialize the venues touched by a match write
+     */
+    @EventListener
+    public void onMatchChanged(MatchChangedEvent event) {
+        Set<String> venueKeys = new HashSet<>();
+        if (event.previous() != null) {
+            venueKeys.add(Match.normalizeVenue(event.previous().getVenue()));
+        }
+        if (event.current() != null) {
+            venueKeys.add(Match.normalizeVenue(event.current().getVenue()));
+        }
+        venueKeys.remove(null);
+
+        if (!venueKeys.isEmpty()) {
+            refresh(venueKeys);
+        }
+    }
+
+    /**
+     * Recompute the given venues and drop the ones that no longer host any match
+     */
+    public void refresh(Set<String> venueKeys) {
+        Set<String> hosting = new HashSet<>(mongoTemplate.findDistinct(
+                Query.query(Criteria.where(FIELD_VENUE_KEY).in(venueKeys)), FIELD_VENUE_KEY, Match.class, String.class));
+
+        Set<String> gone = new HashSet<>(venueKeys);
+        gone.removeAll(hosting);
+        if (!gone.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(gone)), VenueStats.class);
+        }
+
+        if (!hosting.isEmpty()) {
+            materialize(new Document(FIELD_VENUE_KEY, new Document("$in", hosting)));
+        }
+    }
+
+    /**
+     * Recompute all venues from scratch, with match writes held back (MatchWriteGate)
+     * so a venue refreshed by a write meanwhile is not overwritten with older numbers
+     */
+    public List<VenueStatsResponse> refreshAll() {
+        matchWriteGate.recompute(() -> {
+            List<String> hosting = mongoTemplate.findDistinct(new Query(), FIELD_VENUE_KEY, Match.class, String.class);
+
+            materialize(new Document(FIELD_VENUE_KEY, new Document("$ne", null)));
+            mongoTemplate.remove(Query.query(Criteria.where("_id").nin(hosting)), VenueStats.class);
+        });
+
+        return getAllVenues();
+    }
+
+    private void materialize(Document matchFilter) {
+        // Aggregation pipeline has 7 stages -> match, addFields, unwind, group (venue+team), group (venue), addFields, merge
+
+        // 1. match
+        AggregationOperation matchStage = context -> new Document("$match", matchFilter);
+
+        // 2. addFields -> one entry per playing team, the first team is the home team
+        AggregationOperation entriesStage = context -> new Document("$addFields",
+                new Document("entries", List.of(entry("$firstTeam", true), entry("$secondTeam", false))));
+
+        // 3. unwind
+        AggregationOperation unwindStage = context -> new Document("$unwind", "$entries");
+
+        // 4. group per venue and team
+        AggregationOperation teamGroupStage = context -> new Document("$group",
+                new Document()
+                        .append("_id", new Document()
+                                .append(FIELD_VENUE_KEY, "$venueKey")
+                                .append("team", "$entries.team"))
+                        .append("venue", new Document("$first", "$venue"))
+                        .append("played", countIf("$entries.completed"))
+                        .append("won", countIf("$entries.won"))
+                        .append("hosted", countIf("$entries.home"))
+                        .append("homeCompleted", countIf(new Document("$and", List.of("$entries.home", "$entries.completed"))))
+                        .append("homeWins", countIf(new Document("$and", List.of("$entries.home", "$entries.won")))));
+
+        // 5. group per venue
+        AggregationOperation venueGroupStage = context -> new Document("$group",
+                new Document()
+                        .append("_id", "$_id.venueKey")
+                        .append("venue", new Document("$first", "$venue"))
+                        .append("matchesHosted", new Document("$sum", "$hosted"))
+                        .append("completedMatches", new Document("$sum", "$homeCompleted"))
+                        .append("homeWins", new Document("$sum", "$homeWins"))
+                        .append("teamRecords", new Document("$push", new Document()
+                                .append("teamId", "$_id.team")
+                                .append("played", "$played")
+                                .append("won", "$won")
+                                .append("lost", new Document("$subtract", List.of("$played", "$won"))))));
+
+        // 6. addFields -> home win rate
+        AggregationOperation rateStage = context -> new Document("$addFields",
+                new Document("homeWinRate", new Document("$cond", List.of(
+                        new Document("$gt", List.of("$completedMatches", 0)),
+                        new Document("$divide", List.of("$homeWins", "$completedMatches")),
+                        0.0))));
+
+        // 7. merge into venue_stats, replacing the touched venues only
+        MergeOperation mergeStage = Aggregation.merge()
+                .intoCollection(COLLECTION_VENUE_STATS)
+                .on("_id")
+                .whenMatched(MergeOperation.WhenDocumentsMatch.replaceDocument())
+                .whenDocumentsDontMatch(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                .build();
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                matchStage, entriesStage, unwindStage, teamGroupStage, venueGroupStage, rateStage, mergeStage);
+
+        mongoTemplate.aggregate(aggregation, "matches", Document.class);
+    }
+
+    private static Document entry(String team, boolean home) {
+        Document completed = new Document("$eq", List.of("$status", FIELD_COMPLETED));
+        return new Document()
+                .append("team", team)
+                .append("home", new Document("$literal", home))
+                .append("completed", completed)
+                .append("won", new Document("$and", List.of(
+                        completed,
+                        new Document("$eq", List.of("$result.winner", team)))));
+    }
+
+    private static Document countIf(Object condition) {
+        return new Document("$sum", new Document("$cond", List.of(condition, 1, 0)));
+    }
+
+    private List<VenueStatsResponse> convertToResponses(List<VenueStats> venues) {
+        // Single DB call for the team names of all venues
+        Set<Long> teamIds = new LinkedHashSet<>();
+        venues.forEach(venue -> venue.getTeamRecords().forEach(record -> teamIds.add(record.getTeamId())));
+        teamIds.remove(null);
+
+        Map<Long, String> teamNames = new HashMap<>();
+        teamRepository.findAllById(teamIds).forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+
+        List<VenueStatsResponse> responses = new ArrayList<>(venues.size());
+        for (VenueStats venue : venues) {
+            List<VenueStatsResponse.TeamRecord> teamRecords = venue.getTeamRecords().stream()
+                    .map(record -> VenueStatsResponse.TeamRecord.builder()
+                            .teamId(record.getTeamId())
+                            .teamName(teamNames.get(record.getTeamId()))
+                            .played(record.getPlayed())
+                            .won(record.getWon())
+                            .lost(record.getLost())
+                            .build())
+                    .sorted((a, b) -> Integer.compare(b.getWon(), a.getWon()))
+                    .toList();
+
+            responses.add(VenueStatsResponse.builder()
+                    .venue(venue.getVenue())
+                    .matchesHosted(venue.getMatchesHosted())
+                    .completedMatches(venue.getCompletedMatches())
+                    .homeWins(venue.getHomeWins())
+                    .homeWinRate(venue.getHomeWinRate())
+                    .teamRecords(teamRecords)
+                    .build());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.tournament_data.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import com.example.tournament_data.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BulkheadRegistry Tests")
+class BulkheadRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getLimits().put(BulkheadType.AGGREGATION, new BulkheadProperties.Limit(1, 1, Duration.ofSeconds(5)));
+        properties.getLimits().put(BulkheadType.WRITE, new BulkheadProperties.Limit(1, 0, Duration.ofMillis(10)));
+        registry = new BulkheadRegistry(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject right away when slots and queue are full")
+    void shouldRejectWhenSaturated() {
+        registry.acquire(BulkheadType.WRITE);
+
+        assertThatThrownBy(() -> registry.acquire(BulkheadType.WRITE))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("write");
+        assertThat(meterRegistry.get(BulkheadRegistry.METRIC_REJECTED).tag("type", "write").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hand a released slot to a queued request")
+    void shouldServeQueuedRequestOnRelease() throws Exception {
+        registry.acquire(BulkheadType.AGGREGATION);
+
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> registry.acquire(BulkheadType.AGGREGATION));
+        while (meterRegistry.get(BulkheadRegistry.METRIC_QUEUED).tag("type", "aggregation").gauge().value() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThatThrownBy(() -> registry.acquire(BulkheadType.AGGREGATION))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        registry.release(BulkheadType.AGGREGATION);
+        queued.get(5, TimeUnit.SECONDS);
+
+        assertThat(meterRegistry.get(BulkheadRegistry.METRIC_ACTIVE).tag("type", "aggregation").gauge().value())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(BulkheadRegistry.METRIC_QUEUED).tag("type", "aggregation").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should classify handlers by annotation, then by HTTP method")
+    void shouldClassifyHandlers() throws Exception {
+        Handlers handlers = new Handlers();
+        HandlerMethod details = new HandlerMethod(handlers, Handlers.class.getMethod("details"));
+        HandlerMethod plain = new HandlerMethod(handlers, Handlers.class.getMethod("plain"));
+
+        assertThat(BulkheadInterceptor.typeOf(details, "GET")).isEqualTo(BulkheadType.AGGREGATION);
+        assertThat(BulkheadInterceptor.typeOf(plain, "GET")).isEqualTo(BulkheadType.POINT_READ);
+        assertThat(BulkheadInterceptor.typeOf(plain, "PATCH")).isEqualTo(BulkheadType.WRITE);
+    }
+
+    static class Handlers {
+
+        @Bulkhead(BulkheadType.AGGREGATION)
+        public void details() {
+        }
+
+        public void plain() {
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.tournament_data.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@DisplayName("ResponseCacheFilter Tests")
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"success\":true,\"message\":\"Teams retrieved successfully\",\"data\":[]}";
+
+    private ResponseCacheProperties properties;
+    private SerializedResponseCache cache;
+    private ResponseCacheFilter filter;
+    private AtomicInteger renderCount;
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        cache = new SerializedResponseCache(properties, clock::get);
+        filter = new ResponseCacheFilter(properties, cache);
+        renderCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should render once and serve later GETs from cached bytes")
+    void shouldServeSecondGetFromCache() throws Exception {
+        MockHttpServletResponse first = get("/api/v1/teams", false);
+        MockHttpServletResponse second = get("/api/v1/teams", false);
+
+        assertThat(renderCount.get()).isEqualTo(1);
+        assertThat(first.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Should serve gzip bytes when client accepts gzip")
+    void shouldServeGzipWhenAccepted() throws Exception {
+        get("/api/v1/matches/7", false);
+        MockHttpServletResponse hit = get("/api/v1/matches/7", true);
+
+        assertThat(hit.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(hit.getContentAsByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Should not cache paths outside the configured hot endpoints")
+    void shouldNotCacheOtherPaths() throws Exception {
+        get("/api/v1/players", false);
+        get("/api/v1/players", false);
+
+        assertThat(renderCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict match entries only after a match write")
+    void shouldEvictMatchesOnMatchWrite() throws Exception {
+        get("/api/v1/teams", false);
+        get("/api/v1/matches/7", false);
+
+        write("PATCH", "/api/v1/matches/7");
+
+        assertThat(cache.get("/api/v1/matches/7")).isNull();
+        assertThat(cache.get("/api/v1/teams")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict everything after a player write")
+    void shouldEvictAllOnPlayerWrite() throws Exception {
+        get("/api/v1/teams", false);
+        get("/api/v1/teams/1/details", false);
+
+        write("POST", "/api/v1/players");
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should make room for new keys once the cache is full")
+    void shouldEvictOldestWhenFull() throws Exception {
+        properties.setMaxEntries(2);
+
+        get("/api/v1/teams", false);
+        clock.incrementAndGet();
+        get("/api/v1/matches/7", false);
+        clock.incrementAndGet();
+        get("/api/v1/matches/8", false);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("/api/v1/teams")).isNull();
+        assertThat(cache.get("/api/v1/matches/8")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should render again once an entry has expired")
+    void shouldExpireEntries() throws Exception {
+        get("/api/v1/teams", false);
+        clock.addAndGet(properties.getTimeToLive().toMillis() + 1);
+
+        MockHttpServletResponse expired = get("/api/v1/teams", false);
+
+        assertThat(renderCount.get()).isEqualTo(2);
+        assertThat(expired.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("Should pass through untouched when disabled")
+    void shouldPassThroughWhenDisabled() throws Exception {
+        properties.setEnabled(false);
+
+        get("/api/v1/teams", false);
+        get("/api/v1/teams", false);
+
+        assertThat(renderCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private MockHttpServletResponse get(String uri, boolean acceptGzip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptGzip) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new JsonServlet()));
+        return response;
+    }
+
+    private void write(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private class JsonServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            renderCount.incrementAndGet();
+            resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -78,7 +78,7 @@ class PlayerControllerTest {
 
                 // Initialize player response
                 playerResponse = PlayerResponse.builder()
-                                .id(1)
+                                .id(1L)
                                 .name("Virat Kohli")
                                 .teamName("Mumbai Indians")
                                 .role("Batsman")
@@ -89,7 +89,7 @@ class PlayerControllerTest {
 
                 // Initialize second player response
                 playerResponse2 = PlayerResponse.builder()
-                                .id(2)
+                                .id(2L)
                                 .name("Rohit Sharma")
                                 .teamName("Mumbai Indians")
                                 .role("Batsman")
@@ -216,7 +216,7 @@ class PlayerControllerTest {
         @Test
         @DisplayName("GET /api/v1/players/{id} - Should return player when found")
         void getPlayerById_Success() throws Exception {
-                when(playerService.getPlayerById(1)).thenReturn(playerResponse);
+                when(playerService.getPlayerById(1L)).thenReturn(playerResponse);
 
                 mockMvc.perform(get(BASE_URL + "/1")
                                 .contentType(MediaType.APPLICATION_JSON))
@@ -227,27 +227,27 @@ class PlayerControllerTest {
                                 .andExpect(jsonPath("$.data.id").value(1))
                                 .andExpect(jsonPath("$.data.name").value("Virat Kohli"));
 
-                verify(playerService).getPlayerById(1);
+                verify(playerService).getPlayerById(1L);
         }
 
         @Test
         @DisplayName("GET /api/v1/players/{id} - Should return 404 when not found")
         void getPlayerById_NotFound_Returns404() throws Exception {
-                when(playerService.getPlayerById(999))
-                                .thenThrow(new ResourceNotFoundException("Player", "id", 999));
+                when(playerService.getPlayerById(999L))
+                                .thenThrow(new ResourceNotFoundException("Player", "id", 999L));
 
                 mockMvc.perform(get(BASE_URL + "/999")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andDo(print())
                                 .andExpect(status().isNotFound());
 
-                verify(playerService).getPlayerById(999);
+                verify(playerService).getPlayerById(999L);
         }
 
         @Test
         @DisplayName("GET /api/v1/players/{id} - Should return player with stats")
         void getPlayerById_WithStats() throws Exception {
-                when(playerService.getPlayerById(1)).thenReturn(playerResponse);
+                when(playerService.getPlayerById(1L)).thenReturn(playerResponse);
 
                 mockMvc.perform(get(BASE_URL + "/1")
                                 .contentType(MediaType.APPLICATION_JSON))
@@ -263,13 +263,13 @@ class PlayerControllerTest {
         @DisplayName("PUT /api/v1/players/{id} - Should update player successfully")
         void updatePlayer_Success() throws Exception {
                 PlayerResponse updatedResponse = PlayerResponse.builder()
-                                .id(1)
+                                .id(1L)
                                 .name("Virat Kohli")
                                 .teamName("Chennai Super Kings")
                                 .role("All-rounder")
                                 .build();
 
-                when(playerService.updatePlayer(eq(1), any(PlayerCreateRequest.class)))
+                when(playerService.updatePlayer(eq(1L), any(PlayerCreateRequest.class)))
                                 .thenReturn(updatedResponse);
 
                 mockMvc.perform(put(BASE_URL + "/1")
@@ -281,14 +281,14 @@ class PlayerControllerTest {
                                 .andExpect(jsonPath("$.message").value("Player updated successfully"))
                                 .andExpect(jsonPath("$.data.id").value(1));
 
-                verify(playerService).updatePlayer(eq(1), any(PlayerCreateRequest.class));
+                verify(playerService).updatePlayer(eq(1L), any(PlayerCreateRequest.class));
         }
 
         @Test
         @DisplayName("PUT /api/v1/players/{id} - Should return 404 when not found")
         void updatePlayer_NotFound_Returns404() throws Exception {
-                when(playerService.updatePlayer(eq(999), any(PlayerCreateRequest.class)))
-                                .thenThrow(new ResourceNotFoundException("Player", "id", 999));
+                when(playerService.updatePlayer(eq(999L), any(PlayerCreateRequest.class)))
+                                .thenThrow(new ResourceNotFoundException("Player", "id", 999L));
 
                 mockMvc.perform(put(BASE_URL + "/999")
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -300,7 +300,7 @@ class PlayerControllerTest {
         @Test
         @DisplayName("PUT /api/v1/players/{id} - Should return 400 when team not found")
         void updatePlayer_TeamNotFound_Returns400() throws Exception {
-                when(playerService.updatePlayer(eq(1), any(PlayerCreateRequest.class)))
+                when(playerService.updatePlayer(eq(1L), any(PlayerCreateRequest.class)))
                                 .thenThrow(new InvalidRequestException("teamName", "Team not found"));
 
                 mockMvc.perform(put(BASE_URL + "/1")
@@ -318,12 +318,12 @@ class PlayerControllerTest {
                 patchRequest.setName("Updated Name");
 
                 PlayerResponse patchedResponse = PlayerResponse.builder()
-                                .id(1)
+                                .id(1L)
                                 .name("Updated Name")
                                 .teamName("Mumbai Indians")
                                 .build();
 
-                when(playerService.patchPlayer(eq(1), any(PlayerPatchRequest.class)))
+                when(playerService.patchPlayer(eq(1L), any(PlayerPatchRequest.class)))
                                 .thenReturn(patchedResponse);
 
                 mockMvc.perform(patch(BASE_URL + "/1")
@@ -334,7 +334,7 @@ class PlayerControllerTest {
                                 .andExpect(jsonPath("$.success").value(true))
                                 .andExpect(jsonPath("$.data.name").value("Updated Name"));
 
-                verify(playerService).patchPlayer(eq(1), any(PlayerPatchRequest.class));
+                verify(playerService).patchPlayer(eq(1L), any(PlayerPatchRequest.class));
         }
 
         @Test
@@ -343,13 +343,13 @@ class PlayerControllerTest {
                 patchRequest.setRole("All-rounder");
 
                 PlayerResponse patchedResponse = PlayerResponse.builder()
-                                .id(1)
+                                .id(1L)
                                 .name("Virat Kohli")
                                 .teamName("Mumbai Indians")
                                 .role("All-rounder")
                                 .build();
 
-                when(playerService.patchPlayer(eq(1), any(PlayerPatchRequest.class)))
+                when(playerService.patchPlayer(eq(1L), any(PlayerPatchRequest.class)))
                                 .thenReturn(patchedResponse);
 
                 mockMvc.perform(patch(BASE_URL + "/1")
@@ -366,12 +366,12 @@ class PlayerControllerTest {
                 patchRequest.setTeamName("Chennai Super Kings");
 
                 PlayerResponse patchedResponse = PlayerResponse.builder()
-                                .id(1)
+                                .id(1L)
                                 .name("Virat Kohli")
                                 .teamName("Chennai Super Kings")
                                 .build();
 
-                when(playerService.patchPlayer(eq(1), any(PlayerPatchRequest.class)))
+                when(playerService.patchPlayer(eq(1L), any(PlayerPatchRequest.class)))
                                 .thenReturn(patchedResponse);
 
                 mockMvc.perform(patch(BASE_URL + "/1")
@@ -389,13 +389,13 @@ class PlayerControllerTest {
                 patchRequest.setRole("Bowler");
 
                 PlayerResponse patchedResponse = PlayerResponse.builder()
-                                .id(1)
+                                .id(1L)
                                 .name("Updated Name")
                                 .teamName("Mumbai Indians")
                                 .role("Bowler")
                                 .build();
 
-                when(playerService.patchPlayer(eq(1), any(PlayerPatchRequest.class)))
+                when(playerService.patchPlayer(eq(1L), any(PlayerPatchRequest.class)))
                                 .thenReturn(patchedResponse);
 
                 mockMvc.perform(patch(BASE_URL + "/1")
@@ -412,8 +412,8 @@ class PlayerControllerTest {
         void patchPlayer_NotFound_Returns404() throws Exception {
                 patchRequest.setName("Updated Name");
 
-                when(playerService.patchPlayer(eq(999), any(PlayerPatchRequest.class)))
-                                .thenThrow(new ResourceNotFoundException("Player", "id", 999));
+                when(playerService.patchPlayer(eq(999L), any(PlayerPatchRequest.class)))
+                                .thenThrow(new ResourceNotFoundException("Player", "id", 999L));
 
                 mockMvc.perform(patch(BASE_URL + "/999")
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -427,7 +427,7 @@ class PlayerControllerTest {
         void patchPlayer_TeamNotFound_Returns400() throws Exception {
                 patchRequest.setTeamName("Unknown Team");
 
-                when(playerService.patchPlayer(eq(1), any(PlayerPatchRequest.class)))
+                when(playerService.patchPlayer(eq(1L), any(PlayerPatchRequest.class)))
                                 .thenThrow(new InvalidRequestException("teamName", "Team not found"));
 
                 mockMvc.perform(patch(BASE_URL + "/1")
@@ -442,7 +442,7 @@ class PlayerControllerTest {
         void patchPlayer_DuplicateName_Returns400() throws Exception {
                 patchRequest.setName("Existing Player");
 
-                when(playerService.patchPlayer(eq(1), any(PlayerPatchRequest.class)))
+                when(playerService.patchPlayer(eq(1L), any(PlayerPatchRequest.class)))
                                 .thenThrow(new InvalidRequestException("name", "Player already exists"));
 
                 mockMvc.perform(patch(BASE_URL + "/1")
@@ -457,7 +457,7 @@ class PlayerControllerTest {
         @Test
         @DisplayName("DELETE /api/v1/players/{id} - Should delete player successfully")
         void deletePlayer_Success() throws Exception {
-                when(playerService.deletePlayer(1)).thenReturn(playerResponse);
+                when(playerService.deletePlayer(1L)).thenReturn(playerResponse);
 
                 mockMvc.perform(delete(BASE_URL + "/1")
                                 .contentType(MediaType.APPLICATION_JSON))
@@ -468,27 +468,27 @@ class PlayerControllerTest {
                                 .andExpect(jsonPath("$.data.id").value(1))
                                 .andExpect(jsonPath("$.data.name").value("Virat Kohli"));
 
-                verify(playerService).deletePlayer(1);
+                verify(playerService).deletePlayer(1L);
         }
 
         @Test
         @DisplayName("DELETE /api/v1/players/{id} - Should return 404 when not found")
         void deletePlayer_NotFound_Returns404() throws Exception {
-                when(playerService.deletePlayer(999))
-                                .thenThrow(new ResourceNotFoundException("Player", "id", 999));
+                when(playerService.deletePlayer(999L))
+                                .thenThrow(new ResourceNotFoundException("Player", "id", 999L));
 
                 mockMvc.perform(delete(BASE_URL + "/999")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andDo(print())
                                 .andExpect(status().isNotFound());
 
-                verify(playerService).deletePlayer(999);
+                verify(playerService).deletePlayer(999L);
         }
 
         @Test
         @DisplayName("DELETE /api/v1/players/{id} - Should return deleted player details")
         void deletePlayer_ReturnsFullDetails() throws Exception {
-                when(playerService.deletePlayer(1)).thenReturn(playerResponse);
+                when(playerService.deletePlayer(1L)).thenReturn(playerResponse);
 
                 mockMvc.perform(delete(BASE_URL + "/1")
                                 .contentType(MediaType.APPLICATION_JSON))
@@ -0,0 +1,143 @@
+package com.example.tournament_data.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.dto.TeamResponse;
+import com.example.tournament_data.model.Stats;
+import com.example.tournament_data.service.StreamingReadService;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams against a running server, with the reactive read service replaced by a stub so no Mongo is needed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tournament.mongo.create-indexes=false",
+        "tournament.mongo.backfill-derived-fields=false",
+        "tournament.search.build-on-startup=false",
+        "tournament.standings.build-on-startup=false"
+})
+@Import(StreamControllerTest.StubStreams.class)
+@DisplayName("StreamController Tests")
+class StreamControllerTest {
+
+    // more than Boot's applicationTaskExecutor has threads
+    private static final int SLOW_READERS = 12;
+
+    private static final AtomicInteger blockedWrites = new AtomicInteger();
+    private static final CountDownLatch release = new CountDownLatch(1);
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Writing a player blocks its write thread until released, like a write to a client that stopped reading
+     */
+    static class BlockingStats extends Stats {
+        @Override
+        public Integer getRunsScored() {
+            blockedWrites.incrementAndGet();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        }
+    }
+
+    @TestConfiguration
+    static class StubStreams {
+
+        @Bean
+        @Primary
+        StreamingReadService stubStreamingReadService() {
+            return new StreamingReadService(null) {
+                @Override
+                public Flux<PlayerResponse> streamPlayers() {
+                    // emitted later, like documents from the cursor, so they are written on the MVC async executor
+                    return Flux.range(1, 3)
+                            .delayElements(Duration.ofMillis(20))
+                            .map(i -> PlayerResponse.builder()
+                                    .id((long) i)
+                                    .name("Player " + i)
+                                    .stats(i == 2 ? new BlockingStats() : new Stats())
+                                    .build());
+                }
+
+                @Override
+                public Flux<TeamResponse> streamTeams() {
+                    return Flux.just(
+                            TeamResponse.builder().id(1L).teamName("Mumbai Indians").build(),
+                            TeamResponse.builder().id(2L).teamName("Chennai Super Kings").build());
+                }
+            };
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should keep serving streams while several slow readers hold theirs open")
+    void shouldServeStreamsNextToSlowReaders() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> slowReaders = new ArrayList<>();
+        for (int i = 0; i < SLOW_READERS; i++) {
+            slowReaders.add(client.sendAsync(request("/api/v1/stream/players", Duration.ofSeconds(30)),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+
+        // every slow stream holds a write thread of its own
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (blockedWrites.get() < SLOW_READERS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(blockedWrites.get()).isEqualTo(SLOW_READERS);
+
+        HttpResponse<String> teams = client.send(request("/api/v1/stream/teams", Duration.ofSeconds(5)),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(teams.statusCode()).isEqualTo(200);
+        assertThat(teams.body().lines()).hasSize(2);
+        assertThat(teams.body()).contains("Mumbai Indians", "Chennai Super Kings");
+
+        release.countDown();
+        for (CompletableFuture<HttpResponse<String>> slowReader : slowReaders) {
+            assertThat(slowReader.get(10, TimeUnit.SECONDS).body().lines()).hasSize(3);
+        }
+    }
+
+    private HttpRequest request(String path, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/x-ndjson")
+                .timeout(timeout)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.tournament_data.datagen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Team;
+
+@DisplayName("DatasetGenerator Tests")
+class DatasetGeneratorTest {
+
+    private final DatasetGenerator generator = new DatasetGenerator(42, 20, 600, 2000);
+
+    @Test
+    @DisplayName("Should generate the same documents for the same seed")
+    void shouldBeDeterministic() {
+        DatasetGenerator again = new DatasetGenerator(42, 20, 600, 2000);
+        DatasetGenerator otherSeed = new DatasetGenerator(43, 20, 600, 2000);
+
+        assertThat(again.player(123)).isEqualTo(generator.player(123));
+        assertThat(again.team(7)).isEqualTo(generator.team(7));
+        assertThat(again.match(1999)).isEqualTo(generator.match(1999));
+        assertThat(otherSeed.player(123)).isNotEqualTo(generator.player(123));
+    }
+
+    @Test
+    @DisplayName("Should fill squads up to the limit with players pointing back at their team")
+    void shouldKeepSquadsConsistent() {
+        Set<Long> inSquads = new HashSet<>();
+        for (int t = 1; t <= generator.teams(); t++) {
+            Team team = generator.team(t);
+            assertThat(team.getPlayerIds()).hasSize(DatasetGenerator.MAX_SQUAD);
+            assertThat(team.getPlayerIds()).contains(team.getCaptainId());
+            for (Long playerId : team.getPlayerIds()) {
+                assertThat(generator.player(playerId.intValue()).getTeamId()).isEqualTo(t);
+                assertThat(inSquads.add(playerId)).isTrue();
+            }
+        }
+
+        // 600 players over 20 squads of 25, the last 100 have no team
+        for (int p = 1; p <= generator.players(); p++) {
+            Player player = generator.player(p);
+            assertThat(player.getTeamId() != null).isEqualTo(inSquads.contains((long) p));
+        }
+        assertThat(inSquads).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("Should only let playing teams win and pick the man of the match from the winning squad")
+    void shouldKeepResultsConsistent() {
+        int completed = 0;
+        for (int m = 1; m <= generator.matches(); m++) {
+            Match match = generator.match(m);
+            assertThat(match.getFirstTeam()).isBetween(1L, (long) generator.teams()).isNotEqualTo(match.getSecondTeam());
+            assertThat(match.getSecondTeam()).isBetween(1L, (long) generator.teams());
+            if (match.getResult() == null) {
+                assertThat(match.getStatus()).isEqualTo("SCHEDULED");
+                continue;
+            }
+            completed++;
+            assertThat(match.getStatus()).isEqualTo("COMPLETED");
+            assertThat(match.getResult().getWinner()).isIn(match.getFirstTeam(), match.getSecondTeam());
+            assertThat(generator.team(match.getResult().getWinner().intValue()).getPlayerIds())
+                    .contains(match.getResult().getManOfTheMatchId());
+        }
+        assertThat(completed).isBetween(1700, 1900);
+    }
+
+    @Test
+    @DisplayName("Should leave squads empty when there are fewer players than teams")
+    void shouldHandleFewPlayers() {
+        DatasetGenerator small = new DatasetGenerator(1, 10, 5, 50);
+
+        assertThat(small.team(3).getPlayerIds()).containsExactly(3L);
+        assertThat(small.team(8).getPlayerIds()).isEmpty();
+        assertThat(small.team(8).getCaptainId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a tournament with a single team")
+    void shouldRejectSingleTeam() {
+        assertThatThrownBy(() -> new DatasetGenerator(1, 1, 10, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
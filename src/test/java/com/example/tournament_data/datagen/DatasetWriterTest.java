@@ -0,0 +1,177 @@
+package com.example.tournament_data.datagen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.SequenceReservation;
+import com.example.tournament_data.model.Standing;
+import com.example.tournament_data.model.VenueStats;
+import com.example.tournament_data.repository.MatchDerivedFieldsCallback;
+import com.example.tournament_data.service.SequenceGeneratorService;
+import com.example.tournament_data.service.StandingsService;
+import com.example.tournament_data.service.VenueStatsService;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+@DisplayName("DatasetWriter Tests")
+class DatasetWriterTest {
+
+    private final DatasetGenerator generator = new DatasetGenerator(42, 4, 100, 250);
+
+    private MongoTemplate mongoTemplate;
+    private SequenceGeneratorService sequenceGeneratorService;
+    private StandingsService standingsService;
+    private VenueStatsService venueStatsService;
+    private DatasetWriter datasetWriter;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getCollectionName(any())).thenAnswer(invocation -> switch (
+                invocation.<Class<?>>getArgument(0).getSimpleName()) {
+            case "Team" -> "teams";
+            case "Player" -> "players";
+            default -> "matches";
+        });
+
+        sequenceGeneratorService = mock(SequenceGeneratorService.class);
+        standingsService = mock(StandingsService.class);
+        venueStatsService = mock(VenueStatsService.class);
+        datasetWriter = new DatasetWriter(mongoTemplate, sequenceGeneratorService, new MatchDerivedFieldsCallback(),
+                standingsService, venueStatsService);
+    }
+
+    @Test
+    @DisplayName("Should write one part file per batch with every document once")
+    void shouldWriteNdjsonParts(@TempDir Path dir) throws IOException {
+        datasetWriter.writeToNdjson(generator, dir, 100, 3);
+
+        assertThat(partFiles(dir.resolve("teams"))).hasSize(1);
+        assertThat(partFiles(dir.resolve("players"))).hasSize(1);
+        assertThat(partFiles(dir.resolve("matches"))).hasSize(3);
+        assertThat(lines(dir.resolve("matches"))).hasSize(250);
+
+        Document first = Document.parse(lines(dir.resolve("matches")).get(0));
+        assertThat(first.get("_id")).isEqualTo(1L);
+        assertThat(first.getString("venueKey")).isEqualTo("ground " + first.getLong("firstTeam"));
+        assertThat(first.getLong("teamPairLow")).isEqualTo(
+                Math.min(first.getLong("firstTeam"), first.getLong("secondTeam")));
+    }
+
+    @Test
+    @DisplayName("Should write the same files whatever the parallelism")
+    void shouldNotDependOnParallelism(@TempDir Path dir) throws IOException {
+        datasetWriter.writeToNdjson(generator, dir.resolve("serial"), 50, 1);
+        datasetWriter.writeToNdjson(generator, dir.resolve("parallel"), 50, 8);
+
+        for (String collection : List.of("teams", "players", "matches")) {
+            assertThat(lines(dir.resolve("parallel").resolve(collection)))
+                    .isEqualTo(lines(dir.resolve("serial").resolve(collection)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should clear derived data and recompute it after a load into Mongo")
+    @SuppressWarnings("unchecked")
+    void shouldRebuildDerivedDataAfterMongoLoad() {
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        when(mongoTemplate.getCollection(anyString())).thenReturn(collection);
+
+        datasetWriter.writeToMongo(generator, 100, 2, true);
+
+        verify(collection, times(5)).insertMany(anyList(), any(InsertManyOptions.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(Standing.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(VenueStats.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(SequenceReservation.class));
+        verify(sequenceGeneratorService).advanceSequence(Player.SEQUENCE_NAME, 100);
+        verify(sequenceGeneratorService, never()).resetSequence(anyString(), anyInt());
+        verify(standingsService).rebuild();
+        verify(venueStatsService).refreshAll();
+    }
+
+    @Test
+    @DisplayName("Should refuse to load into a non-empty database unless clearing was asked for")
+    @SuppressWarnings("unchecked")
+    void shouldNotLoadIntoExistingDataWithoutClear() {
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        when(mongoTemplate.getCollection(anyString())).thenReturn(collection);
+        when(mongoTemplate.exists(any(Query.class), eq(Player.class))).thenReturn(true);
+
+        assertThatThrownBy(() -> datasetWriter.writeToMongo(generator, 100, 2, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("players")
+                .hasMessageContaining("--tournament.datagen.clear=true");
+
+        verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+        verify(collection, never()).insertMany(anyList(), any(InsertManyOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should load into an empty database without clearing it")
+    @SuppressWarnings("unchecked")
+    void shouldLoadIntoEmptyDatabaseWithoutClear() {
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        when(mongoTemplate.getCollection(anyString())).thenReturn(collection);
+
+        datasetWriter.writeToMongo(generator, 100, 2, false);
+
+        verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+        verify(collection, times(5)).insertMany(anyList(), any(InsertManyOptions.class));
+    }
+
+    private static List<Path> partFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static List<String> lines(Path dir) throws IOException {
+        return partFiles(dir).stream()
+                .flatMap(file -> {
+                    try {
+                        return Files.readAllLines(file).stream();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.tournament_data.ids;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NodeIdLeases Tests")
+class NodeIdLeasesTest {
+
+    private static final long NOW = 1_000_000;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private NodeIdLeases leases;
+
+    @BeforeEach
+    void setUp() {
+        IdProperties properties = new IdProperties();
+        properties.setLeaseDuration(Duration.ofSeconds(30));
+        leases = new NodeIdLeases(mongoTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("Should move on to the next node id when one is held by another node")
+    void shouldSkipHeldNodeIds() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(NodeIdLeases.COLLECTION)))
+                .thenThrow(new DuplicateKeyException("held"))
+                .thenReturn(null);
+
+        NodeIdLeases.Lease lease = leases.acquire(NOW);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).findAndModify(queries.capture(), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Document.class), eq(NodeIdLeases.COLLECTION));
+        List<Object> nodeIds = queries.getAllValues().stream().map(query -> query.getQueryObject().get("_id")).toList();
+        assertThat(nodeIds).containsExactly((lease.nodeId() + NodeIdLeases.NODE_IDS - 1) % NodeIdLeases.NODE_IDS, lease.nodeId());
+        assertThat(lease.expiresAt()).isEqualTo(NOW + 30_000);
+        assertThat(lease.floor()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should continue after the expiry of a taken over lease")
+    void shouldTakeFloorFromPreviousHolder() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(NodeIdLeases.COLLECTION)))
+                .thenReturn(new Document("_id", 3).append("owner", "other").append("expiresAt", 900_000L));
+
+        assertThat(leases.acquire(NOW).floor()).isEqualTo(900_000L);
+    }
+
+    @Test
+    @DisplayName("Should fail when every node id is leased")
+    void shouldFailWhenAllNodeIdsAreHeld() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(NodeIdLeases.COLLECTION)))
+                .thenThrow(new DuplicateKeyException("held"));
+
+        assertThatThrownBy(() -> leases.acquire(NOW)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should extend a lease still held")
+    void shouldRenewLease() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(NodeIdLeases.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        NodeIdLeases.Lease renewed = leases.renew(new NodeIdLeases.Lease(7, NOW, 0), NOW + 10_000, true);
+
+        assertThat(renewed).isEqualTo(new NodeIdLeases.Lease(7, NOW + 40_000, 0));
+    }
+
+    @Test
+    @DisplayName("Should claim another node id when the lease was taken over")
+    void shouldReacquireLostLease() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(NodeIdLeases.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(NodeIdLeases.COLLECTION)))
+                .thenReturn(null);
+
+        NodeIdLeases.Lease renewed = leases.renew(new NodeIdLeases.Lease(7, NOW, 0), NOW + 10_000, true);
+
+        assertThat(renewed.expiresAt()).isEqualTo(NOW + 40_000);
+    }
+
+    @Test
+    @DisplayName("Should only report a lost lease when it may not claim another node id")
+    void shouldNotReacquireWhenNotAllowed() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(NodeIdLeases.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        NodeIdLeases.Lease renewed = leases.renew(new NodeIdLeases.Lease(7, NOW, 0), NOW + 10_000, false);
+
+        assertThat(renewed).isNull();
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Document.class), eq(NodeIdLeases.COLLECTION));
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.tournament_data.ids;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnowflakeIdGenerator Tests")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-04-01T12:00:00Z").toEpochMilli();
+    private static final long LEASE_MILLIS = 30_000;
+
+    @Mock
+    private NodeIdLeases leases;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(leases.leaseMillis()).thenReturn(LEASE_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should put timestamp, node id and counter into the id")
+    void shouldComposeId() {
+        when(leases.acquire(NOW)).thenReturn(new NodeIdLeases.Lease(5, NOW + LEASE_MILLIS, 0));
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(first).isPositive();
+        assertThat(SnowflakeIdGenerator.nodeIdOf(first)).isEqualTo(5);
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("Should move to the next millisecond once the counter is used up")
+    void shouldWaitOutCounterOverflow() {
+        when(leases.acquire(NOW)).thenReturn(new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0));
+        AtomicLong reads = new AtomicLong();
+        // the clock only moves on after every counter value of the first millisecond was read
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases,
+                () -> reads.incrementAndGet() > 4097 ? NOW + 1 : NOW);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4097; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        assertThat(SnowflakeIdGenerator.timestampOf(ids.get(4095))).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(SnowflakeIdGenerator.timestampOf(ids.get(4096))).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+    }
+
+    @Test
+    @DisplayName("Should not go back when the clock does")
+    void shouldStayMonotonicWhenClockMovesBack() {
+        when(leases.acquire(NOW)).thenReturn(new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0));
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, clock::getAndIncrement);
+
+        long first = generator.nextId();
+        clock.set(NOW - 5);
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.timestampOf(second)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    @DisplayName("Should only use timestamps after the previous holder's lease")
+    void shouldRespectLeaseFloor() {
+        when(leases.acquire(NOW)).thenReturn(new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, NOW + 3));
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, clock::getAndIncrement);
+
+        assertThat(SnowflakeIdGenerator.timestampOf(generator.nextId())).isAfter(Instant.ofEpochMilli(NOW + 3));
+    }
+
+    @Test
+    @DisplayName("Should renew the lease off the id path")
+    void shouldRenewLeaseInBackground() {
+        NodeIdLeases.Lease lease = new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0);
+        when(leases.acquire(NOW)).thenReturn(lease);
+        when(leases.renew(lease, NOW + 20_000, false)).thenReturn(new NodeIdLeases.Lease(1, NOW + 50_000, 0));
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, clock::get);
+
+        generator.nextId();
+        clock.set(NOW + 20_000);
+        generator.nextId();
+        verify(leases, never()).renew(any(), anyLong(), anyBoolean());
+
+        generator.renewLease();
+        clock.set(NOW + 40_000);
+        generator.nextId();
+
+        verify(leases, times(1)).renew(lease, NOW + 20_000, false);
+        generator.destroy();
+    }
+
+    @Test
+    @DisplayName("Should renew in line once the lease has expired without a background renewal")
+    void shouldRenewExpiredLeaseInLine() {
+        NodeIdLeases.Lease lease = new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0);
+        when(leases.acquire(NOW)).thenReturn(lease);
+        when(leases.renew(lease, NOW + LEASE_MILLIS, true)).thenReturn(new NodeIdLeases.Lease(7, NOW + 60_000, NOW + LEASE_MILLIS + 2));
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, clock::getAndIncrement);
+
+        generator.nextId();
+        clock.set(NOW + LEASE_MILLIS);
+        long id = generator.nextId();
+
+        // the lease was lost and another node id taken, ids continue after its previous holder
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7);
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isAfter(Instant.ofEpochMilli(NOW + LEASE_MILLIS + 2));
+        generator.destroy();
+    }
+
+    @Test
+    @DisplayName("Should not claim another node id in the background when the lease was lost")
+    void shouldDropLostLeaseInBackground() {
+        NodeIdLeases.Lease lease = new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0);
+        NodeIdLeases.Lease next = new NodeIdLeases.Lease(7, NOW + 50_000, 0);
+        when(leases.acquire(NOW)).thenReturn(lease);
+        when(leases.renew(lease, NOW + 20_000, false)).thenReturn(null);
+        when(leases.acquire(NOW + 20_000)).thenReturn(next);
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, clock::get);
+
+        generator.nextId();
+        clock.set(NOW + 20_000);
+        generator.renewLease();
+        verify(leases, times(1)).acquire(anyLong());
+
+        // the next id claims another node id in line
+        assertThat(SnowflakeIdGenerator.nodeIdOf(generator.nextId())).isEqualTo(7);
+        generator.destroy();
+        verify(leases).release(next, NOW + 20_000);
+    }
+
+    @Test
+    @DisplayName("Should not adopt a renewal that completes after shutdown")
+    void shouldIgnoreRenewalAfterShutdown() {
+        NodeIdLeases.Lease lease = new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0);
+        when(leases.acquire(NOW)).thenReturn(lease);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, () -> NOW);
+        generator.nextId();
+
+        // shut down while the renewal round trip is in flight
+        when(leases.renew(lease, NOW, false)).thenAnswer(invocation -> {
+            generator.destroy();
+            return new NodeIdLeases.Lease(1, NOW + 50_000, 0);
+        });
+        generator.renewLease();
+
+        verify(leases, times(1)).release(lease, NOW);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+        verify(leases, times(1)).acquire(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should hand the node id back on shutdown, after the last timestamp used")
+    void shouldReleaseLease() {
+        NodeIdLeases.Lease lease = new NodeIdLeases.Lease(1, NOW + LEASE_MILLIS, 0);
+        when(leases.acquire(NOW)).thenReturn(lease);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, () -> NOW);
+
+        generator.nextId();
+        generator.destroy();
+
+        verify(leases).release(lease, NOW);
+    }
+
+    @Test
+    @DisplayName("Should not lease a node id before the first id is needed")
+    void shouldLeaseLazily() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(leases, () -> NOW);
+
+        generator.destroy();
+
+        verify(leases, never()).acquire(anyLong());
+    }
+}
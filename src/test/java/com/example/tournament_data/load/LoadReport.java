@@ -0,0 +1,118 @@
+package com.example.tournament_data.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Per-endpoint latency samples of a load run, summarized into a JSON report that can be diffed between builds.
+ * Any status of 400 and above and any transport failure counts as an error.
+ */
+final class LoadReport {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    record EndpointStats(String endpoint, long requests, long errors, double errorRate, double throughput,
+            double p50Ms, double p99Ms, double p999Ms, double maxMs, Map<Integer, Long> statuses) {
+    }
+
+    record Summary(String label, Instant startedAt, double durationSeconds, Map<String, Object> config,
+            double allocationMbPerSecond, EndpointStats total, List<EndpointStats> endpoints) {
+    }
+
+    /**
+     * Record one request, status 0 for a request that got no response
+     */
+    void record(String endpoint, int status, long nanos) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(status, nanos);
+    }
+
+    /**
+     * Summarize the run, allocatedBytes is the heap allocated by the whole JVM (client and server) meanwhile
+     */
+    Summary summarize(String label, Instant startedAt, long elapsedNanos, long allocatedBytes,
+            Map<String, Object> config) {
+        double seconds = elapsedNanos / 1e9;
+        Samples all = new Samples();
+        List<EndpointStats> endpoints = new ArrayList<>();
+        new TreeMap<>(samples).forEach((endpoint, endpointSamples) -> {
+            endpoints.add(endpointSamples.stats(endpoint, seconds));
+            all.addAll(endpointSamples);
+        });
+        return new Summary(label, startedAt, seconds, config, allocatedBytes / 1e6 / seconds,
+                all.stats("total", seconds), endpoints);
+    }
+
+    static void write(Summary summary, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        JsonMapper jsonMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        Files.write(file, jsonMapper.writeValueAsBytes(summary));
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples, in milliseconds
+     */
+    static double percentileMillis(long[] sorted, int count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        synchronized void add(int status, long latency) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (status == 0 || status >= 400) {
+                errors++;
+            }
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                if (count + other.count > nanos.length) {
+                    nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+                }
+                System.arraycopy(other.nanos, 0, nanos, count, other.count);
+                count += other.count;
+                errors += other.errors;
+                other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+            }
+        }
+
+        synchronized EndpointStats stats(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointStats(endpoint, count, errors,
+                    count == 0 ? 0 : (double) errors / count,
+                    seconds > 0 ? count / seconds : 0,
+                    percentileMillis(sorted, count, 0.50),
+                    percentileMillis(sorted, count, 0.99),
+                    percentileMillis(sorted, count, 0.999),
+                    percentileMillis(sorted, count, 1.0),
+                    new TreeMap<>(statuses));
+        }
+    }
+}
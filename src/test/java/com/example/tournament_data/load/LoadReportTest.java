@@ -0,0 +1,60 @@
+package com.example.tournament_data.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("LoadReport Tests")
+class LoadReportTest {
+
+    @Test
+    @DisplayName("Should summarize percentiles, throughput and errors per endpoint")
+    void shouldSummarizePerEndpoint() {
+        LoadReport report = new LoadReport();
+        for (int ms = 1; ms <= 1000; ms++) {
+            report.record("GET /a", ms == 1000 ? 503 : 200, ms * 1_000_000L);
+        }
+        report.record("POST /b", 0, 5_000_000L);
+
+        LoadReport.Summary summary = report.summarize("test", Instant.EPOCH, 2_000_000_000L, 300_000_000L, Map.of());
+
+        LoadReport.EndpointStats a = summary.endpoints().get(0);
+        assertThat(a.endpoint()).isEqualTo("GET /a");
+        assertThat(a.requests()).isEqualTo(1000);
+        assertThat(a.p50Ms()).isEqualTo(500.0);
+        assertThat(a.p99Ms()).isEqualTo(990.0);
+        assertThat(a.p999Ms()).isEqualTo(999.0);
+        assertThat(a.maxMs()).isEqualTo(1000.0);
+        assertThat(a.throughput()).isEqualTo(500.0);
+        assertThat(a.errors()).isEqualTo(1);
+        assertThat(a.statuses()).containsEntry(200, 999L).containsEntry(503, 1L);
+
+        assertThat(summary.allocationMbPerSecond()).isEqualTo(150.0);
+        assertThat(summary.total().requests()).isEqualTo(1001);
+        assertThat(summary.total().errors()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should write the summary as JSON")
+    void shouldWriteJson(@TempDir Path dir) throws IOException {
+        LoadReport report = new LoadReport();
+        report.record("GET /a", 200, 2_000_000L);
+
+        Path file = dir.resolve("reports/load-report.json");
+        LoadReport.write(report.summarize("build-1", Instant.EPOCH, 1_000_000_000L, 0, Map.of("concurrency", 10)), file);
+
+        assertThat(Files.readString(file))
+                .contains("\"label\" : \"build-1\"")
+                .contains("\"concurrency\" : 10")
+                .contains("\"endpoint\" : \"GET /a\"")
+                .contains("\"p999Ms\" : 2.0");
+    }
+}
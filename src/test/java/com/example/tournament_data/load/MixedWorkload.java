@@ -0,0 +1,141 @@
+package com.example.tournament_data.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Weighted mix of point reads, aggregations and writes over a seeded TournamentDataset.
+ * Every client is a virtual thread sending its next request as soon as the previous one answered (closed loop),
+ * picking operations and ids from its own seeded Random.
+ */
+final class MixedWorkload {
+
+    private static final String JSON = "application/json";
+
+    enum Operation {
+        GET_TEAM("GET /api/v1/teams/{id}", 12),
+        GET_TEAM_DETAILS("GET /api/v1/teams/{id}/details", 8),
+        GET_TEAM_FORM("GET /api/v1/teams/{id}/form", 8),
+        GET_PLAYER("GET /api/v1/players/{id}", 20),
+        GET_PLAYER_AWARDS("GET /api/v1/players/{id}/awards", 6),
+        GET_MATCH("GET /api/v1/matches/{id}", 20),
+        GET_LEADERBOARD("GET /api/v1/players/leaderboard", 3),
+        PATCH_PLAYER("PATCH /api/v1/players/{id}", 15),
+        CREATE_MATCH("POST /api/v1/matches", 8);
+
+        private final String endpoint;
+        private final int weight;
+
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = List.of(Operation.values()).stream().mapToInt(op -> op.weight).sum();
+
+    private final URI baseUri;
+    private final TournamentDataset.Size size;
+    private final HttpClient client;
+
+    MixedWorkload(URI baseUri, TournamentDataset.Size size) {
+        this.baseUri = baseUri;
+        this.size = size;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    /**
+     * Send the given number of requests from concurrent clients, recording each into the report (when not null)
+     */
+    void run(int concurrency, int requests, long seed, LoadReport report) {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                Random random = new Random(seed + c);
+                clients.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        Operation operation = pick(random);
+                        HttpRequest request = request(operation, random);
+                        long sent = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException ex) {
+                            status = 0;
+                        }
+                        if (report != null) {
+                            report.record(operation.endpoint(), status, System.nanoTime() - sent);
+                        }
+                    }
+                    return null;
+                });
+            }
+        } // close() waits for every client
+    }
+
+    static Operation pick(Random random) {
+        int ticket = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : Operation.values()) {
+            ticket -= operation.weight;
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("weights do not add up");
+    }
+
+    private HttpRequest request(Operation operation, Random random) {
+        int teamId = 1 + random.nextInt(size.teams());
+        int playerId = 1 + random.nextInt(size.players());
+        int matchId = 1 + random.nextInt(size.matches());
+
+        return switch (operation) {
+            case GET_TEAM -> get("/api/v1/teams/" + teamId);
+            case GET_TEAM_DETAILS -> get("/api/v1/teams/" + teamId + "/details");
+            case GET_TEAM_FORM -> get("/api/v1/teams/" + teamId + "/form?n=5");
+            case GET_PLAYER -> get("/api/v1/players/" + playerId);
+            case GET_PLAYER_AWARDS -> get("/api/v1/players/" + playerId + "/awards?size=10");
+            case GET_MATCH -> get("/api/v1/matches/" + matchId);
+            case GET_LEADERBOARD -> get("/api/v1/players/leaderboard?stat=runsScored&limit=10");
+            case PATCH_PLAYER -> send("PATCH", "/api/v1/players/" + playerId, """
+                    {"stats": {"matchesPlayed": %d, "runsScored": %d}}
+                    """.formatted(random.nextInt(200), random.nextInt(8000)));
+            case CREATE_MATCH -> {
+                int firstTeam = 1 + random.nextInt(size.teams());
+                int secondTeam = 1 + firstTeam % size.teams();
+                yield send("POST", "/api/v1/matches", """
+                        {"venue": "Ground %d", "date": "2030-01-01T19:30:00", "firstTeamName": "%s",
+                         "secondTeamName": "%s", "status": "SCHEDULED"}
+                        """.formatted(firstTeam, TournamentDataset.teamName(firstTeam),
+                        TournamentDataset.teamName(secondTeam)));
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", JSON)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
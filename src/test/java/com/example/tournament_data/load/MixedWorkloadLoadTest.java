@@ -0,0 +1,120 @@
+package com.example.tournament_data.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.env.Environment;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+import com.example.tournament_data.datagen.DatasetWriter;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Boots the full application against a Mongo container, seeds a synthetic tournament and drives a mixed
+ * read/write workload at the REST endpoints, then writes throughput, latency percentiles and error rates per
+ * endpoint and the allocation rate to a JSON report.
+ * Opt-in: mvn test -Dloadtest=true -Dtest=MixedWorkloadLoadTest [-Dloadtest.requests=50000]
+ * [-Dloadtest.concurrency=200] [-Dloadtest.teams=500 -Dloadtest.players=12000 -Dloadtest.matches=50000]
+ * [-Dloadtest.label=my-branch] [-Dloadtest.report=target/load-report.json] [-Dspring.threads.virtual.enabled=true]
+ * [-Dtournament.response-cache.enabled=true]
+ * Two runs that only differ in one of the switches, with their own label and report, compare p99 and allocation rate.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tournament.mongo.backfill-derived-fields=false",
+        "tournament.search.build-on-startup=false",
+        "tournament.standings.build-on-startup=false",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=10000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("Mixed workload load test")
+class MixedWorkloadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MixedWorkloadLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 50_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("loadtest.warmup-requests", 5_000);
+    private static final long SEED = Long.getLong("loadtest.seed", 42);
+
+    // client and server share the JVM, the rate covers both; only the difference between two runs is meaningful
+    private static final ThreadMXBean ALLOCATIONS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatasetWriter datasetWriter;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void mixedWorkload() throws IOException {
+        TournamentDataset.Size size = TournamentDataset.Size.fromSystemProperties();
+        long seeding = System.nanoTime();
+        TournamentDataset.seed(datasetWriter, size, SEED);
+        logger.info("Seeded {} in {} s", size, Math.round((System.nanoTime() - seeding) / 1e9));
+
+        MixedWorkload workload = new MixedWorkload(URI.create("http://localhost:" + port), size);
+        workload.run(CONCURRENCY, WARMUP_REQUESTS, SEED - 1, null);
+
+        LoadReport report = new LoadReport();
+        Instant startedAt = Instant.now();
+        long allocatedBefore = ALLOCATIONS.getTotalThreadAllocatedBytes();
+        long began = System.nanoTime();
+        workload.run(CONCURRENCY, REQUESTS, SEED, report);
+        long elapsed = System.nanoTime() - began;
+        long allocated = ALLOCATIONS.getTotalThreadAllocatedBytes() - allocatedBefore;
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("teams", size.teams());
+        config.put("players", size.players());
+        config.put("matches", size.matches());
+        config.put("concurrency", CONCURRENCY);
+        config.put("requests", REQUESTS);
+        config.put("warmupRequests", WARMUP_REQUESTS);
+        config.put("seed", SEED);
+        config.put("virtualThreads", environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        config.put("responseCache", environment.getProperty("tournament.response-cache.enabled", Boolean.class, false));
+        config.put("javaVersion", Runtime.version().toString());
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        LoadReport.Summary summary = report.summarize(
+                System.getProperty("loadtest.label", "local"), startedAt, elapsed, allocated, config);
+        Path file = Path.of(System.getProperty("loadtest.report", "target/load-report.json"));
+        LoadReport.write(summary, file);
+
+        summary.endpoints().forEach(stats -> logger.info("{}: {} req, {} errors, {} req/s, p50 {} ms, p99 {} ms, p999 {} ms",
+                stats.endpoint(), stats.requests(), stats.errors(), Math.round(stats.throughput()),
+                stats.p50Ms(), stats.p99Ms(), stats.p999Ms()));
+        logger.info("Total: {} req/s, p99 {} ms, error rate {}, {} MB/s allocated, report written to {}",
+                Math.round(summary.total().throughput()), summary.total().p99Ms(), summary.total().errorRate(),
+                Math.round(summary.allocationMbPerSecond()), file.toAbsolutePath());
+
+        assertThat(summary.total().requests()).isEqualTo(REQUESTS);
+    }
+}
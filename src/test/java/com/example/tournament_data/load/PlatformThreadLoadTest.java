@@ -0,0 +1,14 @@
+package com.example.tournament_data.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+@DisplayName("Load test on platform threads")
+class PlatformThreadLoadTest extends ThreadModeLoadTestSupport {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
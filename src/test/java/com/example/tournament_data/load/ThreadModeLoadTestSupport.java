@@ -0,0 +1,166 @@
+package com.example.tournament_data.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+
+import com.example.tournament_data.dto.PlayerCreateRequest;
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.service.PlayerService;
+
+/**
+ * Fires N concurrent requests at the list and create endpoints and logs throughput and latency percentiles.
+ * The service layer is replaced by a stub that blocks for a fixed time, standing in for the sequential Mongo
+ * round trips, so the comparison isolates the request threading model.
+ * Opt-in: mvn test -Dloadtest=true -Dtest='*ThreadLoadTest' [-Dloadtest.concurrency=10000] [-Dloadtest.db-latency-ms=20]
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tournament.mongo.create-indexes=false",
+        "tournament.mongo.backfill-derived-fields=false",
+        "tournament.search.build-on-startup=false",
+        "tournament.standings.build-on-startup=false",
+        "tournament.bulkhead.enabled=false",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=10000"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@Import(ThreadModeLoadTestSupport.StubServices.class)
+abstract class ThreadModeLoadTestSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModeLoadTestSupport.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 1000);
+    private static final long DB_LATENCY_MS = Long.getLong("loadtest.db-latency-ms", 20);
+
+    private static final String CREATE_BODY = """
+            {"name": "Load Player", "teamName": "Mumbai Indians", "role": "Batsman", "battingStyle": "Right-Handed"}
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    abstract String mode();
+
+    /**
+     * Plain subclass rather than a Mockito mock, keeps invocation recording out of the measured path
+     */
+    @TestConfiguration
+    static class StubServices {
+
+        @Bean
+        @Primary
+        PlayerService stubPlayerService() {
+            PlayerResponse player = PlayerResponse.builder().id(1L).name("Load Player").teamName("Mumbai Indians")
+                    .role("Batsman").battingStyle("Right-Handed").build();
+
+            return new PlayerService(null, null, null, null, null) {
+                @Override
+                public List<PlayerResponse> getAllPlayers() {
+                    simulateDatabase();
+                    return List.of(player);
+                }
+
+                @Override
+                public PlayerResponse create(PlayerCreateRequest request) {
+                    simulateDatabase();
+                    return player;
+                }
+            };
+        }
+
+        private static void simulateDatabase() {
+            try {
+                Thread.sleep(DB_LATENCY_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    void listPlayers() throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/players");
+        run("GET /api/v1/players", () -> HttpRequest.newBuilder(uri).GET().build());
+    }
+
+    @Test
+    void createPlayer() throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/players");
+        run("POST /api/v1/players", () -> HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_BODY))
+                .build());
+    }
+
+    private void run(String endpoint, Supplier<HttpRequest> request) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        long[] latencies = new long[CONCURRENCY];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long began;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                int slot = i;
+                clients.submit(() -> {
+                    start.await();
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException ex) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[slot] = System.nanoTime() - sent;
+                    completed.incrementAndGet();
+                    return null;
+                });
+            }
+            began = System.nanoTime();
+            start.countDown();
+        } // close() waits for every request
+        long elapsed = System.nanoTime() - began;
+
+        Arrays.sort(latencies);
+        logger.info("[{}] {} x{}: {} errors, {} req/s, p50 {} ms, p99 {} ms, max {} ms",
+                mode(), endpoint, CONCURRENCY, errors.get(),
+                Math.round(CONCURRENCY / (elapsed / 1e9)),
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), percentileMillis(latencies, 1.0));
+
+        assertThat(completed.get()).isEqualTo(CONCURRENCY);
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+    }
+}
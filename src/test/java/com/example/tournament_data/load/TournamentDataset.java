@@ -0,0 +1,41 @@
+package com.example.tournament_data.load;
+
+import com.example.tournament_data.datagen.DatasetGenerator;
+import com.example.tournament_data.datagen.DatasetWriter;
+
+/**
+ * Synthetic tournament of the load test, written with the dataset generator from a fixed seed so runs against
+ * different builds load the same data.
+ */
+final class TournamentDataset {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private TournamentDataset() {
+    }
+
+    record Size(int teams, int players, int matches) {
+
+        /**
+         * Defaults to 500 teams, 12k players and 50k matches, overridable with -Dloadtest.teams/players/matches
+         */
+        static Size fromSystemProperties() {
+            return new Size(
+                    Integer.getInteger("loadtest.teams", 500),
+                    Integer.getInteger("loadtest.players", 12_000),
+                    Integer.getInteger("loadtest.matches", 50_000));
+        }
+    }
+
+    static String teamName(int teamId) {
+        return DatasetGenerator.teamName(teamId);
+    }
+
+    /**
+     * Replace teams, players and matches with a fresh tournament, sequences continue after the seeded ids
+     */
+    static void seed(DatasetWriter datasetWriter, Size size, long seed) {
+        DatasetGenerator generator = new DatasetGenerator(seed, size.teams(), size.players(), size.matches());
+        datasetWriter.writeToMongo(generator, BATCH_SIZE, Runtime.getRuntime().availableProcessors(), true);
+    }
+}
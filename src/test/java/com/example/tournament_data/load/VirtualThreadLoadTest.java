@@ -0,0 +1,14 @@
+package com.example.tournament_data.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+@DisplayName("Load test on virtual threads")
+class VirtualThreadLoadTest extends ThreadModeLoadTestSupport {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
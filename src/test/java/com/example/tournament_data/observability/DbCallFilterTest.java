@@ -0,0 +1,73 @@
+package com.example.tournament_data.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("DbCallFilter Tests")
+class DbCallFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DbCallFilter filter = new DbCallFilter(meterRegistry);
+    private final ExecutorService lookups = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        lookups.close();
+    }
+
+    @Test
+    @DisplayName("Should record round trips per route, including ones made on lookup threads")
+    void shouldRecordCallsPerRoute() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/matches/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/matches/{id}");
+            DbCallContext.current().record(2_000_000);
+            CompletableFuture.runAsync(DbCallContext.wrap(() -> DbCallContext.current().record(3_000_000)), lookups)
+                    .join();
+        });
+
+        assertThat(meterRegistry.get(DbCallFilter.METRIC_CALLS).tag("uri", "/api/v1/matches/{id}").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(DbCallFilter.METRIC_TIME).tag("uri", "/api/v1/matches/{id}").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(DbCallContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expose the round trips as response headers when enabled")
+    void shouldWriteHeadersWhenEnabled() throws Exception {
+        DbCallProperties properties = new DbCallProperties();
+        properties.setHeaders(true);
+        DbCallHeaderAdvice advice = new DbCallHeaderAdvice(properties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams/1/details");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            DbCallContext.current().record(1_500_000);
+            ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+            advice.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                    new ServletServerHttpRequest(request), serverResponse);
+            serverResponse.flush();
+        });
+
+        assertThat(response.getHeader(DbCallHeaderAdvice.DB_CALLS_HEADER)).isEqualTo("1");
+        assertThat(response.getHeader(DbCallHeaderAdvice.SERVER_TIMING_HEADER)).isEqualTo("db;dur=1.5;desc=\"1 calls\"");
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.tournament_data.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.repository.TeamRepository;
+import com.example.tournament_data.service.TeamFormService;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("JFR Events Tests")
+class JfrEventsTest {
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable("tournament.ServiceOperation");
+        recording.enable("tournament.MongoCommand");
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    @DisplayName("Should record service calls with entity type, ids and exception")
+    void shouldRecordServiceOperation() throws IOException {
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new TeamFormService(mock(MongoTemplate.class), mock(TeamRepository.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new JfrServiceAspect());
+        TeamFormService service = factory.getProxy();
+
+        assertThatThrownBy(() -> service.getForm(7L, 0)).isInstanceOf(InvalidRequestException.class);
+
+        RecordedEvent event = single("tournament.ServiceOperation");
+        assertThat(event.getString("service")).isEqualTo("TeamFormService");
+        assertThat(event.getString("method")).isEqualTo("getForm");
+        assertThat(event.getString("entityType")).isEqualTo("TeamForm");
+        assertThat(event.getString("entityIds")).isEqualTo("7");
+        assertThat(event.getString("exception")).isEqualTo("InvalidRequestException");
+    }
+
+    @Test
+    @DisplayName("Should record each Mongo command with its collection")
+    void shouldRecordMongoCommand() throws IOException {
+        JfrCommandListener listener = new JfrCommandListener();
+        ConnectionDescription connection = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+        listener.commandStarted(new CommandStartedEvent(null, 1, 42, connection, "tournament_data", "find",
+                BsonDocument.parse("{find: 'teams', filter: {_id: 1}}")));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, 42, connection, "tournament_data", "find",
+                new BsonDocument(), 1_000_000));
+
+        RecordedEvent event = single("tournament.MongoCommand");
+        assertThat(event.getString("command")).isEqualTo("find");
+        assertThat(event.getString("collection")).isEqualTo("teams");
+        assertThat(event.getBoolean("succeeded")).isTrue();
+    }
+
+    private RecordedEvent single(String eventName) throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("tournament", ".jfr");
+        try {
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .toList();
+            assertThat(events).hasSize(1);
+            return events.get(0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.tournament_data.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.tournament_data.controller.TeamController;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+import com.example.tournament_data.service.HeadToHeadService;
+import com.example.tournament_data.service.TeamFormService;
+import com.example.tournament_data.service.TeamService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OperationTimingAspect Tests")
+class OperationTimingAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OperationTimingAspect aspect = new OperationTimingAspect(meterRegistry);
+
+    @Test
+    @DisplayName("Should time repository calls under the application repository name")
+    void shouldTimeRepositoryCalls() {
+        TeamRepository target = mock(TeamRepository.class);
+        when(target.findById(1L)).thenReturn(Optional.of(Team.builder().id(1L).build()));
+        TeamRepository repository = proxy(target, TeamRepository.class);
+
+        repository.findById(1L);
+
+        assertThat(timer("repository", "TeamRepository", "findById").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time controller methods")
+    void shouldTimeControllerMethods() {
+        TeamService teamService = mock(TeamService.class);
+        when(teamService.getRoleCount(1L)).thenReturn(List.of());
+        TeamController controller = proxy(
+                new TeamController(teamService, mock(HeadToHeadService.class), mock(TeamFormService.class)), null);
+
+        controller.getRoleCount(1L);
+
+        assertThat(timer("controller", "TeamController", "getRoleCount").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag service calls that throw with the exception")
+    void shouldTagFailedServiceCalls() {
+        TeamFormService service = proxy(new TeamFormService(mock(MongoTemplate.class), mock(TeamRepository.class)), null);
+
+        assertThatThrownBy(() -> service.getForm(1L, 0)).isInstanceOf(InvalidRequestException.class);
+
+        assertThat(meterRegistry.get(OperationTimingAspect.METRIC_OPERATION)
+                .tags("layer", "service", "method", "getForm", "exception", "InvalidRequestException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target, Class<?> proxyInterface) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        if (proxyInterface != null) {
+            factory.setInterfaces(proxyInterface);
+        } else {
+            factory.setProxyTargetClass(true);
+        }
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    private Timer timer(String layer, String className, String method) {
+        return meterRegistry.get(OperationTimingAspect.METRIC_OPERATION)
+                .tags("layer", layer, "class", className, "method", method, "exception", "none")
+                .timer();
+    }
+}
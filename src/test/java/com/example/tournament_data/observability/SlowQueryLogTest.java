@@ -0,0 +1,130 @@
+package com.example.tournament_data.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import com.example.tournament_data.dto.SlowQueryResponse;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+@DisplayName("SlowQueryLog Tests")
+class SlowQueryLogTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(
+            new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SlowQueryProperties properties;
+    private SlowQueryLog slowQueryLog;
+    private int requestId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(100));
+        properties.setCapacity(2);
+        properties.setExplain(false);
+        slowQueryLog = new SlowQueryLog(properties, mock(ObjectProvider.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLog.destroy();
+    }
+
+    @Test
+    @DisplayName("Should keep slow commands with redacted values")
+    void shouldRecordSlowCommandRedacted() {
+        run("find", "{find: 'players', filter: {name: {$regex: 'rohit', $options: 'i'}, teamId: {$in: [1, 2]}}, "
+                + "lsid: {id: 1}, $db: 'tournament_data'}", 250);
+
+        List<SlowQueryResponse> recent = slowQueryLog.getRecent(10);
+
+        assertThat(recent).hasSize(1);
+        SlowQueryResponse slowQuery = recent.get(0);
+        assertThat(slowQuery.getCollection()).isEqualTo("players");
+        assertThat(slowQuery.getDurationMs()).isEqualTo(250);
+        // frames of the observability package itself are skipped, this test has no other application caller
+        assertThat(slowQuery.getOrigin()).isEqualTo("unknown");
+        assertThat(slowQuery.getShape())
+                .contains("\"$regex\": \"?\"", "\"teamId\": {\"$in\": \"?\"}")
+                .doesNotContain("rohit", "lsid", "tournament_data");
+        assertThat(slowQuery.getCollectionScan()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore fast commands and keep only the newest slow ones")
+    void shouldKeepBoundedNewestFirst() {
+        run("find", "{find: 'players', filter: {}}", 5);
+        run("find", "{find: 'players', filter: {}}", 150);
+        run("aggregate", "{aggregate: 'teams', pipeline: [{$match: {_id: 1}}]}", 200);
+        run("count", "{count: 'matches', query: {status: 'COMPLETED'}}", 300);
+
+        List<SlowQueryResponse> recent = slowQueryLog.getRecent(10);
+
+        assertThat(recent).extracting(SlowQueryResponse::getCommand).containsExactly("count", "aggregate");
+    }
+
+    @Test
+    @DisplayName("Should time commands over the size limit without keeping a copy")
+    void shouldNotCopyLargeCommands() {
+        properties.setMaxCommandSize(DataSize.ofBytes(64));
+
+        run("find", "{find: 'players', filter: {_id: {$in: [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12]}}}", 250);
+
+        SlowQueryResponse slowQuery = slowQueryLog.getRecent(10).get(0);
+        assertThat(slowQuery.getCollection()).isEqualTo("players");
+        assertThat(slowQuery.getDurationMs()).isEqualTo(250);
+        assertThat(slowQuery.getShape()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should size wire documents by their length prefix")
+    void shouldCopyUpToLimit() {
+        RawBsonDocument command = RawBsonDocument.parse("{find: 'players', filter: {teamId: 1}}");
+        int size = command.getByteBuffer().remaining();
+
+        assertThat(CommandShape.copyUpTo(command, size)).isEqualTo(command);
+        assertThat(CommandShape.copyUpTo(command, size - 1)).isNull();
+        assertThat(CommandShape.copyUpTo(BsonDocument.parse("{find: 'players', filter: {teamId: 1}}"), size))
+                .isEqualTo(command);
+    }
+
+    @Test
+    @DisplayName("Should read the winning plan stages and ignore rejected plans")
+    void shouldDetectCollectionScanInWinningPlan() {
+        BsonDocument explain = BsonDocument.parse("{queryPlanner: {"
+                + "winningPlan: {stage: 'FETCH', inputStage: {stage: 'IXSCAN', indexName: 'team_role'}},"
+                + "rejectedPlans: [{stage: 'COLLSCAN'}]}}");
+        BsonDocument scan = BsonDocument.parse("{queryPlanner: {winningPlan: {stage: 'COLLSCAN'}, rejectedPlans: []}}");
+
+        assertThat(CommandShape.winningStages(explain)).containsExactly("FETCH", "IXSCAN team_role");
+        assertThat(CommandShape.winningStages(scan)).containsExactly("COLLSCAN");
+    }
+
+    private void run(String commandName, String command, long millis) {
+        requestId++;
+        slowQueryLog.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "tournament_data",
+                commandName, BsonDocument.parse(command)));
+        slowQueryLog.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "tournament_data",
+                commandName, new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+}
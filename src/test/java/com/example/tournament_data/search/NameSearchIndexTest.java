@@ -0,0 +1,75 @@
+package com.example.tournament_data.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tournament_data.search.NameSearchIndex.Hit;
+import com.example.tournament_data.search.NameSearchIndex.Kind;
+
+@DisplayName("NameSearchIndex Tests")
+class NameSearchIndexTest {
+
+    private NameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameSearchIndex();
+        index.put(Kind.PLAYER, "1", "Virat Kohli");
+        index.put(Kind.PLAYER, "2", "Rohit Sharma");
+        index.put(Kind.PLAYER, "3", "Jasprit Bumrah");
+        index.put(Kind.TEAM, "1", "Mumbai Indians");
+        index.put(Kind.TEAM, "2", "Royal Challengers Bangalore");
+    }
+
+    @Test
+    @DisplayName("Should find names by prefix of any word")
+    void shouldMatchPrefix() {
+        assertThat(index.search("vir", 5, null)).extracting(Hit::name).first().isEqualTo("Virat Kohli");
+        assertThat(index.search("koh", 5, null)).extracting(Hit::name).first().isEqualTo("Virat Kohli");
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos")
+    void shouldMatchMisspelledName() {
+        assertThat(index.search("Rohti Sharma", 5, null)).extracting(Hit::name).first().isEqualTo("Rohit Sharma");
+        assertThat(index.search("mumbia indians", 5, null)).extracting(Hit::name).first().isEqualTo("Mumbai Indians");
+    }
+
+    @Test
+    @DisplayName("Should filter by kind and respect the limit")
+    void shouldFilterByKindAndLimit() {
+        List<Hit> teams = index.search("r", 10, Kind.TEAM);
+
+        assertThat(teams).extracting(Hit::kind).containsOnly(Kind.TEAM);
+        assertThat(index.search("a", 1, null)).hasSizeLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reflect renames and removals")
+    void shouldUpdateIncrementally() {
+        index.put(Kind.PLAYER, "1", "King Kohli");
+        index.remove(Kind.PLAYER, "3");
+
+        assertThat(index.search("virat", 5, Kind.PLAYER)).isEmpty();
+        assertThat(index.search("king", 5, Kind.PLAYER)).extracting(Hit::id).containsExactly("1");
+        assertThat(index.search("bumrah", 5, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a venue while any match is played there")
+    void shouldReferenceCountVenues() {
+        index.putMatchVenue(10L, "Wankhede Stadium");
+        index.putMatchVenue(11L, "  wankhede   stadium ");
+
+        index.removeMatchVenue(10L);
+        assertThat(index.search("wankhede", 5, Kind.VENUE)).hasSize(1);
+
+        index.removeMatchVenue(11L);
+        assertThat(index.search("wankhede", 5, Kind.VENUE)).isEmpty();
+    }
+}
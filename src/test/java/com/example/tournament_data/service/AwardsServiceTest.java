@@ -0,0 +1,162 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.dto.LeaderboardEntry;
+import com.example.tournament_data.dto.PlayerAwardsResponse;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.PlayerRepository;
+import com.example.tournament_data.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AwardsService Tests")
+class AwardsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private AwardsService awardsService;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Test
+    @DisplayName("Should page awards and resolve opponents with one team lookup")
+    void shouldPageAwardsAndResolveOpponents() {
+        Player player = Player.builder().id(7L).name("Virat Kohli").teamId(1L).build();
+        Match home = Match.builder().id(10L).date(LocalDateTime.of(2024, 4, 20, 19, 30)).venue("Chinnaswamy Stadium")
+                .firstTeam(1L).secondTeam(2L).result(Result.builder().winner(1L).margin("20 runs").manOfTheMatchId(7L).build()).build();
+        Match away = Match.builder().id(9L).date(LocalDateTime.of(2024, 4, 10, 19, 30)).venue("Eden Gardens")
+                .firstTeam(3L).secondTeam(1L).result(Result.builder().winner(1L).margin("4 wickets").manOfTheMatchId(7L).build()).build();
+        when(playerRepository.findById(7L)).thenReturn(Optional.of(player));
+        when(mongoTemplate.count(any(Query.class), eq(Match.class))).thenReturn(12L);
+        when(mongoTemplate.find(any(Query.class), eq(Match.class))).thenReturn(List.of(home, away));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(1L).teamName("Royal Challengers Bangalore").build(),
+                Team.builder().id(2L).teamName("Chennai Super Kings").build(),
+                Team.builder().id(3L).teamName("Kolkata Knight Riders").build()));
+
+        PlayerAwardsResponse response = awardsService.getPlayerAwards(7L, 1, 2);
+
+        assertThat(response.getTotalAwards()).isEqualTo(12L);
+        assertThat(response.getAwards()).extracting(PlayerAwardsResponse.Award::getOpponentName)
+                .containsExactly("Chennai Super Kings", "Kolkata Knight Riders");
+        verify(teamRepository, times(1)).findAllById(anyIterable());
+
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Match.class));
+        Query query = queryCaptor.getValue();
+        assertThat(query.getSkip()).isEqualTo(2);
+        assertThat(query.getLimit()).isEqualTo(2);
+        assertThat(query.getQueryObject()).containsEntry("result.manOfTheMatchId", 7L);
+        assertThat(query.getSortObject()).containsEntry("date", -1);
+    }
+
+    @Test
+    @DisplayName("Should resolve opponents from the team the award was won for, not the player's current team")
+    void shouldResolveOpponentFromTeamAtMatchTime() {
+        // moved from team 1 to team 3 since
+        Player player = Player.builder().id(7L).name("Virat Kohli").teamId(3L).build();
+        Match losingSide = Match.builder().id(10L).date(LocalDateTime.of(2024, 4, 20, 19, 30)).venue("Chinnaswamy Stadium")
+                .firstTeam(1L).secondTeam(2L).result(Result.builder().winner(2L).margin("20 runs").manOfTheMatchId(7L)
+                        .manOfTheMatchTeamId(1L).build()).build();
+        Match beforeTeamWasKept = Match.builder().id(9L).date(LocalDateTime.of(2024, 4, 10, 19, 30)).venue("Eden Gardens")
+                .firstTeam(3L).secondTeam(1L).result(Result.builder().winner(1L).margin("4 wickets").manOfTheMatchId(7L).build()).build();
+        when(playerRepository.findById(7L)).thenReturn(Optional.of(player));
+        when(mongoTemplate.count(any(Query.class), eq(Match.class))).thenReturn(2L);
+        when(mongoTemplate.find(any(Query.class), eq(Match.class))).thenReturn(List.of(losingSide, beforeTeamWasKept));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(1L).teamName("Royal Challengers Bangalore").build(),
+                Team.builder().id(2L).teamName("Chennai Super Kings").build(),
+                Team.builder().id(3L).teamName("Kolkata Knight Riders").build()));
+
+        PlayerAwardsResponse response = awardsService.getPlayerAwards(7L, 0, 10);
+
+        assertThat(response.getAwards()).extracting(PlayerAwardsResponse.Award::getOpponentName)
+                .containsExactly("Chennai Super Kings", "Kolkata Knight Riders");
+    }
+
+    @Test
+    @DisplayName("Should throw when player does not exist")
+    void shouldThrowWhenPlayerMissing() {
+        when(playerRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> awardsService.getPlayerAwards(99L, 0, 20))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    @DisplayName("Should rank leaderboard rows continuing from previous pages")
+    void shouldRankLeaderboardAcrossPages() {
+        List<Document> rows = List.of(
+                new Document("_id", 7).append("awards", 5),
+                new Document("_id", 8).append("awards", 4));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("matches"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(rows, new Document()));
+        when(playerRepository.findByIdIn(anyCollection())).thenReturn(List.of(
+                Player.builder().id(7L).name("Virat Kohli").teamId(1L).role("Batsman").build(),
+                Player.builder().id(8L).name("Jasprit Bumrah").teamId(2L).role("Bowler").build()));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(1L).teamName("Royal Challengers Bangalore").build()));
+
+        List<LeaderboardEntry> leaderboard = awardsService.getManOfTheMatchLeaderboard(2, 10);
+
+        assertThat(leaderboard).extracting(LeaderboardEntry::getRank).containsExactly(21, 22);
+        assertThat(leaderboard).extracting(LeaderboardEntry::getValue).containsExactly(5, 4);
+        assertThat(leaderboard.get(0).getTeamName()).isEqualTo("Royal Challengers Bangalore");
+        assertThat(leaderboard.get(1).getTeamName()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid paging")
+    void shouldRejectInvalidPaging() {
+        assertThatThrownBy(() -> awardsService.getManOfTheMatchLeaderboard(-1, 10))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> awardsService.getManOfTheMatchLeaderboard(0, AwardsService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(InvalidRequestException.class);
+
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+    }
+}
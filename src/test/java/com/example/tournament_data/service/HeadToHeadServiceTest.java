@@ -0,0 +1,140 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import com.example.tournament_data.dto.HeadToHeadResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("HeadToHeadService Tests")
+class HeadToHeadServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private HeadToHeadService headToHeadService;
+
+    @BeforeEach
+    void setUp() {
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(1L).teamName("Mumbai Indians").build(),
+                Team.builder().id(2L).teamName("Chennai Super Kings").build()));
+
+        Document totals = new Document("_id", null).append("played", 12).append("lowWins", 7).append("highWins", 5);
+        Document facet = new Document("totals", List.of(totals)).append("recent", List.of());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("matches"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(facet), new Document()));
+    }
+
+    @Test
+    @DisplayName("Should report wins from the requesting team's point of view")
+    void shouldReportWinsForEitherOrder() {
+        HeadToHeadResponse forward = headToHeadService.getHeadToHead(1L, 2L);
+        HeadToHeadResponse reverse = headToHeadService.getHeadToHead(2L, 1L);
+
+        assertThat(forward.getMatchesPlayed()).isEqualTo(12);
+        assertThat(forward.getTeamWins()).isEqualTo(7);
+        assertThat(forward.getOtherTeamWins()).isEqualTo(5);
+        assertThat(reverse.getTeamName()).isEqualTo("Chennai Super Kings");
+        assertThat(reverse.getTeamWins()).isEqualTo(5);
+        assertThat(reverse.getOtherTeamWins()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups of the same pair from cache")
+    void shouldCachePairRecord() {
+        headToHeadService.getHeadToHead(1L, 2L);
+        headToHeadService.getHeadToHead(2L, 1L);
+
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should recompute after a match between the pair changes")
+    void shouldEvictOnMatchChange() {
+        headToHeadService.getHeadToHead(1L, 2L);
+
+        Match match = Match.builder().id(100L).firstTeam(2L).secondTeam(1L).status("SCHEDULED").build();
+        headToHeadService.onMatchChanged(new MatchChangedEvent(null, match));
+        headToHeadService.getHeadToHead(1L, 2L);
+
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should not cache a record computed while a match between the pair was written")
+    void shouldNotCacheAcrossEviction() {
+        Document facet = new Document("totals", List.of()).append("recent", List.of());
+        Match match = Match.builder().id(100L).firstTeam(1L).secondTeam(2L).status("COMPLETED").build();
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("matches"), eq(Document.class)))
+                .thenAnswer(invocation -> {
+                    headToHeadService.onMatchChanged(new MatchChangedEvent(null, match));
+                    return new AggregationResults<>(List.of(facet), new Document());
+                });
+
+        headToHeadService.getHeadToHead(1L, 2L);
+        headToHeadService.getHeadToHead(1L, 2L);
+
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should keep cache when a match between other teams changes")
+    void shouldKeepCacheForOtherPairs() {
+        headToHeadService.getHeadToHead(1L, 2L);
+
+        Match match = Match.builder().id(101L).firstTeam(3L).secondTeam(4L).status("SCHEDULED").build();
+        headToHeadService.onMatchChanged(new MatchChangedEvent(null, match));
+        headToHeadService.getHeadToHead(1L, 2L);
+
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should reject comparing a team with itself")
+    void shouldRejectSameTeam() {
+        assertThatThrownBy(() -> headToHeadService.getHeadToHead(1L, 1L))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw when the other team does not exist")
+    void shouldThrowWhenTeamMissing() {
+        assertThatThrownBy(() -> headToHeadService.getHeadToHead(1L, 99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.dto.LeaderboardEntry;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Stats;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LeaderboardService Tests")
+class LeaderboardServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Test
+    @DisplayName("Should sort descending on the stat with role and team filters and limit")
+    void shouldBuildTopKQuery() {
+        when(mongoTemplate.find(any(Query.class), eq(Player.class))).thenReturn(List.of());
+
+        leaderboardService.getStatsLeaderboard("wicketsTaken", 5, "Bowler", 3L);
+
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Player.class));
+        Query query = queryCaptor.getValue();
+        assertThat(query.getLimit()).isEqualTo(5);
+        assertThat(query.getSortObject()).containsEntry("stats.wicketsTaken", -1);
+        assertThat(query.getQueryObject()).containsEntry("role", "Bowler").containsEntry("teamId", 3L);
+    }
+
+    @Test
+    @DisplayName("Should rank players and treat missing stats as zero")
+    void shouldTreatMissingStatsAsZero() {
+        Player withRuns = Player.builder().id(1L).name("Virat Kohli").teamId(1L).role("Batsman")
+                .stats(Stats.builder().runsScored(12000).build()).build();
+        Player nullRuns = Player.builder().id(2L).name("Jasprit Bumrah").teamId(1L).role("Bowler")
+                .stats(Stats.builder().wicketsTaken(150).build()).build();
+        Player noStats = Player.builder().id(3L).name("New Player").role("Bowler").build();
+        when(mongoTemplate.find(any(Query.class), eq(Player.class))).thenReturn(List.of(withRuns, nullRuns, noStats));
+        when(teamRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(Team.builder().id(1L).teamName("Mumbai Indians").build()));
+
+        List<LeaderboardEntry> leaderboard = leaderboardService.getStatsLeaderboard("runsScored", 10, null, null);
+
+        assertThat(leaderboard).extracting(LeaderboardEntry::getRank).containsExactly(1, 2, 3);
+        assertThat(leaderboard).extracting(LeaderboardEntry::getValue).containsExactly(12000, 0, 0);
+        assertThat(leaderboard.get(0).getTeamName()).isEqualTo("Mumbai Indians");
+        assertThat(leaderboard.get(2).getTeamName()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown stat")
+    void shouldRejectUnknownStat() {
+        assertThatThrownBy(() -> leaderboardService.getStatsLeaderboard("matchesPlayed", 10, null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("stat");
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Player.class));
+    }
+
+    @Test
+    @DisplayName("Should reject limit outside allowed range")
+    void shouldRejectLimitOutOfRange() {
+        assertThatThrownBy(() -> leaderboardService.getStatsLeaderboard("runsScored", 0, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> leaderboardService.getStatsLeaderboard("runsScored", LeaderboardService.MAX_LIMIT + 1, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should project only the fields needed for the row")
+    void shouldProjectNeededFields() {
+        when(mongoTemplate.find(any(Query.class), eq(Player.class))).thenReturn(List.of());
+
+        leaderboardService.getStatsLeaderboard("catchesTaken", 10, null, null);
+
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(Player.class));
+        Document fields = queryCaptor.getValue().getFieldsObject();
+        assertThat(fields.keySet()).containsExactlyInAnyOrder("name", "teamId", "role", "stats.catchesTaken");
+    }
+}
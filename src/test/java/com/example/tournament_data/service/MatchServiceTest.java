@@ -3,9 +3,13 @@ package com.example.tournament_data.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,16 +30,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 
+import com.example.tournament_data.dto.MatchBulkCreateRequest;
 import com.example.tournament_data.dto.MatchCreateRequest;
 import com.example.tournament_data.dto.MatchPatchRequest;
 import com.example.tournament_data.dto.MatchResponse;
 import com.example.tournament_data.dto.ResultCreateRequest;
+import com.example.tournament_data.event.MatchChangedEvent;
 import com.example.tournament_data.exception.InvalidRequestException;
 import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.ids.IdGenerator;
 import com.example.tournament_data.model.Match;
 import com.example.tournament_data.model.Player;
 import com.example.tournament_data.model.Result;
@@ -43,6 +54,8 @@ import com.example.tournament_data.repository.MatchRepository;
 import com.example.tournament_data.repository.PlayerRepository;
 import com.example.tournament_data.repository.TeamRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("MatchService Tests")
@@ -58,7 +71,29 @@ class MatchServiceTest {
     private PlayerRepository playerRepository;
 
     @Mock
-    private SequenceGeneratorService sequenceGeneratorService;
+    private IdGenerator idGenerator;
+
+    @Mock
+    private SequenceReservationService sequenceReservationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // runs lookups on the calling thread so stubbing and verification stay deterministic
+    @Spy
+    private ParallelLookups parallelLookups = new ParallelLookups(Runnable::run);
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+    @Spy
+    private MatchWriteGate matchWriteGate = new MatchWriteGate();
+
+    @Mock
+    private StandingsService standingsService;
+
+    @Mock
+    private VenueStatsService venueStatsService;
 
     @InjectMocks
     private MatchService matchService;
@@ -66,6 +101,9 @@ class MatchServiceTest {
     @Captor
     private ArgumentCaptor<Match> matchCaptor;
 
+    @Captor
+    private ArgumentCaptor<MatchChangedEvent> eventCaptor;
+
     // Test data
     private Team team1;
     private Team team2;
@@ -80,48 +118,48 @@ class MatchServiceTest {
     void setUp() {
         // Initialize test teams
         team1 = Team.builder()
-                .id(1)
+                .id(1L)
                 .teamName("Mumbai Indians")
                 .homeGround("Wankhede Stadium")
-                .playerIds(new ArrayList<>(Arrays.asList(10, 11, 12)))
+                .playerIds(new ArrayList<>(Arrays.asList(10L, 11L, 12L)))
                 .build();
 
         team2 = Team.builder()
-                .id(2)
+                .id(2L)
                 .teamName("Chennai Super Kings")
                 .homeGround("MA Chidambaram Stadium")
-                .playerIds(new ArrayList<>(Arrays.asList(20, 21, 22)))
+                .playerIds(new ArrayList<>(Arrays.asList(20L, 21L, 22L)))
                 .build();
 
         // Initialize test players
         player1 = Player.builder()
-                .id(10)
+                .id(10L)
                 .name("Rohit Sharma")
-                .teamId(1)
+                .teamId(1L)
                 .role("Batsman")
                 .build();
 
         player2 = Player.builder()
-                .id(20)
+                .id(20L)
                 .name("MS Dhoni")
-                .teamId(2)
+                .teamId(2L)
                 .role("Wicket-keeper")
                 .build();
 
         // Initialize test result
         testResult = Result.builder()
-                .winner(1)
+                .winner(1L)
                 .margin("5 wickets")
-                .manOfTheMatchId(10)
+                .manOfTheMatchId(10L)
                 .build();
 
         // Initialize test match - CHANGED to LocalDateTime
         testMatch = Match.builder()
-                .id(100)
+                .id(100L)
                 .venue("Wankhede Stadium")
                 .date(LocalDateTime.of(2024, 4, 15, 19, 30)) // CHANGED
-                .firstTeam(1)
-                .secondTeam(2)
+                .firstTeam(1L)
+                .secondTeam(2L)
                 .status("SCHEDULED")
                 .result(null)
                 .build();
@@ -142,10 +180,12 @@ class MatchServiceTest {
         createRequest.setResult(null);
 
         // Setup common mocks for convertToResponse
-        lenient().when(teamRepository.findById(1)).thenReturn(Optional.of(team1));
-        lenient().when(teamRepository.findById(2)).thenReturn(Optional.of(team2));
-        lenient().when(playerRepository.findById(10)).thenReturn(Optional.of(player1));
-        lenient().when(playerRepository.findById(20)).thenReturn(Optional.of(player2));
+        lenient().when(teamRepository.findById(1L)).thenReturn(Optional.of(team1));
+        lenient().when(teamRepository.findById(2L)).thenReturn(Optional.of(team2));
+        lenient().when(playerRepository.findById(10L)).thenReturn(Optional.of(player1));
+        lenient().when(playerRepository.findById(20L)).thenReturn(Optional.of(player2));
+        lenient().when(teamRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(team1, team2));
+        lenient().when(playerRepository.findByIdIn(anyCollection())).thenReturn(Arrays.asList(player1, player2));
     }
 
     // ==================== CREATE TESTS ====================
@@ -161,8 +201,8 @@ class MatchServiceTest {
                     .thenReturn(Optional.of(team1));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(team2));
-            when(sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Match.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -198,8 +238,8 @@ class MatchServiceTest {
                     .thenReturn(Optional.of(team2));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(player1));
-            when(sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Match.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -213,6 +253,10 @@ class MatchServiceTest {
             assertThat(response.getResult().getWinner()).isEqualTo("Mumbai Indians");
             assertThat(response.getResult().getMargin()).isEqualTo("5 wickets");
             assertThat(response.getResult().getManOfTheMatch()).isEqualTo("Rohit Sharma");
+
+            // the award keeps the team it was won for
+            verify(matchRepository).save(matchCaptor.capture());
+            assertThat(matchCaptor.getValue().getResult().getManOfTheMatchTeamId()).isEqualTo(1L);
         }
 
         @Test
@@ -353,9 +397,9 @@ class MatchServiceTest {
         void shouldThrowExceptionWhenManOfTheMatchNotFromPlayingTeams() {
             // Arrange
             Player outsidePlayer = Player.builder()
-                    .id(99)
+                    .id(99L)
                     .name("Outside Player")
-                    .teamId(99)
+                    .teamId(99L)
                     .build();
 
             createRequest.setStatus("COMPLETED");
@@ -392,8 +436,8 @@ class MatchServiceTest {
                     .thenReturn(Optional.of(team2));
             when(playerRepository.findByNameIgnoreCase("MS Dhoni"))
                     .thenReturn(Optional.of(player2));
-            when(sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Match.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -404,6 +448,170 @@ class MatchServiceTest {
             assertThat(response.getResult().getWinner()).isEqualTo("Chennai Super Kings");
             assertThat(response.getResult().getManOfTheMatch()).isEqualTo("MS Dhoni");
         }
+
+        @Test
+        @DisplayName("Should reject an id outside the bulk create")
+        void shouldRejectIdOutsideBulkCreate() {
+            // Arrange
+            createRequest.setId(500L);
+
+            // Act & Assert
+            assertThatThrownBy(() -> matchService.create(createRequest))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("bulk create");
+
+            verify(matchRepository, never()).save(any());
+        }
+    }
+
+    // ==================== BULK CREATE TESTS ====================
+    @Nested
+    @DisplayName("Bulk Create Match Tests")
+    class BulkCreateMatchTests {
+
+        @Test
+        @DisplayName("Should create new matches with their reserved ids and return existing ones as they are")
+        void shouldCreateNewMatchesAndSkipExisting() {
+            // Arrange
+            MatchCreateRequest existingRequest = new MatchCreateRequest();
+            existingRequest.setId(100L);
+            existingRequest.setVenue("Somewhere Else");
+            existingRequest.setFirstTeamName("Mumbai Indians");
+            existingRequest.setSecondTeamName("Chennai Super Kings");
+            existingRequest.setDate(LocalDateTime.of(2024, 4, 15, 19, 30));
+            createRequest.setId(101L);
+            MatchBulkCreateRequest request = new MatchBulkCreateRequest("reservation-1",
+                    List.of(existingRequest, createRequest));
+
+            when(matchRepository.findAllById(List.of(100L, 101L))).thenReturn(List.of(testMatch));
+            when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
+                    .thenReturn(Optional.of(team1));
+            when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
+                    .thenReturn(Optional.of(team2));
+            when(matchRepository.insert(any(Match.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            List<MatchResponse> responses = matchService.bulkCreate(request);
+
+            // Assert
+            assertThat(responses).extracting(MatchResponse::getId).containsExactly(100L, 101L);
+            assertThat(responses.get(0).getVenue()).isEqualTo("Wankhede Stadium");
+            verify(sequenceReservationService).validate("reservation-1", Match.SEQUENCE_NAME, List.of(100L, 101L));
+            verify(idGenerator, never()).nextId(any());
+            verify(matchRepository, times(1)).insert(matchCaptor.capture());
+            verify(matchRepository, never()).save(any(Match.class));
+            assertThat(matchCaptor.getValue().getId()).isEqualTo(101L);
+
+            // the existing match is scheduled, only its venue is recomputed
+            verify(venueStatsService).refresh(Set.of("wankhede stadium"));
+            verify(standingsService, never()).rebuild();
+        }
+
+        @Test
+        @DisplayName("Should recompute standings and venue stats for completed matches of an earlier attempt")
+        void shouldRepairDerivedDataOfExistingMatches() {
+            // Arrange
+            Match completed = testMatch.toBuilder().status("COMPLETED").result(testResult).build();
+            createRequest.setId(100L);
+            MatchBulkCreateRequest request = new MatchBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(matchRepository.findAllById(List.of(100L))).thenReturn(List.of(completed));
+
+            // Act
+            matchService.bulkCreate(request);
+
+            // Assert
+            verify(standingsService).rebuild();
+            verify(venueStatsService).refresh(Set.of("wankhede stadium"));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("Should not recompute anything when every match is new")
+        void shouldNotRepairWhenNothingExisted() {
+            // Arrange
+            createRequest.setId(101L);
+            MatchBulkCreateRequest request = new MatchBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(matchRepository.findAllById(List.of(101L))).thenReturn(List.of());
+            when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
+                    .thenReturn(Optional.of(team1));
+            when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
+                    .thenReturn(Optional.of(team2));
+            when(matchRepository.insert(any(Match.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            matchService.bulkCreate(request);
+
+            // Assert
+            verify(standingsService, never()).rebuild();
+            verify(venueStatsService, never()).refresh(any());
+        }
+
+        @Test
+        @DisplayName("Should return the match of a concurrent attempt, recomputing instead of publishing its event again")
+        void shouldReturnConcurrentlyCreatedMatch() {
+            // Arrange
+            createRequest.setId(100L);
+            MatchBulkCreateRequest request = new MatchBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(matchRepository.findAllById(List.of(100L))).thenReturn(List.of());
+            when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
+                    .thenReturn(Optional.of(team1));
+            when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
+                    .thenReturn(Optional.of(team2));
+            when(matchRepository.insert(any(Match.class)))
+                    .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
+
+            // Act
+            List<MatchResponse> responses = matchService.bulkCreate(request);
+
+            // Assert
+            assertThat(responses).extracting(MatchResponse::getId).containsExactly(100L);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+            verify(matchRepository, never()).save(any(Match.class));
+            verify(venueStatsService).refresh(Set.of("wankhede stadium"));
+        }
+
+        @Test
+        @DisplayName("Should reject a reserved id already used by a different match")
+        void shouldRejectIdOfDifferentMatch() {
+            // Arrange
+            createRequest.setId(100L);
+            createRequest.setDate(LocalDateTime.of(2024, 5, 1, 15, 30));
+            MatchBulkCreateRequest request = new MatchBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(matchRepository.findAllById(List.of(100L))).thenReturn(List.of(testMatch));
+
+            // Act & Assert
+            assertThatThrownBy(() -> matchService.bulkCreate(request))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("different match");
+
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+            verify(venueStatsService, never()).refresh(any());
+        }
+
+        @Test
+        @DisplayName("Should create nothing when the ids do not match the reservation")
+        void shouldCreateNothingWhenReservationRejectsIds() {
+            // Arrange
+            createRequest.setId(9999L);
+            MatchBulkCreateRequest request = new MatchBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            doThrow(new InvalidRequestException("id", "Id 9999 is outside of reservation"))
+                    .when(sequenceReservationService)
+                    .validate("reservation-1", Match.SEQUENCE_NAME, List.of(9999L));
+
+            // Act & Assert
+            assertThatThrownBy(() -> matchService.bulkCreate(request))
+                    .isInstanceOf(InvalidRequestException.class);
+
+            verify(matchRepository, never()).save(any());
+        }
     }
 
     // ==================== GET ALL TESTS ====================
@@ -416,20 +624,20 @@ class MatchServiceTest {
         void shouldReturnAllMatches() {
             // Arrange
             Match match1 = Match.builder()
-                    .id(1)
+                    .id(1L)
                     .venue("Venue 1")
                     .date(LocalDateTime.of(2024, 4, 15, 19, 30)) // CHANGED
-                    .firstTeam(1)
-                    .secondTeam(2)
+                    .firstTeam(1L)
+                    .secondTeam(2L)
                     .status("SCHEDULED")
                     .build();
 
             Match match2 = Match.builder()
-                    .id(2)
+                    .id(2L)
                     .venue("Venue 2")
                     .date(LocalDateTime.of(2024, 4, 16, 19, 30)) // CHANGED
-                    .firstTeam(1)
-                    .secondTeam(2)
+                    .firstTeam(1L)
+                    .secondTeam(2L)
                     .status("COMPLETED")
                     .result(testResult)
                     .build();
@@ -472,6 +680,25 @@ class MatchServiceTest {
             assertThat(responses.get(0).getFirstTeamName()).isEqualTo("Mumbai Indians");
             assertThat(responses.get(0).getSecondTeamName()).isEqualTo("Chennai Super Kings");
         }
+
+        @Test
+        @DisplayName("Should resolve names of all matches with one call per collection")
+        void shouldResolveNamesInBatch() {
+            // Arrange
+            Match completedMatch = testMatch.toBuilder().id(101L).status("COMPLETED").result(testResult).build();
+            when(matchRepository.findAll()).thenReturn(Arrays.asList(testMatch, completedMatch));
+
+            // Act
+            List<MatchResponse> responses = matchService.getAllMatches();
+
+            // Assert
+            assertThat(responses.get(1).getResult().getWinner()).isEqualTo("Mumbai Indians");
+            assertThat(responses.get(1).getResult().getManOfTheMatch()).isEqualTo("Rohit Sharma");
+            verify(teamRepository, times(1)).findAllById(anyIterable());
+            verify(playerRepository, times(1)).findByIdIn(anyCollection());
+            verify(teamRepository, never()).findById(anyLong());
+            verify(playerRepository, never()).findById(anyLong());
+        }
     }
 
     // ==================== GET BY ID TESTS ====================
@@ -483,10 +710,10 @@ class MatchServiceTest {
         @DisplayName("Should return match when found")
         void shouldReturnMatchWhenFound() {
             // Arrange
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act
-            MatchResponse response = matchService.getMatchById(100);
+            MatchResponse response = matchService.getMatchById(100L);
 
             // Assert
             assertThat(response).isNotNull();
@@ -500,10 +727,10 @@ class MatchServiceTest {
         @DisplayName("Should throw ResourceNotFoundException when match not found")
         void shouldThrowExceptionWhenMatchNotFound() {
             // Arrange
-            when(matchRepository.findById(999)).thenReturn(Optional.empty());
+            when(matchRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.getMatchById(999))
+            assertThatThrownBy(() -> matchService.getMatchById(999L))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Match");
         }
@@ -515,10 +742,10 @@ class MatchServiceTest {
             testMatch.setStatus("COMPLETED");
             testMatch.setResult(testResult);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act
-            MatchResponse response = matchService.getMatchById(100);
+            MatchResponse response = matchService.getMatchById(100L);
 
             // Assert
             assertThat(response.getResult()).isNotNull();
@@ -539,7 +766,7 @@ class MatchServiceTest {
             // Arrange
             createRequest.setVenue("New Venue");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(team1));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
@@ -548,13 +775,37 @@ class MatchServiceTest {
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.updateMatch(100, createRequest);
+            MatchResponse response = matchService.updateMatch(100L, createRequest);
 
             // Assert
             assertThat(response.getVenue()).isEqualTo("New Venue");
             verify(matchRepository).save(any(Match.class));
         }
 
+        @Test
+        @DisplayName("Should publish change event with the state before the update")
+        void shouldPublishChangeEventWithPreviousState() {
+            // Arrange
+            createRequest.setVenue("New Venue");
+
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
+            when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
+                    .thenReturn(Optional.of(team1));
+            when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
+                    .thenReturn(Optional.of(team2));
+            when(matchRepository.save(any(Match.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            matchService.updateMatch(100L, createRequest);
+
+            // Assert
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            MatchChangedEvent event = eventCaptor.getValue();
+            assertThat(event.previous().getVenue()).isEqualTo("Wankhede Stadium");
+            assertThat(event.current().getVenue()).isEqualTo("New Venue");
+        }
+
         @Test
         @DisplayName("Should update match status to COMPLETED with result")
         void shouldUpdateMatchStatusToCompletedWithResult() {
@@ -562,7 +813,7 @@ class MatchServiceTest {
             createRequest.setStatus("COMPLETED");
             createRequest.setResult(resultRequest);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(team1));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
@@ -573,7 +824,7 @@ class MatchServiceTest {
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.updateMatch(100, createRequest);
+            MatchResponse response = matchService.updateMatch(100L, createRequest);
 
             // Assert
             assertThat(response.getStatus()).isEqualTo("COMPLETED");
@@ -584,10 +835,10 @@ class MatchServiceTest {
         @DisplayName("Should throw exception when match not found for update")
         void shouldThrowExceptionWhenMatchNotFoundForUpdate() {
             // Arrange
-            when(matchRepository.findById(999)).thenReturn(Optional.empty());
+            when(matchRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.updateMatch(999, createRequest))
+            assertThatThrownBy(() -> matchService.updateMatch(999L, createRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
 
@@ -597,12 +848,12 @@ class MatchServiceTest {
             // Arrange
             createRequest.setSecondTeamName("Mumbai Indians");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(team1));
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.updateMatch(100, createRequest))
+            assertThatThrownBy(() -> matchService.updateMatch(100L, createRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("First team and second team cannot be the same");
         }
@@ -614,7 +865,7 @@ class MatchServiceTest {
             createRequest.setFirstTeamName("Chennai Super Kings");
             createRequest.setSecondTeamName("Mumbai Indians");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(team2));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
@@ -623,7 +874,7 @@ class MatchServiceTest {
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.updateMatch(100, createRequest);
+            MatchResponse response = matchService.updateMatch(100L, createRequest);
 
             // Assert
             assertThat(response.getFirstTeamName()).isEqualTo("Chennai Super Kings");
@@ -649,12 +900,12 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setVenue("New Venue");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getVenue()).isEqualTo("New Venue");
@@ -668,12 +919,12 @@ class MatchServiceTest {
             LocalDateTime newDate = LocalDateTime.of(2024, 5, 20, 15, 0); // CHANGED
             patchRequest.setDate(newDate);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getDate()).isEqualTo(newDate);
@@ -684,21 +935,21 @@ class MatchServiceTest {
         void shouldPatchFirstTeam() {
             // Arrange
             Team team3 = Team.builder()
-                    .id(3)
+                    .id(3L)
                     .teamName("Royal Challengers Bangalore")
                     .build();
 
             patchRequest.setFirstTeamName("Royal Challengers Bangalore");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Royal Challengers Bangalore"))
                     .thenReturn(Optional.of(team3));
-            when(teamRepository.findById(3)).thenReturn(Optional.of(team3));
+            when(teamRepository.findById(3L)).thenReturn(Optional.of(team3));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getFirstTeamName()).isEqualTo("Royal Challengers Bangalore");
@@ -710,21 +961,21 @@ class MatchServiceTest {
         void shouldPatchSecondTeam() {
             // Arrange
             Team team3 = Team.builder()
-                    .id(3)
+                    .id(3L)
                     .teamName("Royal Challengers Bangalore")
                     .build();
 
             patchRequest.setSecondTeamName("Royal Challengers Bangalore");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Royal Challengers Bangalore"))
                     .thenReturn(Optional.of(team3));
-            when(teamRepository.findById(3)).thenReturn(Optional.of(team3));
+            when(teamRepository.findById(3L)).thenReturn(Optional.of(team3));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getFirstTeamName()).isEqualTo("Mumbai Indians");
@@ -737,12 +988,12 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setFirstTeamName("Chennai Super Kings");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(team2));
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.patchMatch(100, patchRequest))
+            assertThatThrownBy(() -> matchService.patchMatch(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("First team and second team cannot be the same");
         }
@@ -753,12 +1004,12 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setSecondTeamName("Mumbai Indians");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(team1));
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.patchMatch(100, patchRequest))
+            assertThatThrownBy(() -> matchService.patchMatch(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("First team and second team cannot be the same");
         }
@@ -770,14 +1021,14 @@ class MatchServiceTest {
             patchRequest.setStatus("COMPLETED");
             patchRequest.setResult(resultRequest);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(player1));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getStatus()).isEqualTo("COMPLETED");
@@ -791,10 +1042,10 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setStatus("COMPLETED");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.patchMatch(100, patchRequest))
+            assertThatThrownBy(() -> matchService.patchMatch(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Result is required when changing match status to COMPLETED");
         }
@@ -807,12 +1058,12 @@ class MatchServiceTest {
             testMatch.setResult(testResult);
             patchRequest.setStatus("SCHEDULED");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getStatus()).isEqualTo("SCHEDULED");
@@ -825,10 +1076,10 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setResult(resultRequest);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.patchMatch(100, patchRequest))
+            assertThatThrownBy(() -> matchService.patchMatch(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Result can only be set for COMPLETED matches");
         }
@@ -837,10 +1088,10 @@ class MatchServiceTest {
         @DisplayName("Should throw exception when match not found for patch")
         void shouldThrowExceptionWhenMatchNotFoundForPatch() {
             // Arrange
-            when(matchRepository.findById(999)).thenReturn(Optional.empty());
+            when(matchRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.patchMatch(999, patchRequest))
+            assertThatThrownBy(() -> matchService.patchMatch(999L, patchRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
 
@@ -850,12 +1101,12 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setVenue("   ");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getVenue()).isEqualTo("Wankhede Stadium");
@@ -867,12 +1118,12 @@ class MatchServiceTest {
             // Arrange
             patchRequest.setStatus("");
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getStatus()).isEqualTo("SCHEDULED");
@@ -892,14 +1143,14 @@ class MatchServiceTest {
 
             patchRequest.setResult(newResult);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(playerRepository.findByNameIgnoreCase("MS Dhoni"))
                     .thenReturn(Optional.of(player2));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getResult().getWinner()).isEqualTo("Chennai Super Kings");
@@ -917,17 +1168,17 @@ class MatchServiceTest {
         @DisplayName("Should delete match successfully")
         void shouldDeleteMatchSuccessfully() {
             // Arrange
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act
-            MatchResponse response = matchService.deleteMatch(100);
+            MatchResponse response = matchService.deleteMatch(100L);
 
             // Assert
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(100);
             assertThat(response.getVenue()).isEqualTo("Wankhede Stadium");
 
-            verify(matchRepository).deleteById(100);
+            verify(matchRepository).deleteById(100L);
         }
 
         @Test
@@ -937,29 +1188,45 @@ class MatchServiceTest {
             testMatch.setStatus("COMPLETED");
             testMatch.setResult(testResult);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act
-            MatchResponse response = matchService.deleteMatch(100);
+            MatchResponse response = matchService.deleteMatch(100L);
 
             // Assert
             assertThat(response.getResult()).isNotNull();
             assertThat(response.getResult().getWinner()).isEqualTo("Mumbai Indians");
 
-            verify(matchRepository).deleteById(100);
+            verify(matchRepository).deleteById(100L);
         }
 
         @Test
         @DisplayName("Should throw exception when match not found for delete")
         void shouldThrowExceptionWhenMatchNotFoundForDelete() {
             // Arrange
-            when(matchRepository.findById(999)).thenReturn(Optional.empty());
+            when(matchRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> matchService.deleteMatch(999))
+            assertThatThrownBy(() -> matchService.deleteMatch(999L))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(matchRepository, never()).deleteById(anyInt());
+            verify(matchRepository, never()).deleteById(anyLong());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("Should publish change event without current state on delete")
+        void shouldPublishChangeEventOnDelete() {
+            // Arrange
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
+
+            // Act
+            matchService.deleteMatch(100L);
+
+            // Assert
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().previous()).isSameAs(testMatch);
+            assertThat(eventCaptor.getValue().current()).isNull();
         }
     }
 
@@ -974,10 +1241,10 @@ class MatchServiceTest {
             // Arrange
             testMatch.setFirstTeam(null);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act
-            MatchResponse response = matchService.getMatchById(100);
+            MatchResponse response = matchService.getMatchById(100L);
 
             // Assert
             assertThat(response.getFirstTeamName()).isNull();
@@ -987,13 +1254,13 @@ class MatchServiceTest {
         @DisplayName("Should handle team not found in getTeamName")
         void shouldHandleTeamNotFoundInGetTeamName() {
             // Arrange
-            testMatch.setFirstTeam(999);
+            testMatch.setFirstTeam(999L);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
-            when(teamRepository.findById(999)).thenReturn(Optional.empty());
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
+            when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act
-            MatchResponse response = matchService.getMatchById(100);
+            MatchResponse response = matchService.getMatchById(100L);
 
             // Assert
             assertThat(response.getFirstTeamName()).isNull();
@@ -1004,7 +1271,7 @@ class MatchServiceTest {
         void shouldHandleNullPlayerIdInGetPlayerName() {
             // Arrange
             Result resultWithNullPlayer = Result.builder()
-                    .winner(1)
+                    .winner(1L)
                     .margin("5 wickets")
                     .manOfTheMatchId(null)
                     .build();
@@ -1012,10 +1279,10 @@ class MatchServiceTest {
             testMatch.setStatus("COMPLETED");
             testMatch.setResult(resultWithNullPlayer);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
 
             // Act
-            MatchResponse response = matchService.getMatchById(100);
+            MatchResponse response = matchService.getMatchById(100L);
 
             // Assert
             assertThat(response.getResult().getManOfTheMatch()).isNull();
@@ -1026,19 +1293,19 @@ class MatchServiceTest {
         void shouldHandlePlayerNotFoundInGetPlayerName() {
             // Arrange
             Result resultWithUnknownPlayer = Result.builder()
-                    .winner(1)
+                    .winner(1L)
                     .margin("5 wickets")
-                    .manOfTheMatchId(999)
+                    .manOfTheMatchId(999L)
                     .build();
 
             testMatch.setStatus("COMPLETED");
             testMatch.setResult(resultWithUnknownPlayer);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act
-            MatchResponse response = matchService.getMatchById(100);
+            MatchResponse response = matchService.getMatchById(100L);
 
             // Assert
             assertThat(response.getResult().getManOfTheMatch()).isNull();
@@ -1061,8 +1328,8 @@ class MatchServiceTest {
                     .thenReturn(Optional.of(team1));
             when(teamRepository.findByTeamNameIgnoreCase("chennai super kings"))
                     .thenReturn(Optional.of(team2));
-            when(sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Match.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -1089,8 +1356,8 @@ class MatchServiceTest {
                     .thenReturn(Optional.of(team2));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(player1));
-            when(sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Match.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -1111,14 +1378,14 @@ class MatchServiceTest {
             patchRequest.setStatus("COMPLETED");
             patchRequest.setResult(resultRequest);
 
-            when(matchRepository.findById(100)).thenReturn(Optional.of(testMatch));
+            when(matchRepository.findById(100L)).thenReturn(Optional.of(testMatch));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(player1));
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            MatchResponse response = matchService.patchMatch(100, patchRequest);
+            MatchResponse response = matchService.patchMatch(100L, patchRequest);
 
             // Assert
             assertThat(response.getVenue()).isEqualTo("New Venue");
@@ -1142,8 +1409,8 @@ class MatchServiceTest {
                     .thenReturn(Optional.of(team2));
             when(playerRepository.findByNameIgnoreCase("MS Dhoni"))
                     .thenReturn(Optional.of(player2));
-            when(sequenceGeneratorService.generateSequence(Match.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Match.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(matchRepository.save(any(Match.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -0,0 +1,74 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MatchWriteGate Tests")
+class MatchWriteGateTest {
+
+    private final MatchWriteGate gate = new MatchWriteGate();
+
+    @Test
+    @DisplayName("Should hold a recompute back until the write in flight and its listeners are done")
+    void shouldWaitForWriteInFlight() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> write = CompletableFuture.supplyAsync(() -> gate.write(() -> {
+            writing.countDown();
+            await(release);
+            order.add("write");
+            return "saved";
+        }));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> recompute = CompletableFuture.runAsync(() -> gate.recompute(() -> order.add("recompute")));
+        Thread.sleep(50);
+        assertThat(recompute).isNotDone();
+
+        release.countDown();
+
+        assertThat(write.get(5, TimeUnit.SECONDS)).isEqualTo("saved");
+        recompute.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("write", "recompute");
+    }
+
+    @Test
+    @DisplayName("Should let match writes run together")
+    void shouldShareBetweenWrites() throws Exception {
+        CountDownLatch bothWriting = new CountDownLatch(2);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> gate.write(() -> awaitOther(bothWriting)));
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> gate.write(() -> awaitOther(bothWriting)));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean awaitOther(CountDownLatch bothWriting) {
+        bothWriting.countDown();
+        try {
+            return bothWriting.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tournament_data.exception.InvalidRequestException;
+
+@DisplayName("ParallelLookups Tests")
+class ParallelLookupsTest {
+
+    private final ParallelLookups parallelLookups = new ParallelLookups(Executors.newVirtualThreadPerTaskExecutor());
+
+    @AfterEach
+    void tearDown() throws Exception {
+        parallelLookups.destroy();
+    }
+
+    @Test
+    @DisplayName("Should run independent lookups at the same time")
+    void shouldRunLookupsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompletableFuture<Boolean> first = parallelLookups.submit(() -> awaitOther(bothStarted));
+        CompletableFuture<Boolean> second = parallelLookups.submit(() -> awaitOther(bothStarted));
+
+        assertThat(ParallelLookups.join(first)).isTrue();
+        assertThat(ParallelLookups.join(second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the exception of a failed lookup unwrapped")
+    void shouldRethrowLookupException() {
+        CompletableFuture<Object> lookup = parallelLookups.submit(() -> {
+            throw new InvalidRequestException("firstTeamName", "Team not found");
+        });
+
+        assertThatThrownBy(() -> ParallelLookups.join(lookup))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Team not found");
+    }
+
+    @Test
+    @DisplayName("Should skip cancelled lookups that have not started yet")
+    void shouldSkipCancelledLookups() {
+        List<Runnable> queued = new ArrayList<>();
+        ParallelLookups queueing = new ParallelLookups(queued::add);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<Integer> needed = queueing.submit(runs::incrementAndGet);
+        CompletableFuture<Integer> unneeded = queueing.submit(runs::incrementAndGet);
+        ParallelLookups.cancel(unneeded, null);
+        queued.forEach(Runnable::run);
+
+        assertThat(ParallelLookups.join(needed)).isEqualTo(1);
+        assertThat(unneeded).isCancelled();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    private static boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
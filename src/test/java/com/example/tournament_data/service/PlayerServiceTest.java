@@ -3,7 +3,10 @@ package com.example.tournament_data.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -15,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,12 +29,18 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import com.example.tournament_data.dto.PlayerBulkCreateRequest;
 import com.example.tournament_data.dto.PlayerCreateRequest;
 import com.example.tournament_data.dto.PlayerPatchRequest;
 import com.example.tournament_data.dto.PlayerResponse;
 import com.example.tournament_data.exception.InvalidRequestException;
 import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.ids.IdGenerator;
 import com.example.tournament_data.model.Player;
 import com.example.tournament_data.model.Stats;
 import com.example.tournament_data.model.Team;
@@ -48,7 +58,13 @@ class PlayerServiceTest {
     private TeamRepository teamRepository;
 
     @Mock
-    private SequenceGeneratorService sequenceGeneratorService;
+    private IdGenerator idGenerator;
+
+    @Mock
+    private SequenceReservationService sequenceReservationService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
 
     @InjectMocks
     private PlayerService playerService;
@@ -59,6 +75,9 @@ class PlayerServiceTest {
     @Captor
     private ArgumentCaptor<Team> teamCaptor;
 
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
     // Test data
     private Team testTeam;
     private Player testPlayer;
@@ -77,17 +96,17 @@ class PlayerServiceTest {
 
         // Initialize test team
         testTeam = Team.builder()
-                .id(1)
+                .id(1L)
                 .teamName("Mumbai Indians")
-                .playerIds(new ArrayList<>(Arrays.asList(10, 11, 12)))
-                .captainId(10)
+                .playerIds(new ArrayList<>(Arrays.asList(10L, 11L, 12L)))
+                .captainId(10L)
                 .build();
 
         // Initialize test player
         testPlayer = Player.builder()
-                .id(100)
+                .id(100L)
                 .name("Virat Kohli")
-                .teamId(1)
+                .teamId(1L)
                 .role("Batsman")
                 .battingStyle("Right-handed")
                 .bowlingStyle("Right-arm medium")
@@ -114,23 +133,23 @@ class PlayerServiceTest {
             // Arrange
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
-            when(sequenceGeneratorService.generateSequence(Player.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Player.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Mock existing players in team (none with same name)
-            when(playerRepository.findById(10)).thenReturn(Optional.of(
-                    Player.builder().id(10).name("Player One").build()));
-            when(playerRepository.findById(11)).thenReturn(Optional.of(
-                    Player.builder().id(11).name("Player Two").build()));
-            when(playerRepository.findById(12)).thenReturn(Optional.of(
-                    Player.builder().id(12).name("Player Three").build()));
+            when(playerRepository.findById(10L)).thenReturn(Optional.of(
+                    Player.builder().id(10L).name("Player One").build()));
+            when(playerRepository.findById(11L)).thenReturn(Optional.of(
+                    Player.builder().id(11L).name("Player Two").build()));
+            when(playerRepository.findById(12L)).thenReturn(Optional.of(
+                    Player.builder().id(12L).name("Player Three").build()));
 
             // Mock for convertToResponse() method
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
             PlayerResponse response = playerService.create(createRequest);
@@ -152,7 +171,7 @@ class PlayerServiceTest {
             // Verify team was updated with new player ID
             verify(teamRepository).save(teamCaptor.capture());
             Team savedTeam = teamCaptor.getValue();
-            assertThat(savedTeam.getPlayerIds()).contains(101);
+            assertThat(savedTeam.getPlayerIds()).contains(101L);
         }
 
         @Test
@@ -163,19 +182,19 @@ class PlayerServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
-            when(sequenceGeneratorService.generateSequence(Player.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Player.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Mock existing players
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(
-                    Player.builder().id(1).name("Other Player").build()));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(
+                    Player.builder().id(1L).name("Other Player").build()));
 
             // Mock for convertToResponse()
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
             PlayerResponse response = playerService.create(createRequest);
@@ -213,8 +232,8 @@ class PlayerServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(10)).thenReturn(Optional.of(
-                    Player.builder().id(10).name("Player One").build()));
+            when(playerRepository.findById(10L)).thenReturn(Optional.of(
+                    Player.builder().id(10L).name("Player One").build()));
 
             // Act & Assert
             assertThatThrownBy(() -> playerService.create(createRequest))
@@ -228,9 +247,9 @@ class PlayerServiceTest {
         @DisplayName("Should throw exception when team has reached maximum player limit")
         void shouldThrowExceptionWhenTeamFull() {
             // Arrange
-            List<Integer> fullPlayerList = new ArrayList<>();
+            List<Long> fullPlayerList = new ArrayList<>();
             for (int i = 1; i <= 25; i++) {
-                fullPlayerList.add(i);
+                fullPlayerList.add((long) i);
             }
             testTeam.setPlayerIds(fullPlayerList);
 
@@ -238,8 +257,8 @@ class PlayerServiceTest {
                     .thenReturn(Optional.of(testTeam));
 
             // Mock existing players (none with same name)
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(
-                    Player.builder().id(1).name("Different Name").build()));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(
+                    Player.builder().id(1L).name("Different Name").build()));
 
             // Act & Assert
             assertThatThrownBy(() -> playerService.create(createRequest))
@@ -263,17 +282,17 @@ class PlayerServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
-            when(sequenceGeneratorService.generateSequence(Player.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Player.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(
-                    Player.builder().id(1).name("Other").build()));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(
+                    Player.builder().id(1L).name("Other").build()));
 
             // Mock for convertToResponse()
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
             PlayerResponse response = playerService.create(createRequest);
@@ -284,6 +303,146 @@ class PlayerServiceTest {
             assertThat(response.getStats().getWicketsTaken()).isEqualTo(5);
             assertThat(response.getStats().getCatchesTaken()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("Should reject an id outside the bulk create")
+        void shouldRejectIdOutsideBulkCreate() {
+            // Arrange
+            createRequest.setId(500L);
+
+            // Act & Assert
+            assertThatThrownBy(() -> playerService.create(createRequest))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("bulk create");
+
+            verify(playerRepository, never()).save(any(Player.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Create Player Tests")
+    class BulkCreatePlayerTests {
+
+        @Test
+        @DisplayName("Should create players with their reserved ids")
+        void shouldCreatePlayersWithReservedIds() {
+            // Arrange
+            createRequest.setId(500L);
+            PlayerBulkCreateRequest request = new PlayerBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(playerRepository.findAllById(List.of(500L))).thenReturn(List.of());
+            when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
+                    .thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.empty());
+            when(playerRepository.insert(any(Player.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+
+            // Act
+            List<PlayerResponse> responses = playerService.bulkCreate(request);
+
+            // Assert
+            assertThat(responses).extracting(PlayerResponse::getId).containsExactly(500L);
+            verify(sequenceReservationService).validate("reservation-1", Player.SEQUENCE_NAME, List.of(500L));
+            verify(idGenerator, never()).nextId(any());
+            verify(playerRepository, never()).save(any(Player.class));
+            verify(teamRepository, never()).save(any(Team.class));
+            verifyAddedToTeam(500L);
+        }
+
+        @Test
+        @DisplayName("Should return the player of a concurrent attempt and make sure it is in the team")
+        void shouldReturnConcurrentlyCreatedPlayer() {
+            // Arrange
+            createRequest.setId(500L);
+            PlayerBulkCreateRequest request = new PlayerBulkCreateRequest("reservation-1", List.of(createRequest));
+            Player stored = Player.builder().id(500L).name("New Player").teamId(1L).role("All-rounder").build();
+
+            when(playerRepository.findAllById(List.of(500L))).thenReturn(List.of());
+            when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
+                    .thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.empty());
+            when(playerRepository.insert(any(Player.class)))
+                    .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+            when(playerRepository.findById(500L)).thenReturn(Optional.of(stored));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+
+            // Act
+            List<PlayerResponse> responses = playerService.bulkCreate(request);
+
+            // Assert
+            assertThat(responses).extracting(PlayerResponse::getId).containsExactly(500L);
+            verify(playerRepository, never()).save(any(Player.class));
+            verify(teamRepository, never()).save(any(Team.class));
+            verifyAddedToTeam(500L);
+        }
+
+        @Test
+        @DisplayName("Should reject a reserved id already used by a different player")
+        void shouldRejectIdOfDifferentPlayer() {
+            // Arrange
+            createRequest.setId(100L);
+            PlayerBulkCreateRequest request = new PlayerBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(playerRepository.findAllById(List.of(100L))).thenReturn(List.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+
+            // Act & Assert
+            assertThatThrownBy(() -> playerService.bulkCreate(request))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("different player");
+
+            verify(teamRepository, never()).save(any(Team.class));
+            verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Team.class));
+        }
+
+        @Test
+        @DisplayName("Should return players created by an earlier attempt, adding them to their team if that was missed")
+        void shouldSkipExistingPlayers() {
+            // Arrange
+            createRequest.setId(100L);
+            createRequest.setName("Virat Kohli");
+            PlayerBulkCreateRequest request = new PlayerBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            when(playerRepository.findAllById(List.of(100L))).thenReturn(List.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+
+            // Act
+            List<PlayerResponse> responses = playerService.bulkCreate(request);
+
+            // Assert
+            assertThat(responses).extracting(PlayerResponse::getName).containsExactly("Virat Kohli");
+            verify(playerRepository, never()).save(any(Player.class));
+            verify(teamRepository, never()).save(any(Team.class));
+            verifyAddedToTeam(100L);
+        }
+
+        @Test
+        @DisplayName("Should create nothing when the ids do not match the reservation")
+        void shouldCreateNothingWhenReservationRejectsIds() {
+            // Arrange
+            createRequest.setId(9999L);
+            PlayerBulkCreateRequest request = new PlayerBulkCreateRequest("reservation-1", List.of(createRequest));
+
+            doThrow(new InvalidRequestException("id", "Id 9999 is outside of reservation"))
+                    .when(sequenceReservationService)
+                    .validate("reservation-1", Player.SEQUENCE_NAME, List.of(9999L));
+
+            // Act & Assert
+            assertThatThrownBy(() -> playerService.bulkCreate(request))
+                    .isInstanceOf(InvalidRequestException.class);
+
+            verify(playerRepository, never()).save(any(Player.class));
+        }
+
+        private void verifyAddedToTeam(Long playerId) {
+            ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+            ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+            verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(Team.class));
+            assertThat(query.getValue().getQueryObject()).containsEntry("_id", 1L);
+            assertThat(update.getValue().getUpdateObject().get("$addToSet", Document.class))
+                    .containsEntry("playerIds", playerId);
+        }
     }
 
     @Nested
@@ -295,21 +454,21 @@ class PlayerServiceTest {
         void shouldReturnAllPlayers() {
             // Arrange
             Player player1 = Player.builder()
-                    .id(1)
+                    .id(1L)
                     .name("Player One")
-                    .teamId(1)
+                    .teamId(1L)
                     .role("Batsman")
                     .build();
 
             Player player2 = Player.builder()
-                    .id(2)
+                    .id(2L)
                     .name("Player Two")
-                    .teamId(1)
+                    .teamId(1L)
                     .role("Bowler")
                     .build();
 
             when(playerRepository.findAll()).thenReturn(Arrays.asList(player1, player2));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
             List<PlayerResponse> responses = playerService.getAllPlayers();
@@ -339,7 +498,7 @@ class PlayerServiceTest {
         void shouldHandlePlayerWithNullTeamId() {
             // Arrange
             Player playerWithoutTeam = Player.builder()
-                    .id(1)
+                    .id(1L)
                     .name("Free Agent")
                     .teamId(null)
                     .role("Batsman")
@@ -356,6 +515,78 @@ class PlayerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Filter Players Tests")
+    class FilterPlayersTests {
+
+        @Test
+        @DisplayName("Should translate filters into one paged query and resolve team names in batch")
+        void shouldBuildPagedQuery() {
+            // Arrange
+            when(mongoTemplate.find(any(Query.class), eq(Player.class))).thenReturn(List.of(testPlayer));
+            when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(testTeam));
+
+            // Act
+            List<PlayerResponse> players = playerService.filterPlayers("Batsman", "Right-handed", null, 1L, 1000, 2, 10);
+
+            // Assert
+            assertThat(players).hasSize(1);
+            assertThat(players.get(0).getTeamName()).isEqualTo("Mumbai Indians");
+
+            verify(mongoTemplate).find(queryCaptor.capture(), eq(Player.class));
+            Query query = queryCaptor.getValue();
+            assertThat(query.getQueryObject())
+                    .containsEntry("teamId", 1L)
+                    .containsEntry("role", "Batsman")
+                    .containsEntry("battingStyle", "Right-handed")
+                    .containsKey("stats.runsScored");
+            assertThat(query.getSkip()).isEqualTo(20);
+            assertThat(query.getLimit()).isEqualTo(10);
+            assertThat(query.getHint()).isNull();
+            assertThat(query.getSortObject().keySet()).containsExactly("teamId", "role", "_id");
+            verify(teamRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should sort role and minRuns filters in the key order of their index")
+        void shouldSortInIndexOrder() {
+            // Arrange
+            when(mongoTemplate.find(any(Query.class), eq(Player.class))).thenReturn(List.of());
+
+            // Act
+            playerService.filterPlayers("Bowler", null, "Left-Arm Spin", null, null, 0, 20);
+            playerService.filterPlayers(null, null, null, null, 500, 0, 20);
+
+            // Assert
+            verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(Player.class));
+            Query byRole = queryCaptor.getAllValues().get(0);
+            assertThat(byRole.getSortObject().keySet()).containsExactly("role", "battingStyle", "bowlingStyle", "_id");
+            Query byRuns = queryCaptor.getAllValues().get(1);
+            assertThat(byRuns.getSortObject()).containsEntry("stats.runsScored", -1).containsEntry("_id", 1);
+        }
+
+        @Test
+        @DisplayName("Should reject style filters that cannot use an index")
+        void shouldRejectUnindexedFilter() {
+            // Act & Assert
+            assertThatThrownBy(() -> playerService.filterPlayers(null, null, "Right-arm fast", null, null, 0, 20))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("combined");
+
+            verify(mongoTemplate, never()).find(any(Query.class), eq(Player.class));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid paging")
+        void shouldRejectInvalidPaging() {
+            // Act & Assert
+            assertThatThrownBy(() -> playerService.filterPlayers("Batsman", null, null, null, null, -1, 20))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> playerService.filterPlayers("Batsman", null, null, null, null, 0, 0))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Get Player By ID Tests")
     class GetPlayerByIdTests {
@@ -364,11 +595,11 @@ class PlayerServiceTest {
         @DisplayName("Should return player when found")
         void shouldReturnPlayerWhenFound() {
             // Arrange
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
-            PlayerResponse response = playerService.getPlayerById(100);
+            PlayerResponse response = playerService.getPlayerById(100L);
 
             // Assert
             assertThat(response).isNotNull();
@@ -382,10 +613,10 @@ class PlayerServiceTest {
         @DisplayName("Should throw ResourceNotFoundException when player not found")
         void shouldThrowExceptionWhenPlayerNotFound() {
             // Arrange
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.getPlayerById(999))
+            assertThatThrownBy(() -> playerService.getPlayerById(999L))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Player");
         }
@@ -399,18 +630,18 @@ class PlayerServiceTest {
         @DisplayName("Should update player successfully without team change")
         void shouldUpdatePlayerSuccessfully() {
             // Arrange
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             createRequest.setName("Updated Name");
             createRequest.setRole("Wicket-keeper");
 
             // Act
-            PlayerResponse response = playerService.updatePlayer(100, createRequest);
+            PlayerResponse response = playerService.updatePlayer(100L, createRequest);
 
             // Assert
             assertThat(response.getName()).isEqualTo("Updated Name");
@@ -423,21 +654,21 @@ class PlayerServiceTest {
         void shouldHandleTeamTransfer() {
             // Arrange
             Team newTeam = Team.builder()
-                    .id(2)
+                    .id(2L)
                     .teamName("Chennai Super Kings")
                     .playerIds(new ArrayList<>())
                     .captainId(null)
                     .build();
 
             // Player currently in team 1, moving to team 2
-            testPlayer.setTeamId(1);
-            testTeam.getPlayerIds().add(100); // Player is in old team
+            testPlayer.setTeamId(1L);
+            testTeam.getPlayerIds().add(100L); // Player is in old team
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(newTeam));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
-            when(teamRepository.findById(2)).thenReturn(Optional.of(newTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(2L)).thenReturn(Optional.of(newTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
@@ -446,7 +677,7 @@ class PlayerServiceTest {
             createRequest.setTeamName("Chennai Super Kings");
 
             // Act
-            PlayerResponse response = playerService.updatePlayer(100, createRequest);
+            PlayerResponse response = playerService.updatePlayer(100L, createRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Chennai Super Kings");
@@ -457,7 +688,7 @@ class PlayerServiceTest {
 
             // Find the old team save
             boolean oldTeamUpdated = savedTeams.stream()
-                    .anyMatch(t -> t.getId().equals(1) && !t.getPlayerIds().contains(100));
+                    .anyMatch(t -> t.getId().equals(1L) && !t.getPlayerIds().contains(100L));
             assertThat(oldTeamUpdated).isTrue();
         }
 
@@ -465,20 +696,20 @@ class PlayerServiceTest {
         @DisplayName("Should clear captain when transferred player was captain")
         void shouldClearCaptainOnTransfer() {
             // Arrange
-            testTeam.setCaptainId(100); // Player is captain
-            testTeam.getPlayerIds().add(100);
+            testTeam.setCaptainId(100L); // Player is captain
+            testTeam.getPlayerIds().add(100L);
 
             Team newTeam = Team.builder()
-                    .id(2)
+                    .id(2L)
                     .teamName("Chennai Super Kings")
                     .playerIds(new ArrayList<>())
                     .build();
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(newTeam));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
-            when(teamRepository.findById(2)).thenReturn(Optional.of(newTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(2L)).thenReturn(Optional.of(newTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
@@ -487,12 +718,12 @@ class PlayerServiceTest {
             createRequest.setTeamName("Chennai Super Kings");
 
             // Act
-            playerService.updatePlayer(100, createRequest);
+            playerService.updatePlayer(100L, createRequest);
 
             // Assert - verify captain was cleared
             verify(teamRepository, times(2)).save(teamCaptor.capture());
             Team oldTeamSaved = teamCaptor.getAllValues().stream()
-                    .filter(t -> t.getId().equals(1))
+                    .filter(t -> t.getId().equals(1L))
                     .findFirst()
                     .orElse(null);
 
@@ -504,14 +735,14 @@ class PlayerServiceTest {
         @DisplayName("Should throw exception when new team not found")
         void shouldThrowExceptionWhenNewTeamNotFound() {
             // Arrange
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Non-existent Team"))
                     .thenReturn(Optional.empty());
 
             createRequest.setTeamName("Non-existent Team");
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.updatePlayer(100, createRequest))
+            assertThatThrownBy(() -> playerService.updatePlayer(100L, createRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Team not found");
         }
@@ -521,28 +752,28 @@ class PlayerServiceTest {
         void shouldThrowExceptionOnDuplicateNameInNewTeam() {
             // Arrange
             Team newTeam = Team.builder()
-                    .id(2)
+                    .id(2L)
                     .teamName("Chennai Super Kings")
-                    .playerIds(new ArrayList<>(Arrays.asList(200)))
+                    .playerIds(new ArrayList<>(Arrays.asList(200L)))
                     .build();
 
             Player existingPlayerInNewTeam = Player.builder()
-                    .id(200)
+                    .id(200L)
                     .name("Updated Name")
-                    .teamId(2)
+                    .teamId(2L)
                     .build();
 
             // Only mock what's actually needed before exception is thrown
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(newTeam));
-            when(playerRepository.findById(200)).thenReturn(Optional.of(existingPlayerInNewTeam));
+            when(playerRepository.findById(200L)).thenReturn(Optional.of(existingPlayerInNewTeam));
 
             createRequest.setTeamName("Chennai Super Kings");
             createRequest.setName("Updated Name");
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.updatePlayer(100, createRequest))
+            assertThatThrownBy(() -> playerService.updatePlayer(100L, createRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("already exists in team");
         }
@@ -551,10 +782,10 @@ class PlayerServiceTest {
         @DisplayName("Should throw exception when player not found for update")
         void shouldThrowExceptionWhenPlayerNotFoundForUpdate() {
             // Arrange
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.updatePlayer(999, createRequest))
+            assertThatThrownBy(() -> playerService.updatePlayer(999L, createRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
 
@@ -564,17 +795,17 @@ class PlayerServiceTest {
             // Arrange
             testPlayer.setTeamId(null);
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.updatePlayer(100, createRequest);
+            PlayerResponse response = playerService.updatePlayer(100L, createRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Mumbai Indians");
@@ -599,13 +830,13 @@ class PlayerServiceTest {
             // Arrange
             patchRequest.setName("New Name");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getName()).isEqualTo("New Name");
@@ -618,13 +849,13 @@ class PlayerServiceTest {
             // Arrange
             patchRequest.setRole("All-rounder");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getRole()).isEqualTo("All-rounder");
@@ -638,13 +869,13 @@ class PlayerServiceTest {
             patchRequest.setBattingStyle("Left-handed");
             patchRequest.setBowlingStyle("Left-arm spin");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getBattingStyle()).isEqualTo("Left-handed");
@@ -656,26 +887,26 @@ class PlayerServiceTest {
         void shouldPatchTeam() {
             // Arrange
             Team newTeam = Team.builder()
-                    .id(2)
+                    .id(2L)
                     .teamName("Chennai Super Kings")
                     .playerIds(new ArrayList<>())
                     .build();
 
-            testTeam.getPlayerIds().add(100);
+            testTeam.getPlayerIds().add(100L);
             patchRequest.setTeamName("Chennai Super Kings");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(newTeam));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
-            when(teamRepository.findById(2)).thenReturn(Optional.of(newTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(2L)).thenReturn(Optional.of(newTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Chennai Super Kings");
@@ -693,13 +924,13 @@ class PlayerServiceTest {
                     .build();
             patchRequest.setStats(patchStats);
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getStats().getMatchesPlayed()).isEqualTo(100);
@@ -718,13 +949,13 @@ class PlayerServiceTest {
                     .build();
             patchRequest.setStats(patchStats);
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getStats()).isNotNull();
@@ -737,20 +968,20 @@ class PlayerServiceTest {
         void shouldThrowExceptionOnDuplicateNamePatch() {
             // Arrange
             Player existingPlayerInTeam = Player.builder()
-                    .id(10)
+                    .id(10L)
                     .name("Duplicate Name")
-                    .teamId(1)
+                    .teamId(1L)
                     .build();
 
-            testTeam.getPlayerIds().add(100);
+            testTeam.getPlayerIds().add(100L);
             patchRequest.setName("Duplicate Name");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(10)).thenReturn(Optional.of(existingPlayerInTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(10L)).thenReturn(Optional.of(existingPlayerInTeam));
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.patchPlayer(100, patchRequest))
+            assertThatThrownBy(() -> playerService.patchPlayer(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("already exists in team");
         }
@@ -759,28 +990,28 @@ class PlayerServiceTest {
         @DisplayName("Should throw exception when new team is full on patch")
         void shouldThrowExceptionWhenNewTeamFullOnPatch() {
             // Arrange
-            List<Integer> fullPlayerList = new ArrayList<>();
+            List<Long> fullPlayerList = new ArrayList<>();
             for (int i = 1; i <= 25; i++) {
-                fullPlayerList.add(i);
+                fullPlayerList.add((long) i);
             }
 
             Team fullTeam = Team.builder()
-                    .id(2)
+                    .id(2L)
                     .teamName("Full Team")
                     .playerIds(fullPlayerList)
                     .build();
 
             patchRequest.setTeamName("Full Team");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(teamRepository.findByTeamNameIgnoreCase("Full Team"))
                     .thenReturn(Optional.of(fullTeam));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.patchPlayer(100, patchRequest))
+            assertThatThrownBy(() -> playerService.patchPlayer(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("maximum player limit of 25");
         }
@@ -789,10 +1020,10 @@ class PlayerServiceTest {
         @DisplayName("Should throw exception when player not found for patch")
         void shouldThrowExceptionWhenPlayerNotFoundForPatch() {
             // Arrange
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.patchPlayer(999, patchRequest))
+            assertThatThrownBy(() -> playerService.patchPlayer(999L, patchRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
 
@@ -802,13 +1033,13 @@ class PlayerServiceTest {
             // Arrange
             patchRequest.setName("   ");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getName()).isEqualTo("Virat Kohli"); // Unchanged
@@ -820,13 +1051,13 @@ class PlayerServiceTest {
             // Arrange
             patchRequest.setRole("");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getRole()).isEqualTo("Batsman"); // Unchanged
@@ -839,12 +1070,12 @@ class PlayerServiceTest {
             testPlayer.setTeamId(null);
             patchRequest.setName("New Name");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getName()).isEqualTo("New Name");
@@ -860,43 +1091,43 @@ class PlayerServiceTest {
         @DisplayName("Should delete player successfully")
         void shouldDeletePlayerSuccessfully() {
             // Arrange
-            testTeam.getPlayerIds().add(100);
+            testTeam.getPlayerIds().add(100L);
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.deletePlayer(100);
+            PlayerResponse response = playerService.deletePlayer(100L);
 
             // Assert
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(100);
             assertThat(response.getName()).isEqualTo("Virat Kohli");
 
-            verify(playerRepository).deleteById(100);
+            verify(playerRepository).deleteById(100L);
 
             // Verify player was removed from team
             verify(teamRepository).save(teamCaptor.capture());
             Team savedTeam = teamCaptor.getValue();
-            assertThat(savedTeam.getPlayerIds()).doesNotContain(100);
+            assertThat(savedTeam.getPlayerIds()).doesNotContain(100L);
         }
 
         @Test
         @DisplayName("Should clear captain when deleting captain")
         void shouldClearCaptainWhenDeletingCaptain() {
             // Arrange
-            testTeam.setCaptainId(100);
-            testTeam.getPlayerIds().add(100);
+            testTeam.setCaptainId(100L);
+            testTeam.getPlayerIds().add(100L);
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            playerService.deletePlayer(100);
+            playerService.deletePlayer(100L);
 
             // Assert
             verify(teamRepository).save(teamCaptor.capture());
@@ -910,14 +1141,14 @@ class PlayerServiceTest {
             // Arrange
             testPlayer.setTeamId(null);
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
 
             // Act
-            PlayerResponse response = playerService.deletePlayer(100);
+            PlayerResponse response = playerService.deletePlayer(100L);
 
             // Assert
             assertThat(response).isNotNull();
-            verify(playerRepository).deleteById(100);
+            verify(playerRepository).deleteById(100L);
             verify(teamRepository, never()).save(any());
         }
 
@@ -925,28 +1156,28 @@ class PlayerServiceTest {
         @DisplayName("Should throw exception when player not found for delete")
         void shouldThrowExceptionWhenPlayerNotFoundForDelete() {
             // Arrange
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> playerService.deletePlayer(999))
+            assertThatThrownBy(() -> playerService.deletePlayer(999L))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(playerRepository, never()).deleteById(anyInt());
+            verify(playerRepository, never()).deleteById(anyLong());
         }
 
         @Test
         @DisplayName("Should handle team not found during delete gracefully")
         void shouldHandleTeamNotFoundDuringDelete() {
             // Arrange
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.empty());
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.empty());
 
             // Act
-            PlayerResponse response = playerService.deletePlayer(100);
+            PlayerResponse response = playerService.deletePlayer(100L);
 
             // Assert
             assertThat(response).isNotNull();
-            verify(playerRepository).deleteById(100);
+            verify(playerRepository).deleteById(100L);
             verify(teamRepository, never()).save(any());
         }
     }
@@ -959,11 +1190,11 @@ class PlayerServiceTest {
         @DisplayName("Should convert player to response with team name")
         void shouldConvertPlayerToResponseWithTeamName() {
             // Arrange
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
-            PlayerResponse response = playerService.getPlayerById(100);
+            PlayerResponse response = playerService.getPlayerById(100L);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Mumbai Indians");
@@ -973,11 +1204,11 @@ class PlayerServiceTest {
         @DisplayName("Should handle team not found when converting to response")
         void shouldHandleTeamNotFoundInConversion() {
             // Arrange
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.empty());
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.empty());
 
             // Act
-            PlayerResponse response = playerService.getPlayerById(100);
+            PlayerResponse response = playerService.getPlayerById(100L);
 
             // Assert
             assertThat(response.getTeamName()).isNull();
@@ -996,17 +1227,17 @@ class PlayerServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("MUMBAI INDIANS"))
                     .thenReturn(Optional.of(testTeam));
-            when(sequenceGeneratorService.generateSequence(Player.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Player.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(
-                    Player.builder().id(1).name("Other").build()));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(
+                    Player.builder().id(1L).name("Other").build()));
 
             // *** KEY FIX: Mock for convertToResponse() ***
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
             // Act
             PlayerResponse response = playerService.create(createRequest);
@@ -1023,8 +1254,8 @@ class PlayerServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(10)).thenReturn(Optional.of(
-                    Player.builder().id(10).name("Player One").build()));
+            when(playerRepository.findById(10L)).thenReturn(Optional.of(
+                    Player.builder().id(10L).name("Player One").build()));
 
             // Act & Assert
             assertThatThrownBy(() -> playerService.create(createRequest))
@@ -1042,13 +1273,13 @@ class PlayerServiceTest {
             patchRequest.setBattingStyle("Left-handed");
             patchRequest.setBowlingStyle("Left-arm spin");
 
-            when(playerRepository.findById(100)).thenReturn(Optional.of(testPlayer));
-            when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(100L)).thenReturn(Optional.of(testPlayer));
+            when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            PlayerResponse response = playerService.patchPlayer(100, patchRequest);
+            PlayerResponse response = playerService.patchPlayer(100L, patchRequest);
 
             // Assert
             assertThat(response.getName()).isEqualTo("Updated Name");
@@ -0,0 +1,68 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.model.DatabaseSequence;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SequenceGeneratorService Tests")
+class SequenceGeneratorServiceTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    @InjectMocks
+    private SequenceGeneratorService sequenceGeneratorService;
+
+    @Test
+    @DisplayName("Should reserve a block with one increment and return its first value")
+    void shouldReserveBlock() {
+        when(mongoOperations.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(DatabaseSequence.class))).thenReturn(new DatabaseSequence("players_sequence", 1100));
+
+        assertThat(sequenceGeneratorService.reserveBlock("players_sequence", 100)).isEqualTo(1001);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class),
+                eq(DatabaseSequence.class));
+        assertThat(update.getValue().getUpdateObject().toJson()).contains("\"seq\": 100");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty block")
+    void shouldRejectEmptyBlock() {
+        assertThatThrownBy(() -> sequenceGeneratorService.reserveBlock("players_sequence", 0))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(mongoOperations);
+    }
+
+    @Test
+    @DisplayName("Should only move a sequence forward when advancing it")
+    void shouldAdvanceWithMax() {
+        sequenceGeneratorService.advanceSequence("players_sequence", 500);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class),
+                eq(DatabaseSequence.class));
+        assertThat(update.getValue().getUpdateObject().toJson()).contains("$max").contains("\"seq\": 500");
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.tournament_data.dto.SequenceReservationResponse;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.SequenceReservation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SequenceReservationService Tests")
+class SequenceReservationServiceTest {
+
+    @Mock
+    private SequenceGeneratorService sequenceGeneratorService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private SequenceReservationService sequenceReservationService;
+
+    private static SequenceReservation reservation() {
+        return SequenceReservation.builder()
+                .id("reservation-1")
+                .sequence(Player.SEQUENCE_NAME)
+                .firstId(1001L)
+                .lastId(1100L)
+                .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should reserve a block of the entity's sequence and record it")
+    void shouldReserveAndRecordBlock() {
+        when(sequenceGeneratorService.reserveBlock(Player.SEQUENCE_NAME, 100)).thenReturn(1001);
+        when(mongoTemplate.insert(any(SequenceReservation.class))).thenAnswer(invocation -> {
+            SequenceReservation inserted = invocation.getArgument(0);
+            inserted.setId("reservation-1");
+            return inserted;
+        });
+
+        SequenceReservationResponse response = sequenceReservationService.reserve("players", 100);
+
+        assertThat(response.getReservationId()).isEqualTo("reservation-1");
+        assertThat(response.getFirstId()).isEqualTo(1001L);
+        assertThat(response.getLastId()).isEqualTo(1100L);
+        assertThat(response.getCount()).isEqualTo(100);
+
+        ArgumentCaptor<SequenceReservation> inserted = ArgumentCaptor.forClass(SequenceReservation.class);
+        verify(mongoTemplate).insert(inserted.capture());
+        assertThat(inserted.getValue().getSequence()).isEqualTo(Player.SEQUENCE_NAME);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown sequence or a count out of range without reserving")
+    void shouldRejectInvalidReservation() {
+        assertThatThrownBy(() -> sequenceReservationService.reserve("teams", 10))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> sequenceReservationService.reserve("players", 0))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> sequenceReservationService.reserve("players", SequenceReservationService.MAX_COUNT + 1))
+                .isInstanceOf(InvalidRequestException.class);
+
+        verifyNoInteractions(sequenceGeneratorService, mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should accept distinct ids within the reservation")
+    void shouldAcceptIdsOfReservation() {
+        when(mongoTemplate.findById("reservation-1", SequenceReservation.class)).thenReturn(reservation());
+
+        sequenceReservationService.validate("reservation-1", Player.SEQUENCE_NAME, List.of(1001L, 1050L, 1100L));
+    }
+
+    @Test
+    @DisplayName("Should reject ids outside the reservation or used twice")
+    void shouldRejectIdsNotMatchingReservation() {
+        when(mongoTemplate.findById("reservation-1", SequenceReservation.class)).thenReturn(reservation());
+
+        assertThatThrownBy(() -> sequenceReservationService.validate("reservation-1", Player.SEQUENCE_NAME,
+                List.of(1000L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("outside of reservation");
+        assertThatThrownBy(() -> sequenceReservationService.validate("reservation-1", Player.SEQUENCE_NAME,
+                List.of(1001L, 1001L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("more than once");
+    }
+
+    @Test
+    @DisplayName("Should reject a reservation of another sequence")
+    void shouldRejectReservationOfOtherSequence() {
+        when(mongoTemplate.findById("reservation-1", SequenceReservation.class)).thenReturn(reservation());
+
+        assertThatThrownBy(() -> sequenceReservationService.validate("reservation-1", Match.SEQUENCE_NAME,
+                List.of(1001L)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw when the reservation does not exist")
+    void shouldThrowWhenReservationNotFound() {
+        assertThatThrownBy(() -> sequenceReservationService.validate("missing", Player.SEQUENCE_NAME,
+                List.of(1001L)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
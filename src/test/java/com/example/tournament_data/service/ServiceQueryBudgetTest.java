@@ -0,0 +1,207 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.config.MongoIndexInitializer;
+import com.example.tournament_data.dto.MatchResponse;
+import com.example.tournament_data.dto.TeamDetailsResponse;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Stats;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.support.MongoQueryBudgetTestSupport;
+import com.example.tournament_data.support.QueryBudget;
+
+@DisplayName("Service Query Budget Tests")
+class ServiceQueryBudgetTest extends MongoQueryBudgetTestSupport {
+
+    private static final int TEAMS = 4;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private MongoIndexInitializer indexInitializer;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.remove(new Query(), Match.class);
+        mongoTemplate.remove(new Query(), Team.class);
+        mongoTemplate.remove(new Query(), Player.class);
+
+        for (long teamId = 1; teamId <= TEAMS; teamId++) {
+            mongoTemplate.insert(Player.builder().id(teamId * 10).name("Player " + teamId).teamId(teamId).role("Batsman").build());
+            mongoTemplate.insert(Team.builder()
+                    .id(teamId)
+                    .teamName("Team " + teamId)
+                    .captainId(teamId * 10)
+                    .playerIds(new ArrayList<>(List.of(teamId * 10)))
+                    .build());
+        }
+    }
+
+    @ParameterizedTest(name = "{0} matches")
+    @ValueSource(ints = { 5, 80 })
+    @DisplayName("getAllMatches should issue at most 3 queries regardless of the number of matches")
+    void getAllMatchesShouldStayWithinBudget(int matches) {
+        seedMatches(matches);
+
+        List<MatchResponse> responses = QueryBudget.assertAtMost(commandCounter, 3, matchService::getAllMatches);
+
+        assertThat(responses).hasSize(matches);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getFirstTeamName()).startsWith("Team "));
+    }
+
+    @Test
+    @DisplayName("getMatchById should issue at most 4 queries")
+    void getMatchByIdShouldStayWithinBudget() {
+        seedMatches(1);
+
+        MatchResponse response = QueryBudget.assertAtMost(commandCounter, 4, () -> matchService.getMatchById(1L));
+
+        assertThat(response.getResult().getManOfTheMatch()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("getTeamDetails should issue at most 2 queries")
+    void getTeamDetailsShouldStayWithinBudget() {
+        TeamDetailsResponse details = QueryBudget.assertAtMost(commandCounter, 2, () -> teamService.getTeamDetails(1L));
+
+        assertThat(details.getTeamName()).isEqualTo("Team 1");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "teamId", "teamId+role", "role", "role+bowlingStyle", "minRuns", "minRuns+battingStyle" })
+    @DisplayName("filterPlayers should page straight off an index, without a collection scan or in-memory sort")
+    void filterPlayersShouldUseIndexOrder(String filter) {
+        indexInitializer.createIndexes();
+        seedPlayers();
+
+        QueryBudget.assertAtMost(commandCounter, 2, () -> switch (filter) {
+            case "teamId" -> playerService.filterPlayers(null, null, null, 1L, null, 1, 5);
+            case "teamId+role" -> playerService.filterPlayers("Bowler", null, null, 1L, null, 0, 5);
+            case "role" -> playerService.filterPlayers("Bowler", null, null, null, null, 1, 5);
+            case "role+bowlingStyle" -> playerService.filterPlayers("Bowler", null, "Left-Arm Spin", null, null, 0, 5);
+            case "minRuns" -> playerService.filterPlayers(null, null, null, null, 1000, 1, 5);
+            default -> playerService.filterPlayers(null, "Left-Handed", null, null, 1000, 0, 5);
+        });
+
+        assertThat(winningStages(explain("find players"))).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "runsScored", "wicketsTaken", "catchesTaken" })
+    @DisplayName("getStatsLeaderboard should walk the stat index instead of sorting in memory")
+    void leaderboardShouldUseStatIndex(String stat) {
+        indexInitializer.createIndexes();
+        seedPlayers();
+
+        QueryBudget.assertAtMost(commandCounter, 2, () -> leaderboardService.getStatsLeaderboard(stat, 10, null, null));
+
+        assertThat(winningStages(explain("find players"))).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+    }
+
+    @Test
+    @DisplayName("filterPlayers should still answer before the background indexes exist")
+    void filterPlayersShouldWorkWithoutIndexes() {
+        mongoTemplate.indexOps(Player.class).dropAllIndexes();
+        seedPlayers();
+
+        assertThat(playerService.filterPlayers(null, null, null, 1L, null, 0, 5)).hasSize(5);
+        assertThat(playerService.filterPlayers("Bowler", null, null, null, null, 0, 5)).hasSize(5);
+        assertThat(playerService.filterPlayers(null, null, null, null, 1000, 0, 5)).hasSize(5);
+    }
+
+    private void seedPlayers() {
+        List<Player> players = new ArrayList<>();
+        String[] roles = { "Batsman", "Bowler", "All-Rounder", "Wicket-Keeper" };
+        String[] bowlingStyles = { "Right-Arm Fast", "Left-Arm Spin", "None" };
+        for (long id = 1000; id < 1200; id++) {
+            players.add(Player.builder()
+                    .id(id)
+                    .name("Seeded " + id)
+                    .teamId(id % TEAMS + 1)
+                    .role(roles[(int) (id % roles.length)])
+                    .battingStyle(id % 3 == 0 ? "Left-Handed" : "Right-Handed")
+                    .bowlingStyle(bowlingStyles[(int) (id % bowlingStyles.length)])
+                    .stats(Stats.builder()
+                            .runsScored((int) (id * 7 % 3000))
+                            .wicketsTaken((int) (id * 3 % 200))
+                            .catchesTaken((int) (id * 5 % 90))
+                            .build())
+                    .build());
+        }
+        mongoTemplate.insertAll(players);
+    }
+
+    // winning plan of the last command with the given description
+    private BsonValue explain(String description) {
+        BsonDocument explain = mongoTemplate.getDb().runCommand(
+                new BsonDocument("explain", commandCounter.lastCommand(description))
+                        .append("verbosity", new BsonString("queryPlanner")),
+                BsonDocument.class);
+        return explain.getDocument("queryPlanner").get("winningPlan");
+    }
+
+    // stage names of the winning plan, outermost first
+    private static List<String> winningStages(BsonValue plan) {
+        List<String> stages = new ArrayList<>();
+        if (plan.isDocument()) {
+            BsonDocument document = plan.asDocument();
+            if (document.isString("stage")) {
+                stages.add(document.getString("stage").getValue());
+            }
+            document.forEach((key, nested) -> stages.addAll(winningStages(nested)));
+        } else if (plan.isArray()) {
+            plan.asArray().forEach(element -> stages.addAll(winningStages(element)));
+        }
+        return stages;
+    }
+
+    private void seedMatches(int count) {
+        List<Match> matches = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            long firstTeam = id % TEAMS + 1;
+            long secondTeam = (id + 1) % TEAMS + 1;
+            matches.add(Match.builder()
+                    .id(id)
+                    .venue("Venue " + firstTeam)
+                    .date(LocalDateTime.of(2024, 4, 1, 19, 30).plusDays(id))
+                    .firstTeam(firstTeam)
+                    .secondTeam(secondTeam)
+                    .status("COMPLETED")
+                    .result(Result.builder()
+                            .winner(firstTeam)
+                            .margin("5 runs")
+                            .manOfTheMatchId(firstTeam * 10)
+                            .build())
+                    .build());
+        }
+        mongoTemplate.insertAll(matches);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.tournament_data.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Test
+    @DisplayName("Should share one in-flight query between concurrent identical reads")
+    void shouldCoalesceConcurrentReads() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("team.details", 1, () -> {
+            queries.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "details";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("team.details", 1, () -> {
+            queries.incrementAndGet();
+            return "other";
+        }));
+        while (coalesced() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("details");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("details");
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run a new query once the previous one completed")
+    void shouldNotKeepCompletedResults() {
+        AtomicInteger queries = new AtomicInteger();
+
+        singleFlight.execute("match.by-id", 7, queries::incrementAndGet);
+        singleFlight.execute("match.by-id", 7, queries::incrementAndGet);
+
+        assertThat(queries).hasValue(2);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the exception of the query to the caller")
+    void shouldPropagateException() {
+        assertThatThrownBy(() -> singleFlight.execute("match.by-id", 99, () -> {
+            throw new ResourceNotFoundException("Match", "id", 99L);
+        }))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    private double coalesced() {
+        return meterRegistry.find(SingleFlight.METRIC_REQUESTS).tag("outcome", "coalesced").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
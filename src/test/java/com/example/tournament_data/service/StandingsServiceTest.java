@@ -0,0 +1,230 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.tournament_data.dto.StandingResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Standing;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StandingsService Tests")
+class StandingsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private StandingsService standingsService;
+
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    @Captor
+    private ArgumentCaptor<Aggregation> aggregationCaptor;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    private Match completedMatch;
+
+    @BeforeEach
+    void setUp() {
+        completedMatch = Match.builder()
+                .id(100L)
+                .venue("Wankhede Stadium")
+                .date(LocalDateTime.of(2024, 4, 15, 19, 30))
+                .firstTeam(1L)
+                .secondTeam(2L)
+                .status("COMPLETED")
+                .result(Result.builder().winner(1L).margin("5 wickets").manOfTheMatchId(10L).build())
+                .build();
+
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Standing.class)).thenReturn(bulkOperations);
+
+        standingsService = new StandingsService(mongoTemplate, teamRepository, new MatchWriteGate(),
+                new SyncTaskExecutor(), true);
+    }
+
+    @Test
+    @DisplayName("Should credit winner and loser when a completed match is created")
+    void shouldApplyResultOnCreate() {
+        standingsService.onMatchChanged(new MatchChangedEvent(null, completedMatch));
+
+        verify(bulkOperations, times(2)).upsert(any(Query.class), updateCaptor.capture());
+        verify(bulkOperations).execute();
+
+        Document winnerInc = (Document) updateCaptor.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertThat(winnerInc).containsEntry("played", 1).containsEntry("won", 1)
+                .containsEntry("points", StandingsService.POINTS_FOR_WIN);
+        Document loserInc = (Document) updateCaptor.getAllValues().get(1).getUpdateObject().get("$inc");
+        assertThat(loserInc).containsEntry("played", 1).containsEntry("lost", 1);
+    }
+
+    @Test
+    @DisplayName("Should revert the old result and apply the new one when the winner changes")
+    void shouldRevertOldResultOnEdit() {
+        Match edited = completedMatch.toBuilder()
+                .result(Result.builder().winner(2L).margin("10 runs").manOfTheMatchId(20L).build())
+                .build();
+
+        standingsService.onMatchChanged(new MatchChangedEvent(completedMatch, edited));
+
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), updateCaptor.capture());
+        verify(bulkOperations, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).execute();
+
+        Document revertInc = (Document) updateCaptor.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertThat(revertInc).containsEntry("won", -1).containsEntry("points", -StandingsService.POINTS_FOR_WIN);
+    }
+
+    @Test
+    @DisplayName("Should leave the table alone when the outcome did not change")
+    void shouldIgnoreNonResultEdits() {
+        Match edited = completedMatch.toBuilder().venue("Eden Gardens").build();
+
+        standingsService.onMatchChanged(new MatchChangedEvent(completedMatch, edited));
+
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    @DisplayName("Should ignore scheduled matches")
+    void shouldIgnoreScheduledMatches() {
+        Match scheduled = completedMatch.toBuilder().status("SCHEDULED").result(null).build();
+
+        standingsService.onMatchChanged(new MatchChangedEvent(null, scheduled));
+
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    @DisplayName("Should revert result when a completed match is deleted")
+    void shouldRevertOnDelete() {
+        standingsService.onMatchChanged(new MatchChangedEvent(completedMatch, null));
+
+        verify(bulkOperations, times(2)).updateOne(queryCaptor.capture(), updateCaptor.capture());
+        Document winnerInc = (Document) updateCaptor.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertThat(winnerInc).containsEntry("played", -1).containsEntry("won", -1);
+    }
+
+    @Test
+    @DisplayName("Should only revert rows that still count the result, never creating or driving one negative")
+    void shouldNotRevertIntoNegativeRows() {
+        standingsService.onMatchChanged(new MatchChangedEvent(completedMatch, null));
+
+        verify(bulkOperations, never()).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).updateOne(queryCaptor.capture(), any(Update.class));
+        assertThat(queryCaptor.getAllValues().get(0).getQueryObject())
+                .containsEntry("_id", 1L)
+                .containsEntry("won", new Document("$gt", 0));
+        assertThat(queryCaptor.getAllValues().get(1).getQueryObject())
+                .containsEntry("_id", 2L)
+                .containsEntry("lost", new Document("$gt", 0));
+    }
+
+    @Test
+    @DisplayName("Should build the table on startup only when it is empty")
+    void shouldBuildOnStartupWhenEmpty() {
+        when(mongoTemplate.exists(any(Query.class), eq(Standing.class))).thenReturn(false);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("matches"), eq(Standing.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        standingsService.onApplicationReady();
+
+        verify(mongoTemplate).aggregate(any(Aggregation.class), eq("matches"), eq(Standing.class));
+    }
+
+    @Test
+    @DisplayName("Should keep an existing table on startup")
+    void shouldKeepExistingTableOnStartup() {
+        when(mongoTemplate.exists(any(Query.class), eq(Standing.class))).thenReturn(true);
+
+        standingsService.onApplicationReady();
+
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq("matches"), eq(Standing.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild table from an aggregation and replace rows in place")
+    void shouldRebuildFromAggregation() {
+        Standing team1 = new Standing(1L, 11, 10, 1, 20);
+        Standing team2 = new Standing(2L, 11, 1, 10, 2);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("matches"), eq(Standing.class)))
+                .thenReturn(new AggregationResults<>(List.of(team1, team2), new Document()));
+
+        standingsService.rebuild();
+
+        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq("matches"), eq(Standing.class));
+        List<Document> pipeline = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline.get(0).get("$match", Document.class)).containsEntry("status", "COMPLETED");
+        assertThat(pipeline).anySatisfy(stage -> assertThat(stage).containsKey("$group"));
+
+        verify(bulkOperations).replaceOne(any(Query.class), eq(team1), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).replaceOne(any(Query.class), eq(team2), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        verify(mongoTemplate, never()).insertAll(anyCollection());
+
+        // only rows of teams without completed matches are dropped
+        verify(mongoTemplate).remove(queryCaptor.capture(), eq(Standing.class));
+        assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("$nin");
+    }
+
+    @Test
+    @DisplayName("Should return positions and team names in table order")
+    void shouldReturnStandingsWithNames() {
+        when(mongoTemplate.find(any(Query.class), eq(Standing.class))).thenReturn(List.of(
+                new Standing(2L, 3, 3, 0, 6),
+                new Standing(1L, 3, 0, 3, 0)));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(1L).teamName("Mumbai Indians").build(),
+                Team.builder().id(2L).teamName("Chennai Super Kings").build()));
+
+        List<StandingResponse> standings = standingsService.getStandings();
+
+        assertThat(standings).hasSize(2);
+        assertThat(standings.get(0).getPosition()).isEqualTo(1);
+        assertThat(standings.get(0).getTeamName()).isEqualTo("Chennai Super Kings");
+        assertThat(standings.get(1).getTeamName()).isEqualTo("Mumbai Indians");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.dto.MatchResponse;
+import com.example.tournament_data.dto.PlayerResponse;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Player;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Team;
+
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StreamingReadService Tests")
+class StreamingReadServiceTest {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @InjectMocks
+    private StreamingReadService streamingReadService;
+
+    @Test
+    @DisplayName("Should stream players with team names resolved from one lookup")
+    void shouldStreamPlayers() {
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Team.class)))
+                .thenReturn(Flux.just(Team.builder().id(1L).teamName("Mumbai Indians").build()));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Player.class))).thenReturn(Flux.just(
+                Player.builder().id(1L).name("Rohit Sharma").teamId(1L).build(),
+                Player.builder().id(2L).name("Free Agent").build()));
+
+        List<PlayerResponse> players = streamingReadService.streamPlayers().collectList().block();
+
+        assertThat(players).extracting(PlayerResponse::getTeamName).containsExactly("Mumbai Indians", null);
+    }
+
+    @Test
+    @DisplayName("Should stream matches with team and man of the match names")
+    void shouldStreamMatches() {
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Team.class))).thenReturn(Flux.just(
+                Team.builder().id(1L).teamName("Mumbai Indians").build(),
+                Team.builder().id(2L).teamName("Chennai Super Kings").build()));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Match.class))).thenReturn(Flux.just(
+                Match.builder().id(1L).firstTeam(1L).secondTeam(2L).status("COMPLETED")
+                        .result(Result.builder().winner(2L).margin("5 wickets").manOfTheMatchId(7L).build()).build(),
+                Match.builder().id(2L).firstTeam(2L).secondTeam(1L).status("SCHEDULED").build()));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Player.class)))
+                .thenReturn(Flux.just(Player.builder().id(7L).name("MS Dhoni").build()));
+
+        List<MatchResponse> matches = streamingReadService.streamMatches().collectList().block();
+
+        assertThat(matches).extracting(MatchResponse::getFirstTeamName).containsExactly("Mumbai Indians", "Chennai Super Kings");
+        assertThat(matches.get(0).getResult().getWinner()).isEqualTo("Chennai Super Kings");
+        assertThat(matches.get(0).getResult().getManOfTheMatch()).isEqualTo("MS Dhoni");
+        assertThat(matches.get(1).getResult()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not look up players for teams without players")
+    void shouldSkipPlayerLookupForEmptyTeams() {
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Team.class)))
+                .thenReturn(Flux.just(Team.builder().id(1L).teamName("New Team").build()));
+
+        assertThat(streamingReadService.streamTeams().collectList().block()).hasSize(1);
+        verify(reactiveMongoTemplate, never()).find(any(Query.class), eq(Player.class));
+    }
+}
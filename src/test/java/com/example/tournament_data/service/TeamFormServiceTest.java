@@ -0,0 +1,139 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.dto.TeamFormResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.exception.InvalidRequestException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Result;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TeamFormService Tests")
+class TeamFormServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private TeamFormService teamFormService;
+
+    @BeforeEach
+    void setUp() {
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(Team.builder().id(1L).teamName("Mumbai Indians").build()));
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(2L).teamName("Chennai Super Kings").build(),
+                Team.builder().id(3L).teamName("Kolkata Knight Riders").build()));
+        when(mongoTemplate.find(any(Query.class), eq(Match.class))).thenReturn(List.of(
+                completed(11, 3, 1, 1, LocalDateTime.of(2024, 4, 20, 19, 30)),
+                completed(10, 1, 2, 2, LocalDateTime.of(2024, 4, 10, 19, 30))));
+    }
+
+    @Test
+    @DisplayName("Should report outcomes and opponents from the team's point of view")
+    void shouldBuildFormGuide() {
+        TeamFormResponse response = teamFormService.getForm(1L, 5);
+
+        assertThat(response.getForm()).isEqualTo("WL");
+        assertThat(response.getResults()).extracting(TeamFormResponse.FormResult::getOpponentName)
+                .containsExactly("Kolkata Knight Riders", "Chennai Super Kings");
+    }
+
+    @Test
+    @DisplayName("Should serve small n from the buffer and apply completed matches")
+    void shouldUpdateBufferOnCompletion() {
+        teamFormService.getForm(1L, 5);
+
+        Match scheduled = Match.builder().id(12L).firstTeam(1L).secondTeam(3L).status("SCHEDULED")
+                .date(LocalDateTime.of(2024, 4, 25, 19, 30)).build();
+        Match done = completed(12, 1, 3, 3, LocalDateTime.of(2024, 4, 25, 19, 30));
+        teamFormService.onMatchChanged(new MatchChangedEvent(scheduled, done));
+
+        TeamFormResponse response = teamFormService.getForm(1L, 3);
+
+        assertThat(response.getForm()).isEqualTo("LWL");
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(Match.class));
+    }
+
+    @Test
+    @DisplayName("Should not keep a buffer loaded while a match was written")
+    void shouldNotKeepBufferAcrossWrite() {
+        Match done = completed(12, 1, 3, 3, LocalDateTime.of(2024, 4, 25, 19, 30));
+        when(mongoTemplate.find(any(Query.class), eq(Match.class))).thenAnswer(invocation -> {
+            teamFormService.onMatchChanged(new MatchChangedEvent(null, done));
+            return List.of(completed(11, 3, 1, 1, LocalDateTime.of(2024, 4, 20, 19, 30)));
+        });
+
+        teamFormService.getForm(1L, 3);
+        teamFormService.getForm(1L, 3);
+
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(Match.class));
+    }
+
+    @Test
+    @DisplayName("Should query directly when n exceeds the buffer")
+    void shouldQueryForLargeN() {
+        teamFormService.getForm(1L, 5);
+        teamFormService.getForm(1L, TeamFormService.BUFFER_CAPACITY + 1);
+
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(Match.class));
+    }
+
+    @Test
+    @DisplayName("Should reload a full buffer after one of its matches is deleted")
+    void shouldReloadAfterLosingCoverage() {
+        TeamFormService.FormBuffer buffer = new TeamFormService.FormBuffer(List.of());
+        for (int i = 0; i < TeamFormService.BUFFER_CAPACITY; i++) {
+            assertThat(buffer.apply((long) i, completed(i, 1, 2, 1, LocalDateTime.of(2024, 4, 1, 0, 0).plusDays(i)))).isTrue();
+        }
+
+        assertThat(buffer.apply(5L, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject n outside allowed range")
+    void shouldRejectInvalidN() {
+        assertThatThrownBy(() -> teamFormService.getForm(1L, 0))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static Match completed(long id, long firstTeam, long secondTeam, long winner, LocalDateTime date) {
+        return Match.builder()
+                .id(id)
+                .firstTeam(firstTeam)
+                .secondTeam(secondTeam)
+                .status("COMPLETED")
+                .date(date)
+                .result(Result.builder().winner(winner).margin("10 runs").build())
+                .build();
+    }
+}
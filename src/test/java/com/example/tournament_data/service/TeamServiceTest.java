@@ -3,7 +3,7 @@ package com.example.tournament_data.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -26,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -37,11 +38,14 @@ import com.example.tournament_data.dto.TeamPatchRequest;
 import com.example.tournament_data.dto.TeamResponse;
 import com.example.tournament_data.exception.InvalidRequestException;
 import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.ids.IdGenerator;
 import com.example.tournament_data.model.Player;
 import com.example.tournament_data.model.Team;
 import com.example.tournament_data.repository.PlayerRepository;
 import com.example.tournament_data.repository.TeamRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TeamService Tests")
 class TeamServiceTest {
@@ -53,11 +57,14 @@ class TeamServiceTest {
     private PlayerRepository playerRepository;
 
     @Mock
-    private SequenceGeneratorService sequenceGeneratorService;
+    private IdGenerator idGenerator;
 
     @Mock
     private MongoTemplate mongoTemplate;
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @InjectMocks
     private TeamService teamService;
 
@@ -78,21 +85,21 @@ class TeamServiceTest {
     void setUp() {
         // Initialize test players
         testPlayer1 = Player.builder()
-                .id(1)
+                .id(1L)
                 .name("Virat Kohli")
                 .teamId(null)
                 .role("Batsman")
                 .build();
 
         testPlayer2 = Player.builder()
-                .id(2)
+                .id(2L)
                 .name("Rohit Sharma")
                 .teamId(null)
                 .role("Batsman")
                 .build();
 
         testPlayer3 = Player.builder()
-                .id(3)
+                .id(3L)
                 .name("Jasprit Bumrah")
                 .teamId(null)
                 .role("Bowler")
@@ -100,12 +107,12 @@ class TeamServiceTest {
 
         // Initialize test team
         testTeam = Team.builder()
-                .id(100)
+                .id(100L)
                 .teamName("Mumbai Indians")
                 .homeGround("Wankhede Stadium")
                 .coach("Mahela Jayawardene")
-                .captainId(1)
-                .playerIds(new ArrayList<>(Arrays.asList(1, 2, 3)))
+                .captainId(1L)
+                .playerIds(new ArrayList<>(Arrays.asList(1L, 2L, 3L)))
                 .build();
 
         // Initialize create request
@@ -128,16 +135,16 @@ class TeamServiceTest {
             // Arrange
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -157,7 +164,7 @@ class TeamServiceTest {
             verify(teamRepository).save(teamCaptor.capture());
             Team savedTeam = teamCaptor.getValue();
             assertThat(savedTeam.getCaptainId()).isEqualTo(1);
-            assertThat(savedTeam.getPlayerIds()).contains(1, 2);
+            assertThat(savedTeam.getPlayerIds()).contains(1L, 2L);
 
             // Verify players' teamId was updated
             verify(playerRepository, times(2)).save(any(Player.class));
@@ -172,8 +179,8 @@ class TeamServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -195,8 +202,8 @@ class TeamServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -291,16 +298,16 @@ class TeamServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -322,13 +329,13 @@ class TeamServiceTest {
         void shouldReturnAllTeams() {
             // Arrange
             Team team1 = Team.builder()
-                    .id(1)
+                    .id(1L)
                     .teamName("Team One")
                     .playerIds(new ArrayList<>())
                     .build();
 
             Team team2 = Team.builder()
-                    .id(2)
+                    .id(2L)
                     .teamName("Team Two")
                     .playerIds(new ArrayList<>())
                     .build();
@@ -361,12 +368,12 @@ class TeamServiceTest {
         @DisplayName("Should return teams with player names resolved")
         void shouldReturnTeamsWithPlayerNames() {
             // Arrange
-            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1, 2)));
-            testTeam.setCaptainId(1);
+            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1L, 2L)));
+            testTeam.setCaptainId(1L);
 
             when(teamRepository.findAll()).thenReturn(Collections.singletonList(testTeam));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
 
             // Act
             List<TeamResponse> responses = teamService.getAllTeams();
@@ -387,13 +394,13 @@ class TeamServiceTest {
         @DisplayName("Should return team when found")
         void shouldReturnTeamWhenFound() {
             // Arrange
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(3)).thenReturn(Optional.of(testPlayer3));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(3L)).thenReturn(Optional.of(testPlayer3));
 
             // Act
-            TeamResponse response = teamService.getTeamById(100);
+            TeamResponse response = teamService.getTeamById(100L);
 
             // Assert
             assertThat(response).isNotNull();
@@ -406,10 +413,10 @@ class TeamServiceTest {
         @DisplayName("Should throw ResourceNotFoundException when team not found")
         void shouldThrowExceptionWhenTeamNotFound() {
             // Arrange
-            when(teamRepository.findById(999)).thenReturn(Optional.empty());
+            when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.getTeamById(999))
+            assertThatThrownBy(() -> teamService.getTeamById(999L))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Team");
         }
@@ -420,11 +427,11 @@ class TeamServiceTest {
             // Arrange
             testTeam.setCaptainId(null);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.getTeamById(100);
+            TeamResponse response = teamService.getTeamById(100L);
 
             // Assert
             assertThat(response.getCaptainName()).isNull();
@@ -434,15 +441,15 @@ class TeamServiceTest {
         @DisplayName("Should handle missing player in team")
         void shouldHandleMissingPlayerInTeam() {
             // Arrange
-            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1, 999)));
+            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1L, 999L)));
             testTeam.setCaptainId(null);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act
-            TeamResponse response = teamService.getTeamById(100);
+            TeamResponse response = teamService.getTeamById(100L);
 
             // Assert
             assertThat(response.getPlayerNames()).containsExactly("Virat Kohli");
@@ -458,15 +465,15 @@ class TeamServiceTest {
         @DisplayName("Should update team successfully")
         void shouldUpdateTeamSuccessfully() {
             // Arrange
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(anyInt())).thenAnswer(invocation -> {
-                Integer id = invocation.getArgument(0);
+            when(playerRepository.findById(anyLong())).thenAnswer(invocation -> {
+                Long id = invocation.getArgument(0);
                 if (id == 1)
                     return Optional.of(testPlayer1);
                 if (id == 2)
@@ -481,7 +488,7 @@ class TeamServiceTest {
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            TeamResponse response = teamService.updateTeam(100, createRequest);
+            TeamResponse response = teamService.updateTeam(100L, createRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Chennai Super Kings");
@@ -497,21 +504,21 @@ class TeamServiceTest {
             // Arrange
             createRequest.setTeamName("Mumbai Indians");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam)); // Same team
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            TeamResponse response = teamService.updateTeam(100, createRequest);
+            TeamResponse response = teamService.updateTeam(100L, createRequest);
 
             // Assert
             assertThat(response).isNotNull();
@@ -523,16 +530,16 @@ class TeamServiceTest {
         void shouldThrowExceptionWhenNewNameExistsOnDifferentTeam() {
             // Arrange
             Team anotherTeam = Team.builder()
-                    .id(200)
+                    .id(200L)
                     .teamName("Chennai Super Kings")
                     .build();
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.of(anotherTeam));
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.updateTeam(100, createRequest))
+            assertThatThrownBy(() -> teamService.updateTeam(100L, createRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("already exists");
         }
@@ -545,30 +552,30 @@ class TeamServiceTest {
             // New request has only players 1, 2
             // Player 3 should have teamId cleared
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(3)).thenReturn(Optional.of(testPlayer3));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(3L)).thenReturn(Optional.of(testPlayer3));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            teamService.updateTeam(100, createRequest);
+            teamService.updateTeam(100L, createRequest);
 
             // Assert - verify player 3's teamId was cleared
             verify(playerRepository, times(3)).save(playerCaptor.capture());
             List<Player> savedPlayers = playerCaptor.getAllValues();
 
             Player player3Saved = savedPlayers.stream()
-                    .filter(p -> p.getId().equals(3))
+                    .filter(p -> p.getId().equals(3L))
                     .findFirst()
                     .orElse(null);
 
@@ -580,10 +587,10 @@ class TeamServiceTest {
         @DisplayName("Should throw exception when team not found for update")
         void shouldThrowExceptionWhenTeamNotFoundForUpdate() {
             // Arrange
-            when(teamRepository.findById(999)).thenReturn(Optional.empty());
+            when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.updateTeam(999, createRequest))
+            assertThatThrownBy(() -> teamService.updateTeam(999L, createRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
 
@@ -594,7 +601,7 @@ class TeamServiceTest {
             createRequest.setPlayerNames(Arrays.asList("Rohit Sharma"));
             createRequest.setCaptainName("Virat Kohli");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
@@ -603,7 +610,7 @@ class TeamServiceTest {
                     .thenReturn(Optional.of(testPlayer1));
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.updateTeam(100, createRequest))
+            assertThatThrownBy(() -> teamService.updateTeam(100L, createRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Captain must be a player in the team");
         }
@@ -614,21 +621,21 @@ class TeamServiceTest {
             // Arrange
             createRequest.setCaptainName(null);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            TeamResponse response = teamService.updateTeam(100, createRequest);
+            TeamResponse response = teamService.updateTeam(100L, createRequest);
 
             // Assert
             assertThat(response.getCaptainName()).isNull();
@@ -653,15 +660,15 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setTeamName("New Team Name");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("New Team Name"))
                     .thenReturn(Optional.empty());
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("New Team Name");
@@ -674,13 +681,13 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setHomeGround("New Stadium");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getHomeGround()).isEqualTo("New Stadium");
@@ -693,13 +700,13 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setCoach("New Coach");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getCoach()).isEqualTo("New Coach");
@@ -711,20 +718,20 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setCaptainName("Rohit Sharma");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenAnswer(invocation -> {
-                Integer id = invocation.getArgument(0);
+            when(playerRepository.findById(anyLong())).thenAnswer(invocation -> {
+                Long id = invocation.getArgument(0);
                 if (id == 2)
                     return Optional.of(testPlayer2);
                 return Optional.of(testPlayer1);
             });
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getCaptainName()).isEqualTo("Rohit Sharma");
@@ -738,19 +745,19 @@ class TeamServiceTest {
             patchRequest.setCaptainName(""); // Only setting captain to blank
 
             // Setup existing team with captain
-            testTeam.setCaptainId(1);
-            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1, 2, 3)));
+            testTeam.setCaptainId(1L);
+            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1L, 2L, 3L)));
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Mock for convertToResponse() - needed to return player names
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(3)).thenReturn(Optional.of(testPlayer3));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(3L)).thenReturn(Optional.of(testPlayer3));
 
-            teamService.patchTeam(100, patchRequest);
+            teamService.patchTeam(100L, patchRequest);
 
             // Assert - verify save was called
             verify(teamRepository).save(teamCaptor.capture());
@@ -764,17 +771,17 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setPlayerNames(Arrays.asList("Virat Kohli"));
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getPlayerNames()).containsExactly("Virat Kohli");
@@ -784,16 +791,16 @@ class TeamServiceTest {
         @DisplayName("Should clear captain when captain removed from players list")
         void shouldClearCaptainWhenRemovedFromPlayersList() {
             // Arrange
-            testTeam.setCaptainId(3); // Captain is player 3
+            testTeam.setCaptainId(3L); // Captain is player 3
             patchRequest.setPlayerNames(Arrays.asList("Virat Kohli", "Rohit Sharma")); // No player 3
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(anyInt())).thenAnswer(invocation -> {
-                Integer id = invocation.getArgument(0);
+            when(playerRepository.findById(anyLong())).thenAnswer(invocation -> {
+                Long id = invocation.getArgument(0);
                 if (id == 1)
                     return Optional.of(testPlayer1);
                 if (id == 2)
@@ -808,7 +815,7 @@ class TeamServiceTest {
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            teamService.patchTeam(100, patchRequest);
+            teamService.patchTeam(100L, patchRequest);
 
             // Assert
             verify(teamRepository).save(teamCaptor.capture());
@@ -821,18 +828,18 @@ class TeamServiceTest {
         void shouldThrowExceptionWhenCaptainNotInTeamOnPatch() {
             // Arrange
             Player outsidePlayer = Player.builder()
-                    .id(999)
+                    .id(999L)
                     .name("Outside Player")
                     .build();
 
             patchRequest.setCaptainName("Outside Player");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("Outside Player"))
                     .thenReturn(Optional.of(outsidePlayer));
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.patchTeam(100, patchRequest))
+            assertThatThrownBy(() -> teamService.patchTeam(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Captain must be a player in the team");
         }
@@ -842,18 +849,18 @@ class TeamServiceTest {
         void shouldThrowExceptionWhenTeamNameExistsOnPatch() {
             // Arrange
             Team anotherTeam = Team.builder()
-                    .id(200)
+                    .id(200L)
                     .teamName("Existing Team")
                     .build();
 
             patchRequest.setTeamName("Existing Team");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Existing Team"))
                     .thenReturn(Optional.of(anotherTeam));
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.patchTeam(100, patchRequest))
+            assertThatThrownBy(() -> teamService.patchTeam(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("already exists");
         }
@@ -862,10 +869,10 @@ class TeamServiceTest {
         @DisplayName("Should throw exception when team not found for patch")
         void shouldThrowExceptionWhenTeamNotFoundForPatch() {
             // Arrange
-            when(teamRepository.findById(999)).thenReturn(Optional.empty());
+            when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.patchTeam(999, patchRequest))
+            assertThatThrownBy(() -> teamService.patchTeam(999L, patchRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
 
@@ -875,12 +882,12 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setPlayerNames(Arrays.asList("Non-existent Player"));
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("Non-existent Player"))
                     .thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.patchTeam(100, patchRequest))
+            assertThatThrownBy(() -> teamService.patchTeam(100L, patchRequest))
                     .isInstanceOf(InvalidRequestException.class)
                     .hasMessageContaining("Player not found");
         }
@@ -891,13 +898,13 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setTeamName("   ");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Mumbai Indians"); // Unchanged
@@ -909,13 +916,13 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setHomeGround("");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getHomeGround()).isEqualTo("Wankhede Stadium"); // Unchanged
@@ -927,13 +934,13 @@ class TeamServiceTest {
             // Arrange
             patchRequest.setCoach("  ");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getCoach()).isEqualTo("Mahela Jayawardene"); // Unchanged
@@ -944,39 +951,39 @@ class TeamServiceTest {
         void shouldUpdatePlayersTeamIdOnPatch() {
             // Arrange
             Player newPlayer = Player.builder()
-                    .id(4)
+                    .id(4L)
                     .name("New Player")
                     .teamId(null)
                     .build();
 
             patchRequest.setPlayerNames(Arrays.asList("New Player"));
-            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1))); // Original has player 1
+            testTeam.setPlayerIds(new ArrayList<>(Arrays.asList(1L))); // Original has player 1
             testTeam.setCaptainId(null);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("New Player"))
                     .thenReturn(Optional.of(newPlayer));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(4)).thenReturn(Optional.of(newPlayer));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(4L)).thenReturn(Optional.of(newPlayer));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            teamService.patchTeam(100, patchRequest);
+            teamService.patchTeam(100L, patchRequest);
 
             // Assert - verify player 1's teamId was cleared and player 4's was set
             verify(playerRepository, times(2)).save(playerCaptor.capture());
             List<Player> savedPlayers = playerCaptor.getAllValues();
 
             Player player1Saved = savedPlayers.stream()
-                    .filter(p -> p.getId().equals(1))
+                    .filter(p -> p.getId().equals(1L))
                     .findFirst()
                     .orElse(null);
 
             Player newPlayerSaved = savedPlayers.stream()
-                    .filter(p -> p.getId().equals(4))
+                    .filter(p -> p.getId().equals(4L))
                     .findFirst()
                     .orElse(null);
 
@@ -997,25 +1004,25 @@ class TeamServiceTest {
         @DisplayName("Should delete team successfully")
         void shouldDeleteTeamSuccessfully() {
             // Arrange
-            testPlayer1.setTeamId(100);
-            testPlayer2.setTeamId(100);
+            testPlayer1.setTeamId(100L);
+            testPlayer2.setTeamId(100L);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findByTeamId(100))
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findByTeamId(100L))
                     .thenReturn(Arrays.asList(testPlayer1, testPlayer2));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            TeamResponse response = teamService.deleteTeam(100);
+            TeamResponse response = teamService.deleteTeam(100L);
 
             // Assert
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(100);
             assertThat(response.getTeamName()).isEqualTo("Mumbai Indians");
 
-            verify(teamRepository).deleteById(100);
+            verify(teamRepository).deleteById(100L);
             verify(playerRepository, times(2)).save(any(Player.class));
         }
 
@@ -1023,18 +1030,18 @@ class TeamServiceTest {
         @DisplayName("Should clear players' teamId on delete")
         void shouldClearPlayersTeamIdOnDelete() {
             // Arrange
-            testPlayer1.setTeamId(100);
-            testPlayer2.setTeamId(100);
+            testPlayer1.setTeamId(100L);
+            testPlayer2.setTeamId(100L);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findByTeamId(100))
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findByTeamId(100L))
                     .thenReturn(Arrays.asList(testPlayer1, testPlayer2));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            teamService.deleteTeam(100);
+            teamService.deleteTeam(100L);
 
             // Assert
             verify(playerRepository, times(2)).save(playerCaptor.capture());
@@ -1052,15 +1059,15 @@ class TeamServiceTest {
             testTeam.setPlayerIds(new ArrayList<>());
             testTeam.setCaptainId(null);
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findByTeamId(100)).thenReturn(Collections.emptyList());
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findByTeamId(100L)).thenReturn(Collections.emptyList());
 
             // Act
-            TeamResponse response = teamService.deleteTeam(100);
+            TeamResponse response = teamService.deleteTeam(100L);
 
             // Assert
             assertThat(response).isNotNull();
-            verify(teamRepository).deleteById(100);
+            verify(teamRepository).deleteById(100L);
             verify(playerRepository, never()).save(any());
         }
 
@@ -1068,13 +1075,13 @@ class TeamServiceTest {
         @DisplayName("Should throw exception when team not found for delete")
         void shouldThrowExceptionWhenTeamNotFoundForDelete() {
             // Arrange
-            when(teamRepository.findById(999)).thenReturn(Optional.empty());
+            when(teamRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.deleteTeam(999))
+            assertThatThrownBy(() -> teamService.deleteTeam(999L))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(teamRepository, never()).deleteById(anyInt());
+            verify(teamRepository, never()).deleteById(anyLong());
         }
     }
 
@@ -1089,24 +1096,24 @@ class TeamServiceTest {
         void shouldReturnTeamDetailsWithAggregation() {
             // Arrange
             TeamDetailsResponse expectedResponse = TeamDetailsResponse.builder()
-                    .id(100)
+                    .id(100L)
                     .teamName("Mumbai Indians")
                     .homeGround("Wankhede Stadium")
                     .coach("Mahela Jayawardene")
-                    .captainId(1)
+                    .captainId(1L)
                     .build();
 
             @SuppressWarnings("unchecked")
             AggregationResults<TeamDetailsResponse> aggregationResults = org.mockito.Mockito
                     .mock(AggregationResults.class);
 
-            when(teamRepository.existsById(100)).thenReturn(true);
+            when(teamRepository.existsById(100L)).thenReturn(true);
             when(aggregationResults.getUniqueMappedResult()).thenReturn(expectedResponse);
             when(mongoTemplate.aggregate(any(Aggregation.class), eq("teams"), eq(TeamDetailsResponse.class)))
                     .thenReturn(aggregationResults);
 
             // Act
-            TeamDetailsResponse response = teamService.getTeamDetails(100);
+            TeamDetailsResponse response = teamService.getTeamDetails(100L);
 
             // Assert
             assertThat(response).isNotNull();
@@ -1118,10 +1125,10 @@ class TeamServiceTest {
         @DisplayName("Should throw exception when team not found for details")
         void shouldThrowExceptionWhenTeamNotFoundForDetails() {
             // Arrange
-            when(teamRepository.existsById(999)).thenReturn(false);
+            when(teamRepository.existsById(999L)).thenReturn(false);
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.getTeamDetails(999))
+            assertThatThrownBy(() -> teamService.getTeamDetails(999L))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Team");
 
@@ -1136,13 +1143,13 @@ class TeamServiceTest {
             AggregationResults<TeamDetailsResponse> aggregationResults = org.mockito.Mockito
                     .mock(AggregationResults.class);
 
-            when(teamRepository.existsById(100)).thenReturn(true);
+            when(teamRepository.existsById(100L)).thenReturn(true);
             when(aggregationResults.getUniqueMappedResult()).thenReturn(null);
             when(mongoTemplate.aggregate(any(Aggregation.class), eq("teams"), eq(TeamDetailsResponse.class)))
                     .thenReturn(aggregationResults);
 
             // Act & Assert
-            assertThatThrownBy(() -> teamService.getTeamDetails(100))
+            assertThatThrownBy(() -> teamService.getTeamDetails(100L))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
     }
@@ -1156,13 +1163,13 @@ class TeamServiceTest {
         @DisplayName("Should convert team to response with all fields")
         void shouldConvertTeamToResponseWithAllFields() {
             // Arrange
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
-            when(playerRepository.findById(2)).thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(3)).thenReturn(Optional.of(testPlayer3));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(2L)).thenReturn(Optional.of(testPlayer2));
+            when(playerRepository.findById(3L)).thenReturn(Optional.of(testPlayer3));
 
             // Act
-            TeamResponse response = teamService.getTeamById(100);
+            TeamResponse response = teamService.getTeamById(100L);
 
             // Assert
             assertThat(response.getId()).isEqualTo(100);
@@ -1177,14 +1184,14 @@ class TeamServiceTest {
         @DisplayName("Should handle captain not found in conversion")
         void shouldHandleCaptainNotFoundInConversion() {
             // Arrange
-            testTeam.setCaptainId(999);
+            testTeam.setCaptainId(999L);
             testTeam.setPlayerIds(new ArrayList<>());
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
-            when(playerRepository.findById(999)).thenReturn(Optional.empty());
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
+            when(playerRepository.findById(999L)).thenReturn(Optional.empty());
 
             // Act
-            TeamResponse response = teamService.getTeamById(100);
+            TeamResponse response = teamService.getTeamById(100L);
 
             // Assert
             assertThat(response.getCaptainName()).isNull();
@@ -1204,13 +1211,13 @@ class TeamServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("CHENNAI SUPER KINGS"))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.findByNameIgnoreCase(anyString()))
                     .thenReturn(Optional.of(testPlayer1));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -1230,13 +1237,13 @@ class TeamServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase(anyString()))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(playerRepository.findByNameIgnoreCase("VIRAT KOHLI"))
                     .thenReturn(Optional.of(testPlayer1));
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(1)).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer1));
             when(playerRepository.save(any(Player.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -1261,15 +1268,15 @@ class TeamServiceTest {
             patchRequest.setHomeGround("New Ground");
             patchRequest.setCoach("New Coach");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("New Name"))
                     .thenReturn(Optional.empty());
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("New Name");
@@ -1284,15 +1291,15 @@ class TeamServiceTest {
             TeamPatchRequest patchRequest = new TeamPatchRequest();
             patchRequest.setTeamName("Mumbai Indians");
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(teamRepository.findByTeamNameIgnoreCase("Mumbai Indians"))
                     .thenReturn(Optional.of(testTeam)); // Same team
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
-            when(playerRepository.findById(anyInt())).thenReturn(Optional.of(testPlayer1));
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer1));
 
             // Act
-            TeamResponse response = teamService.patchTeam(100, patchRequest);
+            TeamResponse response = teamService.patchTeam(100L, patchRequest);
 
             // Assert
             assertThat(response.getTeamName()).isEqualTo("Mumbai Indians");
@@ -1308,8 +1315,8 @@ class TeamServiceTest {
 
             when(teamRepository.findByTeamNameIgnoreCase("Chennai Super Kings"))
                     .thenReturn(Optional.empty());
-            when(sequenceGeneratorService.generateSequence(Team.SEQUENCE_NAME))
-                    .thenReturn(101);
+            when(idGenerator.nextId(Team.SEQUENCE_NAME))
+                    .thenReturn(101L);
             when(teamRepository.save(any(Team.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -1325,17 +1332,17 @@ class TeamServiceTest {
         @DisplayName("Should preserve captain when updating players list with captain included")
         void shouldPreserveCaptainWhenUpdatingPlayersListWithCaptainIncluded() {
             // Arrange
-            testTeam.setCaptainId(1);
+            testTeam.setCaptainId(1L);
             TeamPatchRequest patchRequest = new TeamPatchRequest();
             patchRequest.setPlayerNames(Arrays.asList("Virat Kohli", "Rohit Sharma"));
 
-            when(teamRepository.findById(100)).thenReturn(Optional.of(testTeam));
+            when(teamRepository.findById(100L)).thenReturn(Optional.of(testTeam));
             when(playerRepository.findByNameIgnoreCase("Virat Kohli"))
                     .thenReturn(Optional.of(testPlayer1));
             when(playerRepository.findByNameIgnoreCase("Rohit Sharma"))
                     .thenReturn(Optional.of(testPlayer2));
-            when(playerRepository.findById(anyInt())).thenAnswer(invocation -> {
-                Integer id = invocation.getArgument(0);
+            when(playerRepository.findById(anyLong())).thenAnswer(invocation -> {
+                Long id = invocation.getArgument(0);
                 if (id == 1)
                     return Optional.of(testPlayer1);
                 if (id == 2)
@@ -1350,7 +1357,7 @@ class TeamServiceTest {
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            teamService.patchTeam(100, patchRequest);
+            teamService.patchTeam(100L, patchRequest);
 
             // Assert
             verify(teamRepository).save(teamCaptor.capture());
@@ -0,0 +1,120 @@
+package com.example.tournament_data.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.tournament_data.dto.VenueStatsResponse;
+import com.example.tournament_data.event.MatchChangedEvent;
+import com.example.tournament_data.exception.ResourceNotFoundException;
+import com.example.tournament_data.model.Match;
+import com.example.tournament_data.model.Team;
+import com.example.tournament_data.model.VenueStats;
+import com.example.tournament_data.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("VenueStatsService Tests")
+class VenueStatsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Spy
+    private MatchWriteGate matchWriteGate = new MatchWriteGate();
+
+    @InjectMocks
+    private VenueStatsService venueStatsService;
+
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+
+    @Test
+    @DisplayName("Should look up venue by normalized name and resolve team names")
+    void shouldGetVenueStatsByNormalizedName() {
+        VenueStats stats = VenueStats.builder()
+                .venueKey("wankhede stadium, mumbai")
+                .venue("Wankhede Stadium, Mumbai")
+                .matchesHosted(3)
+                .completedMatches(2)
+                .homeWins(1)
+                .homeWinRate(0.5)
+                .teamRecords(List.of(
+                        VenueStats.TeamRecord.builder().teamId(2L).played(1).won(0).lost(1).build(),
+                        VenueStats.TeamRecord.builder().teamId(1L).played(2).won(1).lost(1).build()))
+                .build();
+        when(mongoTemplate.findById("wankhede stadium, mumbai", VenueStats.class)).thenReturn(stats);
+        when(teamRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Team.builder().id(1L).teamName("Mumbai Indians").build(),
+                Team.builder().id(2L).teamName("Chennai Super Kings").build()));
+
+        VenueStatsResponse response = venueStatsService.getVenueStats("  Wankhede   STADIUM, Mumbai ");
+
+        assertThat(response.getMatchesHosted()).isEqualTo(3);
+        assertThat(response.getHomeWinRate()).isEqualTo(0.5);
+        assertThat(response.getTeamRecords()).extracting(VenueStatsResponse.TeamRecord::getTeamName)
+                .containsExactly("Mumbai Indians", "Chennai Super Kings");
+    }
+
+    @Test
+    @DisplayName("Should throw when venue has no stats")
+    void shouldThrowWhenVenueMissing() {
+        assertThatThrownBy(() -> venueStatsService.getVenueStats("Unknown Ground"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Unknown Ground");
+    }
+
+    @Test
+    @DisplayName("Should refresh both old and new venue when a match moves")
+    void shouldRefreshPreviousAndCurrentVenue() {
+        Match previous = Match.builder().id(1L).venue("Eden Gardens").build();
+        Match current = Match.builder().id(1L).venue("Wankhede Stadium").build();
+        when(mongoTemplate.findDistinct(any(Query.class), eq("venueKey"), eq(Match.class), eq(String.class)))
+                .thenReturn(List.of("wankhede stadium"));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("matches"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        venueStatsService.onMatchChanged(new MatchChangedEvent(previous, current));
+
+        // venue left without matches is dropped, the other one is re-materialized
+        verify(mongoTemplate).remove(queryCaptor.capture(), eq(VenueStats.class));
+        assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("eden gardens").doesNotContain("wankhede");
+        verify(mongoTemplate).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should skip refresh when matches have no venue")
+    void shouldSkipRefreshWithoutVenue() {
+        venueStatsService.onMatchChanged(new MatchChangedEvent(null, Match.builder().id(1L).build()));
+
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq("matches"), eq(Document.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(VenueStats.class));
+    }
+}
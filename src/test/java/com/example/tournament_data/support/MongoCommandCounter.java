@@ -0,0 +1,73 @@
+package com.example.tournament_data.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * Records the Mongo commands issued by application code, in order.
+ * Handshakes and session bookkeeping of the driver itself are left out, and so are cursor continuations
+ * (getMore/killCursors), which depend on batch sizes rather than on the code under test.
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    private static final Set<String> IGNORED = Set.of(
+            "hello", "isMaster", "ismaster", "ping", "buildInfo", "endSessions",
+            "saslStart", "saslContinue", "getMore", "killCursors");
+
+    // session and cluster bookkeeping added by the driver, explain rejects some of them
+    private static final Set<String> DRIVER_FIELDS = Set.of(
+            "lsid", "$clusterTime", "$db", "txnNumber", "$readPreference");
+
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final Map<String, BsonDocument> lastCommands = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!IGNORED.contains(event.getCommandName())) {
+            String description = describe(event);
+            commands.add(description);
+            lastCommands.put(description, explainable(event.getCommand()));
+        }
+    }
+
+    public void reset() {
+        commands.clear();
+        lastCommands.clear();
+    }
+
+    /**
+     * Last command with the given description (e.g. "find players") since the last reset, ready to be explained
+     */
+    public BsonDocument lastCommand(String description) {
+        return lastCommands.get(description);
+    }
+
+    /**
+     * Commands since the last reset, e.g. "find players"
+     */
+    public List<String> commands() {
+        return List.copyOf(commands);
+    }
+
+    private static BsonDocument explainable(BsonDocument command) {
+        // the command document is only valid during the callback
+        BsonDocument copy = command.clone();
+        DRIVER_FIELDS.forEach(copy::remove);
+        return copy;
+    }
+
+    private static String describe(CommandStartedEvent event) {
+        BsonValue target = event.getCommand().get(event.getCommandName());
+        String collection = target != null && target.isString() ? target.asString().getValue() : "";
+        return (event.getCommandName() + " " + collection).trim();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.tournament_data.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+/**
+ * Base class for tests that run services against a real Mongo and assert query budgets with QueryBudget.
+ * Mongo runs in a container started once per test class. Without a Docker daemon the tests are skipped locally,
+ * and fail when run with -Dquerybudget.required=true (the ci profile sets it), so budget regressions cannot pass silently.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "tournament.mongo.create-indexes=false",
+        "tournament.mongo.backfill-derived-fields=false",
+        "tournament.search.build-on-startup=false",
+        "tournament.standings.build-on-startup=false"
+})
+@ExtendWith(DockerRequiredCondition.class)
+@Testcontainers
+@Import(MongoQueryBudgetTestSupport.CommandCounterConfig.class)
+public abstract class MongoQueryBudgetTestSupport {
+
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    protected MongoCommandCounter commandCounter;
+
+    @Autowired
+    protected MongoTemplate mongoTemplate;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CommandCounterConfig {
+
+        @Bean
+        MongoCommandCounter mongoCommandCounter() {
+            return new MongoCommandCounter();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer mongoCommandCounterCustomizer(MongoCommandCounter counter) {
+            return settings -> settings.addCommandListener(counter);
+        }
+    }
+}
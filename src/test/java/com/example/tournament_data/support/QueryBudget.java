@@ -0,0 +1,26 @@
+package com.example.tournament_data.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+/**
+ * Asserts how many Mongo commands a piece of service code may issue
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Run the action and fail if it issued more than maxQueries commands, listing the commands it did issue
+     */
+    public static <T> T assertAtMost(MongoCommandCounter counter, int maxQueries, Supplier<T> action) {
+        counter.reset();
+        T result = action.get();
+        assertThat(counter.commands())
+                .as("Mongo commands issued, budget is %d", maxQueries)
+                .hasSizeLessThanOrEqualTo(maxQueries);
+        return result;
+    }
+}